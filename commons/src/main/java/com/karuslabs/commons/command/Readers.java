@@ -26,7 +26,9 @@ package com.karuslabs.commons.command;
 import com.karuslabs.annotations.Static;
 
 import com.mojang.brigadier.StringReader;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
 
+import java.util.Objects;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
@@ -37,9 +39,105 @@ public @Static class Readers {
     
     /**
      * A regular expression for a comma followed by zero or more whitespaces.
+     * 
+     * @see #segments(String)
      */
     public static final Pattern COMMA = Pattern.compile("([,]\\s*)");
     
+    private static final double[] POWERS = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private static final long MANTISSA = 1L << 53;
+    
+    
+    /**
+     * Reads a double from the current cursor of the {@code StringReader}. This 
+     * method accepts the same input and throws the same exceptions as 
+     * {@link StringReader#readDouble()}.
+     * <br><br>
+     * <b>Implementation details:</b><br>
+     * Unlike {@link StringReader#readDouble()}, this method does not substring 
+     * the input for numbers of up to 15 significant digits and 22 decimal places, 
+     * which can be represented and divided exactly. Other numbers are delegated 
+     * to {@link Double#parseDouble(String)}.
+     * 
+     * @param reader the reader
+     * @return the double
+     * @throws CommandSyntaxException if the input is not a valid double
+     */
+    public static double readDouble(StringReader reader) throws CommandSyntaxException {
+        var string = reader.getString();
+        var end = reader.getCursor();
+        var length = string.length();
+        
+        while (end < length && StringReader.isAllowedNumber(string.charAt(end))) {
+            end++;
+        }
+        
+        return readDouble(reader, end);
+    }
+    
+    /**
+     * Reads a double between the current cursor of the {@code StringReader} and 
+     * the given index, i.e. a number that is followed by a range operator. This 
+     * method otherwise behaves like {@link #readDouble(StringReader)}.
+     * 
+     * @param reader the reader
+     * @param end the index at which the double ends, exclusive
+     * @return the double
+     * @throws CommandSyntaxException if the input is not a valid double
+     */
+    public static double readDouble(StringReader reader, int end) throws CommandSyntaxException {
+        var string = reader.getString();
+        var start = reader.getCursor();
+        
+        if (start == end) {
+            throw CommandSyntaxException.BUILT_IN_EXCEPTIONS.readerExpectedDouble().createWithContext(reader);
+        }
+        
+        var i = start;
+        var negative = string.charAt(i) == '-';
+        if (negative) {
+            i++;
+        }
+        
+        long mantissa = 0;
+        int digits = 0;
+        int decimals = -1;
+        
+        for (; i < end; i++) {
+            var c = string.charAt(i);
+            if (c == '.' && decimals == -1) {
+                decimals = 0;
+                
+            } else if (c >= '0' && c <= '9' && mantissa < MANTISSA) {
+                mantissa = mantissa * 10 + (c - '0');
+                if (mantissa != 0) digits++;
+                if (decimals != -1) decimals++;
+                
+            } else {
+                break;
+            }
+        }
+        
+        if (i == end && digits <= 15 && decimals <= 22 && end - start > (negative ? 1 : 0) + (decimals == -1 ? 0 : 1)) {
+            reader.setCursor(end);
+            double value = decimals > 0 ? mantissa / POWERS[decimals] : mantissa;
+            return negative ? -value : value;
+        }
+        
+        var number = string.substring(start, end);
+        try {
+            var value = Double.parseDouble(number);
+            reader.setCursor(end);
+            return value;
+            
+        } catch (NumberFormatException e) {
+            throw CommandSyntaxException.BUILT_IN_EXCEPTIONS.readerInvalidDouble().createWithContext(reader, number);
+        }
+    }
+    
     
     /**
      * Substrings the input between the current cursor of the {@code StringReader}
@@ -106,4 +204,144 @@ public @Static class Readers {
     }
     
     
+    /**
+     * Returns the comma separated segments of the given string. A segment is 
+     * separated from the next by a comma followed by zero or more whitespaces, 
+     * similar to splitting the string with {@link #COMMA}.
+     * 
+     * @param string the string
+     * @return the segments of the given string
+     */
+    public static Segments segments(String string) {
+        return new Segments(string, 0, string.length());
+    }
+    
+    /**
+     * Returns the comma separated segments of the given string between the given 
+     * indexes. A segment is separated from the next by a comma followed by zero 
+     * or more whitespaces, similar to splitting the string with {@link #COMMA}.
+     * 
+     * @param string the string
+     * @param start the starting index, inclusive
+     * @param end the ending index, exclusive
+     * @return the segments of the given string between the given indexes
+     * @throws IndexOutOfBoundsException if the given indexes are out of bounds
+     */
+    public static Segments segments(String string, int start, int end) {
+        Objects.checkFromToIndex(start, end, string.length());
+        return new Segments(string, start, end);
+    }
+    
+    /**
+     * The comma separated segments of a string, represented as index ranges over 
+     * the original string.
+     * <br><br>
+     * <b>Implementation details:</b><br>
+     * Unlike {@link Pattern#split(CharSequence)}, segments are neither copied
+     * nor collected into an array. Trailing empty segments are also not discarded.
+     */
+    public static final class Segments {
+        
+        private final String string;
+        private final int limit;
+        private int cursor;
+        private int start = -1;
+        private int end = -1;
+        
+        Segments(String string, int start, int end) {
+            this.string = string;
+            this.cursor = start;
+            this.limit = end;
+        }
+        
+        
+        /**
+         * Advances to the next segment.
+         * 
+         * @return {@code true} if there was a next segment
+         */
+        public boolean next() {
+            if (cursor > limit) {
+                return false;
+            }
+            
+            start = cursor;
+            end = start;
+            while (end < limit && string.charAt(end) != ',') {
+                end++;
+            }
+            
+            cursor = end + 1;
+            while (cursor < limit && whitespace(string.charAt(cursor))) {
+                cursor++;
+            }
+            
+            return true;
+        }
+        
+        static boolean whitespace(char character) {
+            // Equivalent to \s without Pattern.UNICODE_CHARACTER_CLASS 
+            return character == ' ' || character == '\t' || character == '\n' || character == '\u000B' || character == '\f' || character == '\r';
+        }
+        
+        
+        /**
+         * Returns whether the current segment is the last segment.
+         * 
+         * @return {@code true} if the current segment is the last segment
+         */
+        public boolean last() {
+            return cursor > limit;
+        }
+        
+        /**
+         * Returns whether the current segment is empty.
+         * 
+         * @return {@code true} if the current segment is empty
+         */
+        public boolean empty() {
+            return start == end;
+        }
+        
+        /**
+         * Returns whether the current segment is equal to the given string, ignoring
+         * case.
+         * 
+         * @param other the string
+         * @return {@code true} if the current segment is equal to the given string,
+         *         ignoring case
+         */
+        public boolean equalsIgnoreCase(String other) {
+            return end - start == other.length() && string.regionMatches(true, start, other, 0, other.length());
+        }
+        
+        /**
+         * Returns a copy of the current segment.
+         * 
+         * @return the current segment
+         */
+        public String segment() {
+            return string.substring(start, end);
+        }
+        
+        /**
+         * Returns the starting index of the current segment, inclusive.
+         * 
+         * @return the starting index
+         */
+        public int start() {
+            return start;
+        }
+        
+        /**
+         * Returns the ending index of the current segment, exclusive.
+         * 
+         * @return the ending index
+         */
+        public int end() {
+            return end;
+        }
+        
+    }
+    
 }
@@ -0,0 +1,324 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.command;
+
+import com.karuslabs.commons.command.types.Type;
+
+import com.mojang.brigadier.StringReader;
+import com.mojang.brigadier.arguments.ArgumentType;
+import com.mojang.brigadier.context.CommandContext;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import com.mojang.brigadier.suggestion.*;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.*;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A bounded cache of suggestions, keyed by the remaining input and depending on 
+ * the {@link Scope}, either nothing, the class of the source or the source itself. 
+ * Cached {@code Suggestions} are shared between all sources in the same scope.
+ * <br><br>
+ * A {@code SuggestionCache} should only decorate a single {@code Type} or 
+ * {@code SuggestionProvider} whose suggestions depend solely on the remaining 
+ * input and the scope. Suggestions that are filtered for each source, i.e. 
+ * {@link com.karuslabs.commons.command.types.PlayerType} which only suggests 
+ * players visible to the source, must be cached in the {@link Scope#SOURCE} scope, 
+ * if at all. Suggestions that depend on other changing state, i.e. loaded worlds, 
+ * can be invalidated by incrementing an epoch supplied to the cache.
+ * <br><br>
+ * <b>Implementation details:</b><br>
+ * The least recently used suggestions are evicted once the capacity of the cache
+ * is exceeded. Since the range of a suggestion depends on where the argument
+ * starts in the input, the starting index is also part of a key. Sources are 
+ * compared by equality and retained until their suggestions are evicted in the 
+ * {@link Scope#SOURCE} scope. This class is thread-safe.
+ */
+public class SuggestionCache {
+    
+    /**
+     * The sources between which cached suggestions are shared.
+     */
+    public static enum Scope {
+        
+        /**
+         * Denotes that cached suggestions are shared between all sources.
+         */
+        SHARED,
+        /**
+         * Denotes that cached suggestions are shared between sources of the same 
+         * class, i.e. all players.
+         */
+        CLASS,
+        /**
+         * Denotes that cached suggestions are only reused for equal sources, i.e.
+         * the same player.
+         */
+        SOURCE;
+        
+    }
+    
+    
+    private final Map<Key, Entry> entries;
+    private final Scope scope;
+    private final LongSupplier epoch;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    
+    /**
+     * Creates a {@code SuggestionCache} with the given capacity which suggestions 
+     * are shared between all sources and never invalidated.
+     * 
+     * @param capacity the maximum number of cached suggestions
+     */
+    public SuggestionCache(int capacity) {
+        this(capacity, Scope.SHARED, () -> 0);
+    }
+    
+    /**
+     * Creates a {@code SuggestionCache} with the given capacity.
+     * 
+     * @param capacity the maximum number of cached suggestions
+     * @param scope the sources between which cached suggestions are shared
+     * @param epoch the epoch, which cached suggestions are invalidated when changed
+     * @throws IllegalArgumentException if the given capacity is not positive
+     */
+    public SuggestionCache(int capacity, Scope scope, LongSupplier epoch) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity should be positive, but was " + capacity);
+        }
+        
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > capacity;
+            }
+        });
+        this.scope = scope;
+        this.epoch = epoch;
+    }
+    
+    
+    /**
+     * Returns a {@code Type} which suggestions are cached by this cache.
+     * 
+     * @param <T> the type of the argument
+     * @param type the type to be decorated
+     * @return a {@code Type} that caches the suggestions of the given type
+     */
+    public <T> Type<T> type(Type<T> type) {
+        return new CachedType<>(this, type);
+    }
+    
+    /**
+     * Returns a {@code SuggestionProvider} which suggestions are cached by this 
+     * cache.
+     * 
+     * @param <S> the type of the source
+     * @param provider the provider to be decorated
+     * @return a {@code SuggestionProvider} that caches the suggestions of the given 
+     *         provider
+     */
+    public <S> SuggestionProvider<S> provider(SuggestionProvider<S> provider) {
+        return (context, builder) -> {
+            var key = key(context.getSource(), builder);
+            var epoch = this.epoch.getAsLong();
+            
+            var cached = cached(key, epoch);
+            return cached != null ? cached : cache(key, epoch, provider.getSuggestions(context, builder));
+        };
+    }
+    
+    
+    /**
+     * Returns the cached suggestions for the given source and builder if present
+     * and valid, otherwise the suggestions computed by the given function. Computed
+     * suggestions are cached once completed successfully.
+     * 
+     * @param source the source
+     * @param builder the builder
+     * @param function the function used to compute suggestions if no valid suggestions
+     *                 are cached
+     * @return the suggestions
+     */
+    public CompletableFuture<Suggestions> suggest(@Nullable Object source, SuggestionsBuilder builder, Function<SuggestionsBuilder, CompletableFuture<Suggestions>> function) {
+        var key = key(source, builder);
+        var epoch = this.epoch.getAsLong();
+        
+        var cached = cached(key, epoch);
+        return cached != null ? cached : cache(key, epoch, function.apply(builder));
+    }
+    
+    Key key(@Nullable Object source, SuggestionsBuilder builder) {
+        return switch (scope) {
+            case SHARED -> new Key(builder.getStart(), builder.getRemaining(), null);
+            case CLASS -> new Key(builder.getStart(), builder.getRemaining(), source == null ? null : source.getClass());
+            case SOURCE -> new Key(builder.getStart(), builder.getRemaining(), source);
+        };
+    }
+    
+    @Nullable CompletableFuture<Suggestions> cached(Key key, long epoch) {
+        var entry = entries.get(key);
+        if (entry != null && entry.epoch == epoch) {
+            hits.increment();
+            return CompletableFuture.completedFuture(entry.suggestions);
+            
+        } else {
+            misses.increment();
+            return null;
+        }
+    }
+    
+    CompletableFuture<Suggestions> cache(Key key, long epoch, CompletableFuture<Suggestions> future) {
+        return future.whenComplete((suggestions, exception) -> {
+            if (suggestions != null) {
+                entries.put(key, new Entry(suggestions, epoch));
+            }
+        });
+    }
+    
+    
+    /**
+     * Removes all cached suggestions.
+     */
+    public void invalidate() {
+        entries.clear();
+    }
+    
+    
+    /**
+     * Returns the number of cached suggestions.
+     * 
+     * @return the number of cached suggestions
+     */
+    public int size() {
+        return entries.size();
+    }
+    
+    /**
+     * Returns the number of times cached suggestions were returned.
+     * 
+     * @return the number of cache hits
+     */
+    public long hits() {
+        return hits.sum();
+    }
+    
+    /**
+     * Returns the number of times suggestions were computed.
+     * 
+     * @return the number of cache misses
+     */
+    public long misses() {
+        return misses.sum();
+    }
+    
+    
+    static final class Key {
+        
+        final int start;
+        final String remaining;
+        final @Nullable Object source;
+        
+        Key(int start, String remaining, @Nullable Object source) {
+            this.start = start;
+            this.remaining = remaining;
+            this.source = source;
+        }
+        
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Key key && start == key.start && remaining.equals(key.remaining) && Objects.equals(source, key.source);
+        }
+        
+        @Override
+        public int hashCode() {
+            return (31 * start + remaining.hashCode()) * 31 + Objects.hashCode(source);
+        }
+        
+    }
+    
+    static final class Entry {
+        
+        final Suggestions suggestions;
+        final long epoch;
+        
+        Entry(Suggestions suggestions, long epoch) {
+            this.suggestions = suggestions;
+            this.epoch = epoch;
+        }
+        
+    }
+    
+}
+
+/**
+ * A {@code Type} which suggestions are cached.
+ * 
+ * @param <T> the type of the argument
+ */
+class CachedType<T> implements Type<T> {
+    
+    private final SuggestionCache cache;
+    private final Type<T> type;
+    
+    CachedType(SuggestionCache cache, Type<T> type) {
+        this.cache = cache;
+        this.type = type;
+    }
+    
+    @Override
+    public T parse(StringReader reader) throws CommandSyntaxException {
+        return type.parse(reader);
+    }
+    
+    @Override
+    public <S> CompletableFuture<Suggestions> listSuggestions(CommandContext<S> context, SuggestionsBuilder builder) {
+        return cache.suggest(context.getSource(), builder, suggestions -> type.listSuggestions(context, suggestions));
+    }
+    
+    @Override
+    public <S> CompletableFuture<Suggestions> listSuggestions(S source, CommandContext<S> context, SuggestionsBuilder builder) {
+        return cache.suggest(source, builder, suggestions -> type.listSuggestions(source, context, suggestions));
+    }
+    
+    @Override
+    public Collection<String> getExamples() {
+        return type.getExamples();
+    }
+    
+    @Override
+    public boolean concurrent() {
+        return type.concurrent();
+    }
+    
+    @Override
+    public ArgumentType<?> mapped() {
+        return type.mapped();
+    }
+    
+}
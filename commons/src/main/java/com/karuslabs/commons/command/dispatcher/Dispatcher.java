@@ -25,11 +25,13 @@ package com.karuslabs.commons.command.dispatcher;
 
 import com.karuslabs.commons.command.tree.TreeWalker;
 import com.karuslabs.commons.command.tree.nodes.*;
+import com.karuslabs.commons.util.concurrent.Watchdog;
 
 import com.mojang.brigadier.CommandDispatcher;
 import com.mojang.brigadier.tree.CommandNode;
 
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 import net.minecraft.commands.*;
 import net.minecraft.server.MinecraftServer;
@@ -43,6 +45,8 @@ import org.bukkit.event.*;
 import org.bukkit.event.server.ServerLoadEvent;
 import org.bukkit.plugin.Plugin;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 import static org.bukkit.event.server.ServerLoadEvent.LoadType.STARTUP;
 
 /**
@@ -65,6 +69,8 @@ public class Dispatcher extends CommandDispatcher<CommandSender> implements List
     private final MinecraftServer server;
     private final Root root;
     private final TreeWalker<CommandSender, CommandSourceStack> walker;
+    volatile @Nullable Watchdog watchdog;
+    volatile @Nullable Executor executor;
     
     /**
      * Creates a {@code Dispatcher} for the given plugin.
@@ -125,6 +131,29 @@ public class Dispatcher extends CommandDispatcher<CommandSender> implements List
         return literal;
     }
       
+    /**
+     * Sets the watchdog to which executions of commands registered via this dispatcher 
+     * are reported.
+     * 
+     * @param watchdog the watchdog, or {@code null} if executions should not be 
+     *                 reported
+     */
+    public void watchdog(@Nullable Watchdog watchdog) {
+        this.watchdog = watchdog;
+    }
+    
+    /**
+     * Sets the executor on which suggestions of {@link com.karuslabs.commons.command.types.Type#concurrent() concurrent}
+     * types are computed. The input is still reparsed on the thread that requested 
+     * suggestions.
+     * 
+     * @param executor the executor, or {@code null} if suggestions should be computed
+     *                 on the thread that requested them
+     */
+    public void suggestions(@Nullable Executor executor) {
+        this.executor = executor;
+    }
+    
     /**
      * Synchronizes this dispatcher with the server and clients.
      */
@@ -25,6 +25,7 @@ package com.karuslabs.commons.command.dispatcher;
 
 import com.mojang.brigadier.CommandDispatcher;
 import com.mojang.brigadier.StringReader;
+import com.mojang.brigadier.context.CommandContextBuilder;
 import com.mojang.brigadier.exceptions.CommandSyntaxException;
 
 import java.util.List;
@@ -82,8 +83,16 @@ public class DispatcherCommand extends Command implements PluginIdentifiableComm
             reader.skip();
         }
         
+        var watchdog = dispatcher instanceof Dispatcher owner ? owner.watchdog : null;
         try {
-            dispatcher.execute(reader, sender);
+            if (watchdog == null) {
+                dispatcher.execute(reader, sender);
+                
+            } else {
+                var parse = dispatcher.parse(reader, sender);
+                watchdog.enter(label(parse.getContext()));
+                dispatcher.execute(parse);
+            }
             
         } catch (CommandRuntimeException e) {
             Exceptions.report(sender, e);
@@ -93,11 +102,37 @@ public class DispatcherCommand extends Command implements PluginIdentifiableComm
             
         } catch (Exception e) {
             Exceptions.report(sender, command, e);
+            
+        } finally {
+            if (watchdog != null) {
+                watchdog.exit();
+            }
         }
         
         return true;
     }
     
+    /**
+     * Returns the label under which an execution is watched, i.e. {@code /give <targets> <item>}.
+     * 
+     * @param context the parsed context
+     * @return the usage of the parsed nodes, or the name of this command if no 
+     *         nodes were parsed
+     */
+    String label(CommandContextBuilder<CommandSender> context) {
+        var nodes = context.getNodes();
+        if (nodes.isEmpty()) {
+            return "/" + getName();
+        }
+        
+        var label = new StringBuilder();
+        for (var node : nodes) {
+            label.append(label.length() == 0 ? "/" : " ").append(node.getNode().getUsageText());
+        }
+        
+        return label.toString();
+    }
+    
     private String join(String name, String[] arguments) {
         String command =  "/" + name;
         if (arguments.length > 0) {
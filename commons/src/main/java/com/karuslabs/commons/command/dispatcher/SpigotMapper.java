@@ -33,6 +33,7 @@ import com.mojang.brigadier.suggestion.SuggestionProvider;
 import com.mojang.brigadier.tree.*;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
 
 import net.minecraft.commands.*;
@@ -132,6 +133,10 @@ class SpigotMapper extends Mapper<CommandSender, CommandSourceStack> {
     /**
      * Wraps the given type in a {@code SuggestionProvider} that reparses an input 
      * using this {@code dispatcher}.
+     * <br><br>
+     * If the type is {@link Type#concurrent() concurrent} and this {@code dispatcher} 
+     * has an executor for suggestions, the suggestions are computed on the executor 
+     * after the input is reparsed on the current thread.
      * 
      * @param type the type
      * @return a {@code SuggestionProvider}
@@ -144,7 +149,14 @@ class SpigotMapper extends Mapper<CommandSender, CommandSourceStack> {
             input = input.length() <= 1 ? "" : input.substring(1);
             
             var reparsed = dispatcher.parse(input, sender).getContext().build(context.getInput());
-            return type.listSuggestions(reparsed, suggestions);
+            
+            var executor = type.concurrent() && dispatcher instanceof Dispatcher owner ? owner.executor : null;
+            if (executor == null) {
+                return type.listSuggestions(reparsed, suggestions);
+                
+            } else {
+                return CompletableFuture.supplyAsync(() -> type.listSuggestions(reparsed, suggestions), executor).thenCompose(future -> future);
+            }
         };
     }
     
@@ -48,6 +48,8 @@ interface CartesianType<T> extends Type<T> {
      * providing suggestions to {@link #suggest(SuggestionsBuilder, Location, String[])} 
      * if the source is a player and the block the player is looking at is within
      * a 5 block radius. After which, forwards to {@link #suggest(SuggestionsBuilder, String[])}.
+     * The block that the player is looking at is cached for a short duration by
+     * {@link TargetBlocks}.
      * 
      * @param <S> the type of the source
      * @param context the context
@@ -60,9 +62,9 @@ interface CartesianType<T> extends Type<T> {
         var parts = remaining.isBlank() ? EMPTY : remaining.split(" ");
         
         if (source instanceof Player player) {
-            var block = player.getTargetBlockExact(5);
+            var block = TargetBlocks.of(player);
             if (block != null) {
-                suggest(builder, parts, block.getLocation());
+                suggest(builder, parts, block);
             }
         }
         
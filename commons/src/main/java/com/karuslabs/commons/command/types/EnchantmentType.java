@@ -23,74 +23,30 @@
  */
 package com.karuslabs.commons.command.types;
 
-import com.karuslabs.commons.util.collection.Trie;
-
-import com.mojang.brigadier.*;
-import com.mojang.brigadier.context.CommandContext;
-import com.mojang.brigadier.exceptions.*;
-import com.mojang.brigadier.suggestion.*;
-
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
 
 import org.bukkit.enchantments.Enchantment;
 
 /**
  * An {@code Enchantment} type.
+ * <br><br>
+ * This type is mapped to a {@code ResourceLocationArgument} rather than a word,
+ * and accepts both namespaced and bare keys, i.e. {@code minecraft:mending} and {@code mending}.
  */
-public class EnchantmentType implements WordType<Enchantment> {
+public class EnchantmentType extends KeyedType<Enchantment> {
     
-    static final Trie<Enchantment> ENCHANTMENTS = new Trie<>();
-    private static final DynamicCommandExceptionType EXCEPTION = new DynamicCommandExceptionType(enchantment -> new LiteralMessage("Unknown enchantment: " + enchantment));
+    static final Index<Enchantment> ENCHANTMENTS = new Index<>(() -> Arrays.asList(Enchantment.values()), enchantment -> enchantment.getKey().toString());
     private static final List<String> EXAMPLES = List.of("arrow_damage", "channeling");
-    static {
-        for (var enchantment : Enchantment.values()) {
-            ENCHANTMENTS.put(enchantment.getKey().getKey(), enchantment);
-        }
-    }
     
     /**
-     * Returns an enchantment which name matches the string returned by the given
-     * {@code StringReader}.
-     * 
-     * @param reader the reader
-     * @return an enchantment with the given name
-     * @throws CommandSyntaxException if an enchantment with the given name does
-     *                                does not exist
+     * Creates an {@code EnchantmentType}.
      */
-    @Override
-    public Enchantment parse(StringReader reader) throws CommandSyntaxException {
-        var name = reader.readUnquotedString().toLowerCase();
-        var enchantment = ENCHANTMENTS.get(name);
-        
-        if (enchantment == null) {
-            throw EXCEPTION.createWithContext(reader, name);
-        }
-        
-        return enchantment;
+    public EnchantmentType() {
+        this(ENCHANTMENTS);
     }
-
-    /**
-     * Returns the enchantments that start with the remaining input of the given 
-     * {@code SuggestionBuilder}.
-     * 
-     * @param <S> the type of the source
-     * @param context the context
-     * @param builder the builder
-     * @return the enchantment names that start with the remaining input
-     */
-    @Override
-    public <S> CompletableFuture<Suggestions> listSuggestions(CommandContext<S> context, SuggestionsBuilder builder) {
-        for (var enchantment : ENCHANTMENTS.prefixedKeys(builder.getRemaining())) {
-            builder.suggest(enchantment);
-        }
-        
-        return builder.buildFuture();
-    }
-
-    @Override
-    public List<String> getExamples() {
-        return EXAMPLES;
+    
+    EnchantmentType(Index<Enchantment> index) {
+        super(index, "enchantment", EXAMPLES);
     }
     
 }
@@ -0,0 +1,703 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.command.types;
+
+import com.mojang.brigadier.*;
+import com.mojang.brigadier.context.CommandContext;
+import com.mojang.brigadier.exceptions.*;
+import com.mojang.brigadier.suggestion.*;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.*;
+
+import net.minecraft.commands.arguments.ResourceLocationArgument;
+
+import org.bukkit.*;
+import org.bukkit.block.Biome;
+import org.bukkit.craftbukkit.v1_17_R1.potion.CraftPotionEffectType;
+import org.bukkit.entity.EntityType;
+import org.bukkit.potion.*;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A type backed by a registry of values identified by namespaced keys. Both
+ * namespaced keys, i.e. {@code minecraft:stone}, and bare keys, i.e. {@code stone},
+ * are accepted for values in the {@code minecraft} namespace.
+ * <br><br>
+ * <b>Note:</b><br>
+ * Unlike a {@link WordType}, a {@code KeyedType} is mapped to a {@code ResourceLocationArgument}
+ * so that namespaced keys are also accepted by the client. Consequently, types 
+ * that extend {@code KeyedType}, i.e. {@link MaterialType}, are no longer {@code WordType}s.
+ * Keys are read until the first character that is not allowed in a namespaced
+ * key, similar to a {@code ResourceLocationArgument}.
+ * <br><br>
+ * <b>Implementation details:</b><br>
+ * The index of a registry is only built or loaded on first use and is shared 
+ * between all types backed by the same registry.
+ * 
+ * @param <T> the type of the argument
+ */
+public class KeyedType<T> implements Type<T> {
+    
+    static final String MINECRAFT = NamespacedKey.MINECRAFT + ":";
+    
+    static final Index<Biome> BIOMES = Index.of(Biome.class, () -> Registry.BIOME, biome -> biome.getKey().toString());
+    static final Index<EntityType> ENTITIES = Index.of(EntityType.class, () -> Registry.ENTITY_TYPE, entity -> entity.getKey().toString());
+    static final Index<Sound> SOUNDS = Index.of(Sound.class, () -> Arrays.asList(Sound.values()), sound -> sound.getKey().toString());
+    static final Index<PotionEffectType> EFFECTS = new Index<>(() -> Arrays.asList(PotionEffectType.values()), KeyedType::key);
+    
+    
+    /**
+     * Creates a {@code Biome} type.
+     * 
+     * @return a {@code Biome} type
+     */
+    public static KeyedType<Biome> biomes() {
+        return new KeyedType<>(BIOMES, "biome", List.of("plains", "minecraft:desert"));
+    }
+    
+    /**
+     * Creates an {@code EntityType} type.
+     * 
+     * @return an {@code EntityType} type
+     */
+    public static KeyedType<EntityType> entities() {
+        return new KeyedType<>(ENTITIES, "entity type", List.of("zombie", "minecraft:creeper"));
+    }
+    
+    /**
+     * Creates a {@code Sound} type.
+     * 
+     * @return a {@code Sound} type
+     */
+    public static KeyedType<Sound> sounds() {
+        return new KeyedType<>(SOUNDS, "sound", List.of("block.anvil.land", "minecraft:entity.cat.purr"));
+    }
+    
+    /**
+     * Creates a {@code PotionEffectType} type. Unlike their Bukkit names, potion 
+     * effects are identified by their keys in the registry of the server, i.e. 
+     * {@code minecraft:strength} rather than {@code INCREASE_DAMAGE}, consistent 
+     * with the keys suggested by the client.
+     * 
+     * @return a {@code PotionEffectType} type
+     */
+    public static KeyedType<PotionEffectType> effects() {
+        return new KeyedType<>(EFFECTS, "potion effect", List.of("speed", "minecraft:strength"));
+    }
+    
+    /**
+     * Returns the key of the given potion effect in the registry of the server.
+     * 
+     * @param effect the potion effect
+     * @return the namespaced key, or the lower-cased Bukkit name in the {@code minecraft}
+     *         namespace if the effect is not registered
+     */
+    static String key(PotionEffectType effect) {
+        var type = effect instanceof PotionEffectTypeWrapper wrapper ? wrapper.getType() : effect;
+        var key = type instanceof CraftPotionEffectType craft ? net.minecraft.core.Registry.MOB_EFFECT.getKey(craft.getHandle()) : null;
+        return key != null ? key.toString() : MINECRAFT + effect.getName().toLowerCase();
+    }
+    
+    /**
+     * Reads a namespaced or bare key from the given reader, ignoring case. Reading
+     * stops at the first character that is not allowed in a namespaced key, i.e. 
+     * a whitespace, {@code ]} or {@code ,}.
+     * 
+     * @param reader the reader
+     * @return the key
+     */
+    static String read(StringReader reader) {
+        var start = reader.getCursor();
+        while (reader.canRead() && allowed(reader.peek())) {
+            reader.skip();
+        }
+        
+        return reader.getString().substring(start, reader.getCursor());
+    }
+    
+    static boolean allowed(char character) {
+        return character >= '0' && character <= '9' 
+            || character >= 'a' && character <= 'z' 
+            || character >= 'A' && character <= 'Z'
+            || character == '_' || character == '-' || character == '.' || character == '/' || character == ':';
+    }
+    
+    
+    /**
+     * The default maximum number of keys that are suggested. Large indexes, i.e.
+     * materials, otherwise send hundreds of keys whenever the remaining input is 
+     * empty or a single character.
+     */
+    public static final int LIMIT = 100;
+    
+    private final Index<T> index;
+    private final DynamicCommandExceptionType exception;
+    private final List<String> examples;
+    private volatile int limit = LIMIT;
+    
+    /**
+     * Creates a {@code KeyedType} backed by the given index.
+     * 
+     * @param index the index
+     * @param name the name of the values, used in error messages
+     * @param examples the examples
+     */
+    public KeyedType(Index<T> index, String name, List<String> examples) {
+        this.index = index;
+        this.exception = new DynamicCommandExceptionType(key -> new LiteralMessage("Unknown " + name + ": " + key));
+        this.examples = examples;
+    }
+    
+    /**
+     * Returns a value which key matches the string returned by the given {@code StringReader},
+     * ignoring case. The usage of the returned value is recorded to rank suggestions.
+     * 
+     * @param reader the reader
+     * @return a value with the given key
+     * @throws CommandSyntaxException if a value with the given key does not exist
+     */
+    @Override
+    public T parse(StringReader reader) throws CommandSyntaxException {
+        var key = read(reader).toLowerCase();
+        var value = index.use(key);
+        
+        if (value == null) {
+            throw exception.createWithContext(reader, key);
+        }
+        
+        return value;
+    }
+    
+    /**
+     * Returns the keys that start with the remaining input of the given {@code SuggestionsBuilder}.
+     * Values in the {@code minecraft} namespace are suggested by their bare keys
+     * unless the remaining input starts with the namespace. If more keys than the
+     * {@link #limit()} start with the remaining input, only the most frequently
+     * parsed keys are suggested.
+     * 
+     * @param <S> the type of the source
+     * @param context the context
+     * @param builder the builder
+     * @return the keys that start with the remaining input
+     */
+    @Override
+    public <S> CompletableFuture<Suggestions> listSuggestions(CommandContext<S> context, SuggestionsBuilder builder) {
+        index.suggest(builder, limit);
+        return builder.buildFuture();
+    }
+    
+    /**
+     * Sets the maximum number of keys that are suggested.
+     * 
+     * @param limit the maximum number of suggested keys
+     * @return {@code this}
+     * @throws IllegalArgumentException if the given limit is not positive
+     */
+    public KeyedType<T> limit(int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit should be positive, but was " + limit);
+        }
+        
+        this.limit = limit;
+        return this;
+    }
+    
+    /**
+     * Returns the maximum number of keys that are suggested.
+     * 
+     * @return the maximum number of suggested keys, {@value #LIMIT} by default
+     */
+    public int limit() {
+        return limit;
+    }
+    
+    /**
+     * Returns {@code true} since suggestions are derived from an index that is not
+     * modified after initialization.
+     * 
+     * @return {@code true}
+     */
+    @Override
+    public boolean concurrent() {
+        return true;
+    }
+    
+    /**
+     * Returns a {@code ResourceLocationArgument}, which accepts both namespaced
+     * and bare keys.
+     * 
+     * @return a {@code ResourceLocationArgument}
+     */
+    @Override
+    public ResourceLocationArgument mapped() {
+        return ResourceLocationArgument.id();
+    }
+    
+    @Override
+    public List<String> getExamples() {
+        return examples;
+    }
+    
+    
+    /**
+     * An index of values identified by namespaced keys. Values in the {@code minecraft}
+     * namespace are stored by their bare keys while values in other namespaces
+     * are stored by their namespaced keys.
+     * <br><br>
+     * An index of enumerations may be precomputed at build time by {@link RegistryIndexes}.
+     * A precomputed index is loaded instead of walking the enumerations if it 
+     * was precomputed for the running server version.
+     * <br><br>
+     * <b>Implementation details:</b><br>
+     * Keys are stored in a sorted array such that keys which start with the same 
+     * prefix are contiguous. The index is built on first use and never modified 
+     * afterwards. It is safely published via double-checked locking and hence, 
+     * thread-safe.
+     * 
+     * @param <T> the type of the values
+     */
+    public static final class Index<T> {
+        
+        /**
+         * Creates an {@code Index} of enumerations which may be precomputed at 
+         * build time.
+         * 
+         * @param <E> the type of the enumerations
+         * @param type the class of the enumerations
+         * @param values the supplier of values if the index was not precomputed
+         * @param key the function which returns the namespaced key of a value
+         * @return an index
+         */
+        public static <E extends Enum<E>> Index<E> of(Class<E> type, Supplier<? extends Iterable<? extends E>> values, Function<? super E, String> key) {
+            return new Index<>(type, values, key);
+        }
+        
+        
+        private final @Nullable Class<T> type;
+        private final Supplier<? extends Iterable<? extends T>> values;
+        private final Function<? super T, String> key;
+        private volatile @Nullable Table<T> table;
+        
+        /**
+         * Creates an {@code Index} which values are supplied and keyed by the given 
+         * functions on first use.
+         * 
+         * @param values the supplier of values
+         * @param key the function which returns the namespaced key of a value
+         */
+        public Index(Supplier<? extends Iterable<? extends T>> values, Function<? super T, String> key) {
+            this(null, values, key);
+        }
+        
+        Index(@Nullable Class<T> type, Supplier<? extends Iterable<? extends T>> values, Function<? super T, String> key) {
+            this.type = type;
+            this.values = values;
+            this.key = key;
+        }
+        
+        
+        /**
+         * Returns the value associated with the given namespaced or bare key.
+         * 
+         * @param key the namespaced or bare key
+         * @return the value, or {@code null} if no value is associated with the key
+         */
+        public @Nullable T get(String key) {
+            return table().get(key.startsWith(MINECRAFT) ? key.substring(MINECRAFT.length()) : key);
+        }
+        
+        /**
+         * Returns the value associated with the given namespaced or bare key and 
+         * records its usage.
+         * 
+         * @param key the namespaced or bare key
+         * @return the value, or {@code null} if no value is associated with the key
+         */
+        @Nullable T use(String key) {
+            var table = table();
+            var index = table.find(key.startsWith(MINECRAFT) ? key.substring(MINECRAFT.length()) : key);
+            if (index < 0) {
+                return null;
+            }
+            
+            table.frequencies.use(index);
+            return table.values[index];
+        }
+        
+        /**
+         * Adds the keys that start with the remaining input of the given builder 
+         * to the builder in lexicographical order.
+         * 
+         * @param builder the builder
+         */
+        public void suggest(SuggestionsBuilder builder) {
+            suggest(builder, Integer.MAX_VALUE);
+        }
+        
+        /**
+         * Adds at most {@code limit} keys that start with the remaining input of 
+         * the given builder to the builder in lexicographical order. If more keys 
+         * start with the remaining input, the most frequently used keys are added.
+         * 
+         * @param builder the builder
+         * @param limit the maximum number of keys
+         */
+        public void suggest(SuggestionsBuilder builder, int limit) {
+            var table = table();
+            var remaining = builder.getRemaining();
+            var namespaced = remaining.startsWith(MINECRAFT);
+            var prefix = namespaced ? remaining.substring(MINECRAFT.length()) : remaining;
+            
+            var from = table.from(prefix);
+            var to = from;
+            while (to < table.keys.length && table.keys[to].startsWith(prefix)) {
+                to++;
+            }
+            
+            if (to - from > limit) {
+                for (var index : table.frequencies.top(from, to, limit, namespaced ? i -> table.keys[i].indexOf(':') == -1 : i -> true)) {
+                    suggest(builder, table.keys[index], namespaced);
+                }
+                
+            } else {
+                for (int i = from; i < to; i++) {
+                    suggest(builder, table.keys[i], namespaced);
+                }
+            }
+        }
+        
+        static void suggest(SuggestionsBuilder builder, String key, boolean namespaced) {
+            if (!namespaced) {
+                builder.suggest(key);
+                
+            } else if (key.indexOf(':') == -1) {
+                builder.suggest(MINECRAFT + key);
+            }
+        }
+        
+        /**
+         * Returns the number of values in this index.
+         * 
+         * @return the number of values
+         */
+        public int size() {
+            return table().keys.length;
+        }
+        
+        
+        Table<T> table() {
+            var table = this.table;
+            if (table == null) {
+                synchronized (this) {
+                    table = this.table;
+                    if (table == null) {
+                        table = type == null ? null : load();
+                        this.table = table = table == null ? build() : table;
+                    }
+                }
+            }
+            
+            return table;
+        }
+        
+        Table<T> build() {
+            var entries = new TreeMap<String, T>();
+            for (var value : values.get()) {
+                if (value != null) {
+                    var namespaced = key.apply(value);
+                    entries.put(namespaced.startsWith(MINECRAFT) ? namespaced.substring(MINECRAFT.length()) : namespaced, value);
+                }
+            }
+            
+            var keys = entries.keySet().toArray(new String[0]);
+            var values = (T[]) entries.values().toArray();
+            return new Table<>(keys, values);
+        }
+        
+        
+        /**
+         * Returns the precomputed table of this index if it exists and was precomputed
+         * for the running server version.
+         * 
+         * @return the precomputed table, or {@code null} if it does not exist or 
+         *         was precomputed for another version
+         */
+        @Nullable Table<T> load() {
+            var server = Bukkit.getServer();
+            var version = server == null ? null : server.getBukkitVersion();
+            var stream = version == null ? null : KeyedType.class.getClassLoader().getResourceAsStream(resource());
+            if (stream == null) {
+                return null;
+            }
+            
+            try (var reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+                return read(reader, version);
+                
+            } catch (IOException | RuntimeException e) {
+                return null;
+            }
+        }
+        
+        /**
+         * Reads a table precomputed for the given version.
+         * 
+         * @param reader the reader
+         * @param version the version
+         * @return the table, or {@code null} if the table was precomputed for another 
+         *         version
+         * @throws IOException if the table could not be read
+         */
+        @Nullable Table<T> read(BufferedReader reader, String version) throws IOException {
+            var constants = type.getEnumConstants();
+            if (!version.equals(reader.readLine()) || constants.length != Integer.parseInt(reader.readLine())) {
+                return null;
+            }
+            
+            var size = Integer.parseInt(reader.readLine());
+            var keys = new String[size];
+            var values = (T[]) new Object[size];
+            
+            for (int i = 0; i < size; i++) {
+                var line = reader.readLine();
+                var separator = line.lastIndexOf(' ');
+                
+                keys[i] = line.substring(0, separator);
+                values[i] = constants[Integer.parseInt(line, separator + 1, line.length(), 10)];
+            }
+            
+            return new Table<>(keys, values);
+        }
+        
+        /**
+         * Writes the table of this index, built from its values, for the given version.
+         * 
+         * @param writer the writer
+         * @param version the version
+         * @throws IOException if the table could not be written
+         */
+        void write(Writer writer, String version) throws IOException {
+            var table = build();
+            writer.write(version + "\n");
+            writer.write(type.getEnumConstants().length + "\n");
+            writer.write(table.keys.length + "\n");
+            
+            for (int i = 0; i < table.keys.length; i++) {
+                writer.write(table.keys[i] + " " + ((Enum<?>) table.values[i]).ordinal() + "\n");
+            }
+        }
+        
+        /**
+         * Returns the path of the precomputed table of this index relative to the 
+         * root of the classpath.
+         * 
+         * @return the path of the precomputed table
+         */
+        String resource() {
+            return "com/karuslabs/commons/command/types/registries/" + type.getName() + ".index";
+        }
+        
+    }
+    
+    static final class Table<T> {
+        
+        final String[] keys;
+        final T[] values;
+        final Frequencies frequencies;
+        
+        Table(String[] keys, T[] values) {
+            this.keys = keys;
+            this.values = values;
+            this.frequencies = new Frequencies(keys.length);
+        }
+        
+        @Nullable T get(String key) {
+            var index = find(key);
+            return index >= 0 ? values[index] : null;
+        }
+        
+        int find(String key) {
+            return Arrays.binarySearch(keys, key);
+        }
+        
+        int from(String prefix) {
+            var index = Arrays.binarySearch(keys, prefix);
+            return index >= 0 ? index : -(index + 1);
+        }
+        
+    }
+    
+}
+
+/**
+ * The decayed usage frequencies of the values in an index.
+ * <br><br>
+ * <b>Implementation details:</b><br>
+ * Frequencies are forward decayed. Instead of decaying all frequencies periodically,
+ * a use is weighted by an exponentially increasing weight relative to a base 
+ * time, such that a use one half-life ago counts half as much as a use now. 
+ * Frequencies are stored as the bits of doubles in an {@code AtomicLongArray} 
+ * and updated via CAS. 
+ * <br><br>
+ * Once the weight becomes too large, the frequencies are rescaled into a new array
+ * that is published together with the new base time. Since a use always adds the 
+ * weight of a base time to the array of the same base time, a use that races with
+ * rescaling is at worst lost rather than over-weighted. Only uses concurrent with
+ * the copying of the array can be lost, and rescaling happens once every 
+ * {@code log2(RESCALE)} half-lives.
+ */
+final class Frequencies {
+    
+    static final long HALF_LIFE = TimeUnit.HOURS.toMillis(1);
+    static final double RESCALE = 0x1p32;
+    
+    private final LongSupplier clock;
+    private volatile Scale scale;
+    
+    Frequencies(int size) {
+        this(size, System::currentTimeMillis);
+    }
+    
+    Frequencies(int size, LongSupplier clock) {
+        this.clock = clock;
+        this.scale = new Scale(clock.getAsLong(), new AtomicLongArray(size));
+    }
+    
+    
+    void use(int index) {
+        var now = clock.getAsLong();
+        var scale = this.scale;
+        var weight = scale.weight(now);
+        var frequencies = scale.frequencies;
+        
+        long current;
+        do {
+            current = frequencies.get(index);
+        } while (!frequencies.compareAndSet(index, current, Double.doubleToRawLongBits(Double.longBitsToDouble(current) + weight)));
+        
+        if (weight > RESCALE) {
+            rescale(now);
+        }
+    }
+    
+    synchronized void rescale(long now) {
+        var current = scale;
+        var factor = 1 / current.weight(now);
+        if (factor >= 1) {
+            return; // Already rescaled by a concurrent use
+        }
+        
+        var frequencies = new AtomicLongArray(current.frequencies.length());
+        for (int i = 0; i < frequencies.length(); i++) {
+            frequencies.set(i, Double.doubleToRawLongBits(Double.longBitsToDouble(current.frequencies.get(i)) * factor));
+        }
+        
+        scale = new Scale(now, frequencies);
+    }
+    
+    double weight(long now) {
+        return scale.weight(now);
+    }
+    
+    
+    /**
+     * Returns the indexes of at most {@code limit} values between the given indexes 
+     * with the highest frequencies, in ascending order.
+     * 
+     * @param from the starting index, inclusive
+     * @param to the ending index, exclusive
+     * @param limit the maximum number of indexes
+     * @param filter the indexes to be considered
+     * @return the indexes of the most frequently used values
+     */
+    int[] top(int from, int to, int limit, IntPredicate filter) {
+        var frequencies = scale.frequencies;
+        var snapshot = new double[to - from];
+        for (int i = from; i < to; i++) {
+            snapshot[i - from] = Double.longBitsToDouble(frequencies.get(i));
+        }
+        
+        // The least frequently used, and then the lexicographically greatest index is at the head
+        var heap = new PriorityQueue<Integer>(limit, (a, b) -> {
+            var comparison = Double.compare(snapshot[a - from], snapshot[b - from]);
+            return comparison != 0 ? comparison : Integer.compare(b, a);
+        });
+        
+        for (int i = from; i < to; i++) {
+            if (!filter.test(i)) {
+                continue;
+            }
+            
+            if (heap.size() < limit) {
+                heap.add(i);
+                
+            } else if (heap.comparator().compare(i, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(i);
+            }
+        }
+        
+        var indexes = new int[heap.size()];
+        var i = 0;
+        for (var index : heap) {
+            indexes[i++] = index;
+        }
+        
+        Arrays.sort(indexes);
+        return indexes;
+    }
+    
+    double frequency(int index) {
+        return Double.longBitsToDouble(scale.frequencies.get(index));
+    }
+    
+    
+    /**
+     * A base time and the frequencies weighted relative to it.
+     */
+    static final class Scale {
+        
+        final long base;
+        final AtomicLongArray frequencies;
+        
+        Scale(long base, AtomicLongArray frequencies) {
+            this.base = base;
+            this.frequencies = frequencies;
+        }
+        
+        double weight(long now) {
+            return Math.pow(2, (double) (now - base) / HALF_LIFE);
+        }
+        
+    }
+    
+}
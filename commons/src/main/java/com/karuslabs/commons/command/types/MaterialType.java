@@ -23,79 +23,42 @@
  */
 package com.karuslabs.commons.command.types;
 
-import com.karuslabs.commons.util.collection.Trie;
-
-import com.mojang.brigadier.*;
-import com.mojang.brigadier.context.CommandContext;
-import com.mojang.brigadier.exceptions.*;
-import com.mojang.brigadier.suggestion.*;
-
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
-import org.bukkit.Bukkit;
 
-import org.bukkit.Material;
+import org.bukkit.*;
 
 /**
  * A {@code Material} type. <b>Legacy materials are not supported</b>.
+ * <br><br>
+ * This type is mapped to a {@code ResourceLocationArgument} rather than a word,
+ * and accepts both namespaced and bare keys, i.e. {@code minecraft:stone} and {@code stone}.
  */
-public class MaterialType implements WordType<Material> {
+public class MaterialType extends KeyedType<Material> {
     
-    private static final Trie<Material> MATERIALS = new Trie<>();
-    private static final DynamicCommandExceptionType EXCEPTION = new DynamicCommandExceptionType(material -> new LiteralMessage("Unknown material: " + material));
+    static final Index<Material> MATERIALS = Index.of(Material.class, MaterialType::materials, material -> material.getKey().toString());
     private static final List<String> EXAMPLES = List.of("flint_and_steel", "tnt");
-    static {
+    
+    static List<Material> materials() {
+        var materials = new ArrayList<Material>();
         var warn = true;
         for (var material : Material.values()) {
             if (!material.isLegacy()) {
-                MATERIALS.put(material.getKey().getKey(), material);
+                materials.add(material);
                 
-            } else if (warn) {
-                Bukkit.getLogger().warning("Leagcy Material enumerations are not supported. Please add 'api-version: 1.13' to your plugin.yml");
+            } else if (warn && Bukkit.getServer() != null) {
+                Bukkit.getLogger().warning("Legacy Material enumerations are not supported. Please add 'api-version: 1.13' to your plugin.yml");
                 warn = false;
             }
         }
-    }
-    
-    /**
-     * Returns a material which key matches the string returned by the given {@code StringReader}.
-     * 
-     * @param reader the reader
-     * @return a material with the given key
-     * @throws CommandSyntaxException if a material with the given key does not exist
-     */
-    @Override
-    public Material parse(StringReader reader) throws CommandSyntaxException {
-        var name = reader.readUnquotedString().toLowerCase();
-        var material = MATERIALS.get(name);
         
-        if (material == null) {
-            throw EXCEPTION.createWithContext(reader, name);
-        }
-        
-        return material;
+        return materials;
     }
     
     /**
-     * Returns the materials that start with the remaining input of the given {@code SuggesitonBuilder}.
-     * 
-     * @param <S> the type of the source
-     * @param context the context
-     * @param builder the builder
-     * @return the material keys that start with the remaining input
+     * Creates a {@code MaterialType}.
      */
-    @Override
-    public <S> CompletableFuture<Suggestions> listSuggestions(CommandContext<S> context, SuggestionsBuilder builder) {
-        for (var material : MATERIALS.prefixedKeys(builder.getRemaining())) {
-            builder.suggest(material);
-        }
-        
-        return builder.buildFuture();
-    }
-
-    @Override
-    public List<String> getExamples() {
-        return EXAMPLES;
+    public MaterialType() {
+        super(MATERIALS, "material", EXAMPLES);
     }
     
 }
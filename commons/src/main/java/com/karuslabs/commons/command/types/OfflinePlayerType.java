@@ -0,0 +1,180 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.command.types;
+
+import com.karuslabs.commons.util.Profiles;
+
+import com.mojang.brigadier.*;
+import com.mojang.brigadier.context.CommandContext;
+import com.mojang.brigadier.exceptions.*;
+import com.mojang.brigadier.suggestion.*;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+
+import org.bukkit.*;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An {@code OfflinePlayer} type that identifies players by either their names 
+ * or unique IDs.
+ * <br><br>
+ * Names are looked up in a {@link Profiles} index. A name that is not indexed 
+ * fails to parse instead of blocking on the network like {@link Bukkit#getOfflinePlayer(String)}.
+ * It is instead requested to be resolved in the background via {@link Profiles#request(String)},
+ * which is debounced since arguments are parsed on every keystroke while suggesting. 
+ * The name can be parsed once it has been resolved, i.e. when the command is 
+ * executed again.
+ */
+public class OfflinePlayerType implements WordType<OfflinePlayer> {
+    
+    private static final DynamicCommandExceptionType EXCEPTION = new DynamicCommandExceptionType(name -> new LiteralMessage("Unknown player: " + name));
+    private static final List<String> EXAMPLES = List.of("Bob", "Pante", "069a79f4-44e9-4726-a5be-fca90e38aaf5");
+    
+    private final Profiles profiles;
+    private final Server server;
+    private volatile int limit = KeyedType.LIMIT;
+    
+    /**
+     * Creates an {@code OfflinePlayerType} that looks up names in the given index.
+     * 
+     * @param profiles the index of names
+     */
+    public OfflinePlayerType(Profiles profiles) {
+        this(profiles, Bukkit.getServer());
+    }
+    
+    OfflinePlayerType(Profiles profiles, Server server) {
+        this.profiles = profiles;
+        this.server = server;
+    }
+    
+    /**
+     * Returns an offline player whose unique ID or name, ignoring case, matches 
+     * the string returned by the given {@code StringReader}.
+     * 
+     * @param reader the reader
+     * @return a player with the given unique ID or name
+     * @throws CommandSyntaxException if the name is not indexed, in which case it
+     *                                is requested to be resolved
+     * 
+     * @see Profiles#get(String)
+     */
+    @Override
+    public OfflinePlayer parse(StringReader reader) throws CommandSyntaxException {
+        var argument = reader.readUnquotedString();
+        var id = id(argument);
+        if (id == null) {
+            id = profiles.get(argument);
+        }
+        
+        if (id == null) {
+            profiles.request(argument);
+            throw EXCEPTION.createWithContext(reader, argument);
+        }
+        
+        return server.getOfflinePlayer(id);
+    }
+    
+    static @Nullable UUID id(String argument) {
+        if (argument.length() != 36) {
+            return null;
+        }
+        
+        try {
+            return UUID.fromString(argument);
+            
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+    
+    /**
+     * Returns the indexed names that start with the remaining input of the given 
+     * {@code SuggestionBuilder}, ignoring case. At most {@link #limit()} names are 
+     * suggested.
+     * 
+     * @param <S> the type of the source
+     * @param context the context
+     * @param builder the builder
+     * @return the names that start with the remaining input
+     */
+    @Override
+    public <S> CompletableFuture<Suggestions> listSuggestions(CommandContext<S> context, SuggestionsBuilder builder) {
+        var remaining = builder.getRemaining();
+        var count = 0;
+        for (var name : profiles.names().prefixedKeys(remaining)) {
+            if (count++ >= limit) {
+                break;
+            }
+            
+            builder.suggest(name);
+        }
+        
+        return builder.buildFuture();
+    }
+    
+    /**
+     * Sets the maximum number of names that are suggested.
+     * 
+     * @param limit the maximum number of suggested names
+     * @return {@code this}
+     * @throws IllegalArgumentException if the given limit is not positive
+     */
+    public OfflinePlayerType limit(int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit should be positive, but was " + limit);
+        }
+        
+        this.limit = limit;
+        return this;
+    }
+    
+    /**
+     * Returns the maximum number of names that are suggested.
+     * 
+     * @return the maximum number of suggested names, {@value KeyedType#LIMIT} 
+     *         by default
+     */
+    public int limit() {
+        return limit;
+    }
+    
+    /**
+     * Returns {@code true} since suggestions are derived from a thread-safe index.
+     * 
+     * @return {@code true}
+     */
+    @Override
+    public boolean concurrent() {
+        return true;
+    }
+    
+    @Override
+    public List<String> getExamples() {
+        return EXAMPLES;
+    }
+    
+}
@@ -23,71 +23,26 @@
  */
 package com.karuslabs.commons.command.types;
 
-import com.karuslabs.commons.util.collection.Trie;
-
-import com.mojang.brigadier.*;
-import com.mojang.brigadier.context.CommandContext;
-import com.mojang.brigadier.exceptions.*;
-import com.mojang.brigadier.suggestion.*;
-
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
 
 import org.bukkit.Particle;
 
 /**
- * A {@code Particle} type.
+ * A {@code Particle} type. Particles are identified by their Bukkit names.
+ * <br><br>
+ * This type is mapped to a {@code ResourceLocationArgument} rather than a word,
+ * and accepts both namespaced and bare keys, i.e. {@code minecraft:flame} and {@code flame}.
  */
-public class ParticleType implements WordType<Particle> {
+public class ParticleType extends KeyedType<Particle> {
 
-    private static final Trie<Particle> PARTICLES = new Trie<>();
-    private static final DynamicCommandExceptionType EXCEPTION = new DynamicCommandExceptionType(particle -> new LiteralMessage("Unknown particle: " + particle));
+    static final Index<Particle> PARTICLES = Index.of(Particle.class, () -> Arrays.asList(Particle.values()), particle -> MINECRAFT + particle.toString().toLowerCase());
     private static final List<String> EXAMPLES = List.of("barrier", "bubble_column_up");
-    static {
-        for (var particle : Particle.values()) {
-            PARTICLES.put(particle.toString().toLowerCase(), particle);
-        }
-    }
     
     /**
-     * Returns a particle which name matches the string returned by the given {@code StringReader}.
-     * 
-     * @param reader the reader
-     * @return a particle with the given name
-     * @throws CommandSyntaxException if a particle with the given name does not exist
+     * Creates a {@code ParticleType}.
      */
-    @Override
-    public Particle parse(StringReader reader) throws CommandSyntaxException {
-        var name = reader.readUnquotedString().toLowerCase();
-        var particles = PARTICLES.get(name);
-        
-        if (particles == null) {
-            throw EXCEPTION.createWithContext(reader, name);
-        }
-        
-        return particles;
-    }
-
-    /**
-     * Returns the particles that start with the remaining input of the given {@code SuggesitonBuilder}.
-     * 
-     * @param <S> the type of the source
-     * @param context the context
-     * @param builder the builder
-     * @return the particle names that start with the remaining input
-     */
-    @Override
-    public <S> CompletableFuture<Suggestions> listSuggestions(CommandContext<S> context, SuggestionsBuilder builder) {
-        for (var particles : PARTICLES.prefixedKeys(builder.getRemaining())) {
-            builder.suggest(particles);
-        }
-        
-        return builder.buildFuture();
-    }
-
-    @Override
-    public List<String> getExamples() {
-        return EXAMPLES;
+    public ParticleType() {
+        super(PARTICLES, "particle", EXAMPLES);
     }
     
 }
@@ -23,6 +23,8 @@
  */
 package com.karuslabs.commons.command.types;
 
+import com.karuslabs.commons.util.OnlinePlayers;
+
 import com.mojang.brigadier.*;
 import com.mojang.brigadier.context.CommandContext;
 import com.mojang.brigadier.exceptions.*;
@@ -34,6 +36,8 @@ import java.util.concurrent.CompletableFuture;
 import org.bukkit.*;
 import org.bukkit.entity.Player;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 /**
  * A {@code Player} type.
  */
@@ -43,6 +47,25 @@ public class PlayerType implements WordType<Player> {
     private static final List<String> EXAMPLES = List.of("Bob", "Pante");
 
     private final Server server = Bukkit.getServer();
+    private final @Nullable OnlinePlayers players;
+    
+    /**
+     * Creates a {@code PlayerType} that scans all online players for suggestions.
+     */
+    public PlayerType() {
+        this(null);
+    }
+    
+    /**
+     * Creates a {@code PlayerType} that looks up suggestions in the given index
+     * of online players.
+     * 
+     * @param players the online players, or {@code null} if all online players
+     *                should be scanned
+     */
+    public PlayerType(@Nullable OnlinePlayers players) {
+        this.players = players;
+    }
     
     /**
      * Returns a online player whose name matches the string returned by the given 
@@ -55,7 +78,7 @@ public class PlayerType implements WordType<Player> {
     @Override
     public Player parse(StringReader reader) throws CommandSyntaxException {
         var name = reader.readUnquotedString();
-        var player = Bukkit.getPlayerExact(name);
+        var player = players == null ? Bukkit.getPlayerExact(name) : players.names().get(name);
         
         if (player == null) {
             throw EXCEPTION.createWithContext(reader, name);
@@ -66,9 +89,9 @@ public class PlayerType implements WordType<Player> {
 
     /**
      * Returns the names of online players that start with the remaining input of 
-     * the given {@code SuggesitonBuilder}.If the source is a player, a check is 
-     * performed to determine the visibility of the suggested player to the source. 
-     * Players that are invisible to the source are not suggested.
+     * the given {@code SuggesitonBuilder}, ignoring case. If the source is a player, 
+     * a check is performed to determine the visibility of the suggested player to 
+     * the source. Players that are invisible to the source are not suggested.
      * 
      * @param <S> the type of the source
      * @param source the source
@@ -79,8 +102,10 @@ public class PlayerType implements WordType<Player> {
     @Override
     public <S> CompletableFuture<Suggestions> listSuggestions(S source, CommandContext<S> context, SuggestionsBuilder builder) {
         var sender = source instanceof Player player? player : null;
-        for (var player : server.getOnlinePlayers()) {
-            if ((sender == null || sender.canSee(player)) && player.getName().startsWith(builder.getRemaining())) {
+        var remaining = builder.getRemaining();
+        
+        for (var player : candidates(remaining)) {
+            if (visible(sender, player) && startsWith(player.getName(), remaining)) {
                 builder.suggest(player.getName());
             }
         }
@@ -88,6 +113,34 @@ public class PlayerType implements WordType<Player> {
         return builder.buildFuture();
     }
     
+    /**
+     * Returns the online players whose names may start with the given prefix.
+     * 
+     * @param prefix the prefix
+     * @return the players whose names start with the given prefix if an index 
+     *         of online players is available, otherwise all online players
+     */
+    Collection<? extends Player> candidates(String prefix) {
+        return players == null ? server.getOnlinePlayers() : players.names().prefixedValues(prefix);
+    }
+    
+    /**
+     * Returns whether the given player is visible to the sender. The sender is 
+     * always queried directly since Bukkit does not emit events when players are 
+     * hidden, and an index of online players may hence be stale.
+     * 
+     * @param sender the sender, or {@code null} if the source is not a player
+     * @param player the player
+     * @return {@code true} if the player is visible to the sender
+     */
+    static boolean visible(@Nullable Player sender, Player player) {
+        return sender == null || sender.canSee(player);
+    }
+    
+    static boolean startsWith(String name, String prefix) {
+        return name.regionMatches(true, 0, prefix, 0, prefix.length());
+    }
+    
 
     @Override
     public List<String> getExamples() {
@@ -24,6 +24,7 @@
 package com.karuslabs.commons.command.types;
 
 import com.karuslabs.commons.command.Readers;
+import com.karuslabs.commons.util.OnlinePlayers;
 
 import com.mojang.brigadier.*;
 import com.mojang.brigadier.context.CommandContext;
@@ -36,6 +37,8 @@ import java.util.concurrent.*;
 import org.bukkit.*;
 import org.bukkit.entity.Player;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 /**
  * A {@code Player} type that supports a comma separated list of player names enclosed 
  * in double quotation marks in addition to the following tags:
@@ -54,6 +57,25 @@ public class PlayersType implements StringType<List<Player>> {
     
     
     private final Server server = Bukkit.getServer();
+    private final @Nullable OnlinePlayers players;
+    
+    /**
+     * Creates a {@code PlayersType} that scans all online players for suggestions.
+     */
+    public PlayersType() {
+        this(null);
+    }
+    
+    /**
+     * Creates a {@code PlayersType} that looks up suggestions in the given index
+     * of online players.
+     * 
+     * @param players the online players, or {@code null} if all online players
+     *                should be scanned
+     */
+    public PlayersType(@Nullable OnlinePlayers players) {
+        this.players = players;
+    }
     
     /**
      * Returns the online players whose names are contained in the string returned 
@@ -74,20 +96,40 @@ public class PlayersType implements StringType<List<Player>> {
             return online();
         }
         
-        var online = online();
+        if (argument.isEmpty()) {
+            throw UNKNOWN.createWithContext(reader, argument);
+        }
+        
+        List<Player> online = null;
         var players = new ArrayList<Player>();
-        var names = Readers.COMMA.split(argument);
-        for (var name : names) {
-            if (name.equalsIgnoreCase("@r")) {
+        var segments = Readers.segments(argument);
+        var empty = 0;
+        
+        while (segments.next()) {
+            // Trailing empty segments are discarded, similar to Pattern.split(...)
+            if (segments.empty()) {
+                empty++;
+                continue;
+                
+            } else if (empty > 0) {
+                throw UNKNOWN.createWithContext(reader, "");
+            }
+            
+            if (segments.equalsIgnoreCase("@r")) {
+                if (online == null) {
+                    online = online();
+                }
+                
                 players.add(online.get(ThreadLocalRandom.current().nextInt(online.size())));
                 continue;
             }
             
-            var player = server.getPlayerExact(name);
+            var name = segments.segment();
+            var player = this.players == null ? server.getPlayerExact(name) : this.players.names().get(name);
             if (player != null) {
                 players.add(player);
                 
-            } else if (name.equalsIgnoreCase("@a")) {
+            } else if (segments.equalsIgnoreCase("@a")) {
                 throw INVALID.createWithContext(reader);
                 
             } else {
@@ -95,7 +137,6 @@ public class PlayersType implements StringType<List<Player>> {
             }
         }
         
-        
         return players;
     }
     
@@ -112,7 +153,8 @@ public class PlayersType implements StringType<List<Player>> {
     
     
     /**
-     * Returns the names of online players and tags that start with the given input.
+     * Returns the names of online players and tags that start with the given input,
+     * ignoring case.
      * 
      * @param <S> the type of the source
      * @param source the source
@@ -130,29 +172,25 @@ public class PlayersType implements StringType<List<Player>> {
         
         var sender = source instanceof Player player? player : null;
         var enclosed = remaining.startsWith("\"");
-        remaining = remaining.replace("\"", "");
+        var start = enclosed ? 1 : 0;
+        var end = enclosed && remaining.length() > 1 && remaining.endsWith("\"") ? remaining.length() - 1 : remaining.length();
         
-        var parts = Readers.COMMA.split(remaining, -1);
-        var last = parts[parts.length - 1];
-        var beginning = remaining.substring(0, remaining.lastIndexOf(last));
+        var segments = Readers.segments(remaining, start, end);
+        var last = start;
+        while (segments.next()) {
+            last = segments.start();
+        }
         
-        if ("@r".startsWith(last)) {
-            var suggestion = beginning + "@r";
-            if (enclosed) {
-                suggestion = '"' + suggestion +'"';
-            }
-            
-            builder.suggest(suggestion, RANDOM);
+        var length = end - last;
+        if ("@r".regionMatches(0, remaining, last, length)) {
+            builder.suggest(suggestion(remaining, start, last, "@r", enclosed), RANDOM);
         }
         
-        for (var player: server.getOnlinePlayers()) {
-            if ((sender == null || sender.canSee(player)) && player.getName().startsWith(last)) {
-                var suggestion = beginning + player.getName();
-                if (enclosed) {
-                    suggestion = '"' + suggestion + '"';
-                }
-                
-                builder.suggest(suggestion);
+        var candidates = players == null ? server.getOnlinePlayers() : players.names().prefixedValues(remaining.substring(last, end));
+        for (var player : candidates) {
+            var name = player.getName();
+            if (PlayerType.visible(sender, player) && name.regionMatches(true, 0, remaining, last, length)) {
+                builder.suggest(suggestion(remaining, start, last, name, enclosed));
             }
         }        
         
@@ -160,6 +198,21 @@ public class PlayersType implements StringType<List<Player>> {
     }
     
     
+    static String suggestion(String remaining, int start, int last, String name, boolean enclosed) {
+        var builder = new StringBuilder(last - start + name.length() + 2);
+        if (enclosed) {
+            builder.append('"');
+        }
+        
+        builder.append(remaining, start, last).append(name);
+        if (enclosed) {
+            builder.append('"');
+        }
+        
+        return builder.toString();
+    }
+    
+    
     @Override
     public List<String> getExamples() {
         return EXAMPLES;
@@ -23,7 +23,8 @@
  */
 package com.karuslabs.commons.command.types;
 
-import com.karuslabs.commons.util.Point;
+import com.karuslabs.commons.command.Readers;
+import com.karuslabs.commons.util.*;
 import com.karuslabs.commons.util.Point.Axis;
 
 import com.mojang.brigadier.*;
@@ -82,6 +83,37 @@ public abstract class PointType extends DynamicExampleType<Point> {
         return point;
     }
     
+    /**
+     * Parses {@code Coordinates} from {@code reader}. Unlike {@link #parse(StringReader)}, 
+     * a {@code Point} is not created.
+     * 
+     * @param reader the reader
+     * @return the coordinates
+     * @throws CommandSyntaxException if the input was invalid
+     */
+    public Coordinates coordinates(StringReader reader) throws CommandSyntaxException {
+        var rotation = reader.peek() == '^';
+        byte flags = rotation ? Coordinates.ROTATION : 0;
+        double x = 0;
+        double y = 0;
+        double z = 0;
+        
+        for (var axis : axes) {
+            if (prefix(reader, rotation)) {
+                flags |= Coordinates.flag(axis);
+            }
+            
+            var value = Readers.readDouble(reader);
+            switch (axis) {
+                case X -> x = value;
+                case Y -> y = value;
+                case Z -> z = value;
+            }
+        }
+        
+        return new Coordinates(x, y, z, flags);
+    }
+    
     /**
      * Parses a value from {@code reader} and sets it on the given axis of {@code point}.
      * 
@@ -91,9 +123,25 @@ public abstract class PointType extends DynamicExampleType<Point> {
      * @throws CommandSyntaxException if the input was invalid
      */
     void parse(StringReader reader, Point point, Axis axis) throws CommandSyntaxException {
+        if (prefix(reader, point.rotation())) {
+            point.relative(axis, true);
+        }
+        
+        point.set(axis, Readers.readDouble(reader));  
+    }
+    
+    /**
+     * Skips the whitespaces and prefix of a coordinate in {@code reader}.
+     * 
+     * @param reader the reader
+     * @param rotation whether the coordinates are to be rotated
+     * @return {@code true} if the coordinate is relative
+     * @throws CommandSyntaxException if world and local coordinates are mixed
+     */
+    boolean prefix(StringReader reader, boolean rotation) throws CommandSyntaxException {
         reader.skipWhitespace();
         
-        if (point.rotation() ^ (reader.peek() == '^')) {
+        if (rotation ^ (reader.peek() == '^')) {
             throw MIXED.createWithContext(reader);
         }
         
@@ -102,10 +150,10 @@ public abstract class PointType extends DynamicExampleType<Point> {
             
         } else if (reader.peek() == '~') {
             reader.skip();
-            point.relative(axis, true);
+            return true;
         }
         
-        point.set(axis, reader.readDouble());  
+        return false;
     }
     
 }
@@ -0,0 +1,69 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.command.types;
+
+import com.karuslabs.annotations.Static;
+import com.karuslabs.commons.command.types.KeyedType.Index;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.List;
+
+/**
+ * Precomputes the indexes of enumerated registries at build time.
+ * <br><br>
+ * The precomputed indexes are written to the given output directory, typically
+ * the directory of compiled classes, and loaded by {@link KeyedType.Index} at 
+ * runtime if the version of the running server matches the given version.
+ * Otherwise, indexes are built at runtime.
+ */
+public @Static class RegistryIndexes {
+    
+    static final List<Index<?>> INDEXES = List.of(MaterialType.MATERIALS, ParticleType.PARTICLES, KeyedType.BIOMES, KeyedType.ENTITIES, KeyedType.SOUNDS);
+    
+    /**
+     * Precomputes the indexes of enumerated registries.
+     * 
+     * @param arguments the output directory followed by the Bukkit version, i.e.
+     *                  {@code 1.17-R0.1-SNAPSHOT}
+     * @throws IOException if an index could not be written
+     */
+    public static void main(String... arguments) throws IOException {
+        if (arguments.length != 2) {
+            throw new IllegalArgumentException("Usage: RegistryIndexes <output directory> <bukkit version>");
+        }
+        
+        var directory = Path.of(arguments[0]);
+        for (var index : INDEXES) {
+            var file = directory.resolve(index.resource());
+            Files.createDirectories(file.getParent());
+            
+            try (var writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                index.write(writer, arguments[1]);
+            }
+        }
+    }
+    
+}
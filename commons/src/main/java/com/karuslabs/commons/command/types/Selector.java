@@ -0,0 +1,343 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.command.types;
+
+import com.karuslabs.commons.util.SpatialIndex;
+
+import com.mojang.brigadier.LiteralMessage;
+import com.mojang.brigadier.exceptions.*;
+
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.bukkit.*;
+import org.bukkit.command.*;
+import org.bukkit.entity.*;
+import org.bukkit.util.BoundingBox;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A parsed entity selector that is resolved relative to the source of a command.
+ * 
+ * @see SelectorType
+ */
+public final class Selector {
+    
+    private static final SimpleCommandExceptionType LOCATION = new SimpleCommandExceptionType(new LiteralMessage("A location is required to resolve this selector"));
+    
+    /**
+     * The targets of a selector.
+     */
+    public static enum Target {
+        /**
+         * The nearest player, {@code @p}.
+         */
+        NEAREST('p'),
+        /**
+         * All online players, {@code @a}.
+         */
+        ALL('a'),
+        /**
+         * A random online player, {@code @r}.
+         */
+        RANDOM('r'),
+        /**
+         * The source of the command, {@code @s}.
+         */
+        SELF('s'),
+        /**
+         * All entities, {@code @e}.
+         */
+        ENTITIES('e');
+        
+        final char character;
+        
+        private Target(char character) {
+            this.character = character;
+        }
+        
+        /**
+         * Returns the target denoted by the given character.
+         * 
+         * @param character the character that follows {@code @}
+         * @return the target, or {@code null} if no target is denoted by the character
+         */
+        static @Nullable Target of(char character) {
+            for (var target : values()) {
+                if (target.character == character) {
+                    return target;
+                }
+            }
+            
+            return null;
+        }
+    }
+    
+    
+    private final Server server;
+    private final @Nullable SpatialIndex<Player> players;
+    private final Target target;
+    private final double minimum;
+    private final double maximum;
+    private final double @Nullable [] delta;
+    private final int limit;
+    
+    /**
+     * Creates a {@code Selector} with the given arguments.
+     * 
+     * @param server the server
+     * @param players the index of online players, or {@code null} if players should be scanned
+     * @param target the target
+     * @param minimum the minimum distance
+     * @param maximum the maximum distance
+     * @param delta the size of the box relative to the source, or {@code null} 
+     *              if this selector is not bounded by a box
+     * @param limit the maximum number of entities selected
+     */
+    Selector(Server server, @Nullable SpatialIndex<Player> players, Target target, double minimum, double maximum, double @Nullable [] delta, int limit) {
+        this.server = server;
+        this.players = players;
+        this.target = target;
+        this.minimum = minimum;
+        this.maximum = maximum;
+        this.delta = delta;
+        this.limit = limit;
+    }
+    
+    
+    /**
+     * Returns the entities selected relative to the given source.
+     * 
+     * @param source the source
+     * @return the selected entities
+     * @throws CommandSyntaxException if this selector targets the nearest player
+     *                                or is bounded by a distance or box, and the
+     *                                source has no location
+     */
+    public List<Entity> select(CommandSender source) throws CommandSyntaxException {
+        var origin = origin(source);
+        if (origin == null && (target == Target.NEAREST || located())) {
+            throw LOCATION.create();
+        }
+        
+        var box = box(origin);
+        var filtered = new ArrayList<Entity>();
+        for (var entity : candidates(source, origin, box)) {
+            if (matches(entity, origin, box)) {
+                filtered.add(entity);
+            }
+        }
+        
+        if (target == Target.NEAREST && origin != null) {
+            filtered.sort(Comparator.comparingDouble(entity -> distance(entity.getLocation(), origin)));
+            
+        } else if (target == Target.RANDOM) {
+            Collections.shuffle(filtered, ThreadLocalRandom.current());
+        }
+        
+        return filtered.size() > limit ? new ArrayList<>(filtered.subList(0, limit)) : filtered;
+    }
+    
+    /**
+     * Returns the players selected relative to the given source.
+     * 
+     * @param source the source
+     * @return the selected players
+     * @throws CommandSyntaxException if this selector targets the nearest player
+     *                                or is bounded by a distance or box, and the
+     *                                source has no location
+     */
+    public List<Player> players(CommandSender source) throws CommandSyntaxException {
+        var players = new ArrayList<Player>();
+        for (var entity : select(source)) {
+            if (entity instanceof Player player) {
+                players.add(player);
+            }
+        }
+        
+        return players;
+    }
+    
+    
+    Collection<? extends Entity> candidates(CommandSender source, @Nullable Location origin, @Nullable BoundingBox box) {
+        return switch (target) {
+            case SELF -> source instanceof Entity entity ? List.of(entity) : List.of();
+            case ENTITIES -> entities(origin, box);
+            default -> players(origin, box);
+        };
+    }
+    
+    Collection<? extends Entity> players(@Nullable Location origin, @Nullable BoundingBox box) {
+        if (origin == null) {
+            return server.getOnlinePlayers();
+        }
+        
+        if (players != null) {
+            if (box != null) {
+                return players.box(origin.getWorld(), box);
+                
+            } else if (target == Target.NEAREST && limit == 1) {
+                var nearest = players.nearest(origin, maximum, player -> distance(player.getLocation(), origin) >= minimum * minimum);
+                return nearest == null ? List.of() : List.of(nearest);
+                
+            } else if (maximum != Double.POSITIVE_INFINITY) {
+                return players.radius(origin, maximum);
+            }
+        }
+        
+        return target == Target.NEAREST ? origin.getWorld().getPlayers() : server.getOnlinePlayers();
+    }
+    
+    Collection<? extends Entity> entities(@Nullable Location origin, @Nullable BoundingBox box) {
+        if (origin == null) {
+            var entities = new ArrayList<Entity>();
+            for (var world : server.getWorlds()) {
+                entities.addAll(world.getEntities());
+            }
+            return entities;
+        }
+        
+        if (box != null) {
+            return origin.getWorld().getNearbyEntities(box);
+            
+        } else if (maximum != Double.POSITIVE_INFINITY) {
+            return origin.getWorld().getNearbyEntities(origin, maximum, maximum, maximum);
+            
+        } else {
+            return origin.getWorld().getEntities();
+        }
+    }
+    
+    boolean matches(Entity entity, @Nullable Location origin, @Nullable BoundingBox box) {
+        if (origin == null) {
+            return true;
+        }
+        
+        var location = entity.getLocation();
+        if (located() && location.getWorld() != origin.getWorld()) {
+            return false;
+        }
+        
+        if (box != null && !box.contains(location.getX(), location.getY(), location.getZ())) {
+            return false;
+        }
+        
+        if (minimum == 0 && maximum == Double.POSITIVE_INFINITY) {
+            return true;
+        }
+        
+        var distance = distance(location, origin);
+        return minimum * minimum <= distance && distance <= maximum * maximum;
+    }
+    
+    /**
+     * Returns the box spanning from the block at the given origin to the opposite 
+     * corner of the block at the origin offset by {@code delta}.
+     * 
+     * @param origin the origin
+     * @return the box, or {@code null} if this selector is not bounded by a box
+     *         or there is no origin
+     */
+    @Nullable BoundingBox box(@Nullable Location origin) {
+        if (delta == null || origin == null) {
+            return null;
+        }
+        
+        var x = origin.getX();
+        var y = origin.getY();
+        var z = origin.getZ();
+        
+        return new BoundingBox(
+            Math.min(x, x + delta[0]), Math.min(y, y + delta[1]), Math.min(z, z + delta[2]),
+            Math.max(x, x + delta[0]) + 1, Math.max(y, y + delta[1]) + 1, Math.max(z, z + delta[2]) + 1
+        );
+    }
+    
+    static @Nullable Location origin(CommandSender source) {
+        if (source instanceof Entity entity) {
+            return entity.getLocation();
+            
+        } else if (source instanceof BlockCommandSender block) {
+            return block.getBlock().getLocation().add(0.5, 0, 0.5);
+            
+        } else {
+            return null;
+        }
+    }
+    
+    static double distance(Location location, Location origin) {
+        var dx = location.getX() - origin.getX();
+        var dy = location.getY() - origin.getY();
+        var dz = location.getZ() - origin.getZ();
+        return dx * dx + dy * dy + dz * dz;
+    }
+    
+    
+    /**
+     * Returns whether this selector is bounded by a distance or box.
+     * 
+     * @return {@code true} if this selector is bounded by a distance or box
+     */
+    public boolean located() {
+        return minimum != 0 || maximum != Double.POSITIVE_INFINITY || delta != null;
+    }
+    
+    /**
+     * Returns the target of this selector.
+     * 
+     * @return the target
+     */
+    public Target target() {
+        return target;
+    }
+    
+    /**
+     * Returns the minimum distance of selected entities from the source.
+     * 
+     * @return the minimum distance
+     */
+    public double minimum() {
+        return minimum;
+    }
+    
+    /**
+     * Returns the maximum distance of selected entities from the source.
+     * 
+     * @return the maximum distance, or {@link Double#POSITIVE_INFINITY} if unbounded
+     */
+    public double maximum() {
+        return maximum;
+    }
+    
+    /**
+     * Returns the maximum number of selected entities.
+     * 
+     * @return the limit
+     */
+    public int limit() {
+        return limit;
+    }
+    
+}
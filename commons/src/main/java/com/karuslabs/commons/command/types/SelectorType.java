@@ -0,0 +1,269 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.command.types;
+
+import com.karuslabs.commons.command.Readers;
+import com.karuslabs.commons.command.types.Selector.Target;
+import com.karuslabs.commons.util.SpatialIndex;
+
+import com.mojang.brigadier.*;
+import com.mojang.brigadier.arguments.ArgumentType;
+import com.mojang.brigadier.context.CommandContext;
+import com.mojang.brigadier.exceptions.*;
+import com.mojang.brigadier.suggestion.*;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+
+import net.minecraft.commands.arguments.EntityArgument;
+
+import org.bukkit.*;
+import org.bukkit.entity.Player;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An entity selector type that supports the {@code @p}, {@code @a}, {@code @r}, 
+ * {@code @s} and {@code @e} selectors with the following optional arguments:
+ * <ul>
+ * <li>{@code distance} - A distance or range of distances from the source, i.e. {@code 5}, {@code ..10}, {@code 5..} or {@code 5..10}</li>
+ * <li>{@code dx}, {@code dy}, {@code dz} - The size of a box that extends from the source</li>
+ * <li>{@code limit} - The maximum number of selected entities</li>
+ * </ul>
+ * 
+ * Selectors are resolved relative to the source of a command via {@link Selector#select(org.bukkit.command.CommandSender)}.
+ * If given an index of online players, players are resolved by querying the
+ * index instead of scanning all online players.
+ */
+public class SelectorType implements Type<Selector> {
+    
+    private static final SimpleCommandExceptionType EXPECTED = new SimpleCommandExceptionType(new LiteralMessage("Expected a selector"));
+    private static final DynamicCommandExceptionType UNKNOWN = new DynamicCommandExceptionType(selector -> new LiteralMessage("Unknown selector: @" + selector));
+    private static final DynamicCommandExceptionType OPTION = new DynamicCommandExceptionType(option -> new LiteralMessage("Unknown option: " + option));
+    private static final DynamicCommandExceptionType VALUE = new DynamicCommandExceptionType(option -> new LiteralMessage("Invalid value for option: " + option));
+    private static final SimpleCommandExceptionType UNTERMINATED = new SimpleCommandExceptionType(new LiteralMessage("Expected end of options"));
+    private static final List<String> EXAMPLES = List.of("@p", "@e[distance=..10]", "@a[dx=5,dy=5,dz=5,limit=3]");
+    static final Map<String, Message> SELECTORS = new LinkedHashMap<>();
+    static {
+        SELECTORS.put("@p", new LiteralMessage("The nearest player"));
+        SELECTORS.put("@a", new LiteralMessage("All online players"));
+        SELECTORS.put("@r", new LiteralMessage("A online player chosen at random"));
+        SELECTORS.put("@s", new LiteralMessage("The source of the command"));
+        SELECTORS.put("@e", new LiteralMessage("All entities"));
+    }
+    
+    
+    private final Server server = Bukkit.getServer();
+    private final @Nullable SpatialIndex<Player> players;
+    
+    /**
+     * Creates a {@code SelectorType} that scans online players.
+     */
+    public SelectorType() {
+        this(null);
+    }
+    
+    /**
+     * Creates a {@code SelectorType} that queries the given index of online players.
+     * 
+     * @param players the index of online players, or {@code null} if online players 
+     *                should be scanned
+     * 
+     * @see com.karuslabs.commons.util.OnlinePlayers#positions()
+     */
+    public SelectorType(@Nullable SpatialIndex<Player> players) {
+        this.players = players;
+    }
+    
+    
+    /**
+     * Parses a selector and its optional arguments from the given {@code StringReader}.
+     * 
+     * @param reader the reader
+     * @return the selector
+     * @throws CommandSyntaxException if the selector or arguments are invalid
+     */
+    @Override
+    public Selector parse(StringReader reader) throws CommandSyntaxException {
+        if (!reader.canRead() || reader.peek() != '@') {
+            throw EXPECTED.createWithContext(reader);
+        }
+        
+        reader.skip();
+        if (!reader.canRead()) {
+            throw EXPECTED.createWithContext(reader);
+        }
+        
+        var character = reader.read();
+        var target = Target.of(character);
+        if (target == null) {
+            throw UNKNOWN.createWithContext(reader, character);
+        }
+        
+        var minimum = 0.0;
+        var maximum = Double.POSITIVE_INFINITY;
+        double[] delta = null;
+        var limit = target == Target.NEAREST || target == Target.RANDOM ? 1 : Integer.MAX_VALUE;
+        
+        if (reader.canRead() && reader.peek() == '[') {
+            reader.skip();
+            reader.skipWhitespace();
+            
+            while (reader.canRead() && reader.peek() != ']') {
+                var start = reader.getCursor();
+                var option = reader.readUnquotedString();
+                
+                reader.skipWhitespace();
+                reader.expect('=');
+                reader.skipWhitespace();
+                
+                switch (option) {
+                    case "distance" -> {
+                        minimum = reader.canRead() && reader.peek() == '.' ? 0 : number(reader, option);
+                        maximum = minimum;
+                        if (reader.canRead(2) && reader.peek() == '.' && reader.peek(1) == '.') {
+                            reader.setCursor(reader.getCursor() + 2);
+                            maximum = reader.canRead() && isNumber(reader.peek()) ? number(reader, option) : Double.POSITIVE_INFINITY;
+                        }
+                        
+                        if (minimum < 0 || maximum < minimum) {
+                            reader.setCursor(start);
+                            throw VALUE.createWithContext(reader, option);
+                        }
+                    }
+                    case "dx", "dy", "dz" -> {
+                        if (delta == null) {
+                            delta = new double[3];
+                        }
+                        delta[option.charAt(1) - 'x'] = number(reader, option);
+                    }
+                    case "limit" -> {
+                        limit = reader.readInt();
+                        if (limit < 1) {
+                            reader.setCursor(start);
+                            throw VALUE.createWithContext(reader, option);
+                        }
+                    }
+                    default -> {
+                        reader.setCursor(start);
+                        throw OPTION.createWithContext(reader, option);
+                    }
+                }
+                
+                reader.skipWhitespace();
+                if (reader.canRead() && reader.peek() == ',') {
+                    reader.skip();
+                    reader.skipWhitespace();
+                    
+                } else if (!reader.canRead() || reader.peek() != ']') {
+                    throw UNTERMINATED.createWithContext(reader);
+                }
+            }
+            
+            if (!reader.canRead()) {
+                throw UNTERMINATED.createWithContext(reader);
+            }
+            reader.skip();
+        }
+        
+        return new Selector(server, players, target, minimum, maximum, delta, limit);
+    }
+    
+    /**
+     * Reads a number that is optionally followed by {@code ..}.
+     * 
+     * @param reader the reader
+     * @param option the option to which the number belongs
+     * @return the number
+     * @throws CommandSyntaxException if the number is invalid
+     */
+    static double number(StringReader reader, String option) throws CommandSyntaxException {
+        var string = reader.getString();
+        var end = reader.getCursor();
+        
+        while (end < string.length() && isNumber(string.charAt(end)) && !string.startsWith("..", end)) {
+            end++;
+        }
+        
+        try {
+            return Readers.readDouble(reader, end);
+            
+        } catch (CommandSyntaxException e) {
+            throw VALUE.createWithContext(reader, option);
+        }
+    }
+    
+    static boolean isNumber(char character) {
+        return StringReader.isAllowedNumber(character);
+    }
+    
+    
+    /**
+     * Returns the selectors that start with the remaining input of the given builder.
+     * 
+     * @param <S> the type of the source
+     * @param context the context
+     * @param builder the builder
+     * @return the selectors that start with the remaining input
+     */
+    @Override
+    public <S> CompletableFuture<Suggestions> listSuggestions(CommandContext<S> context, SuggestionsBuilder builder) {
+        var remaining = builder.getRemaining();
+        for (var selector : SELECTORS.entrySet()) {
+            if (selector.getKey().startsWith(remaining)) {
+                builder.suggest(selector.getKey(), selector.getValue());
+            }
+        }
+        
+        return builder.buildFuture();
+    }
+    
+    
+    /**
+     * Returns an {@code EntityArgument} that supports multiple entities.
+     * 
+     * @return an {@code EntityArgument}
+     */
+    @Override
+    public ArgumentType<?> mapped() {
+        return EntityArgument.entities();
+    }
+    
+    /**
+     * Returns {@code true} since suggestions are derived from a constant set of 
+     * selectors.
+     * 
+     * @return {@code true}
+     */
+    @Override
+    public boolean concurrent() {
+        return true;
+    }
+    
+    @Override
+    public List<String> getExamples() {
+        return EXAMPLES;
+    }
+    
+}
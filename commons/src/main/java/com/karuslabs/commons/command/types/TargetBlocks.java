@@ -0,0 +1,150 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.command.types;
+
+import com.karuslabs.annotations.Static;
+
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+
+import net.minecraft.server.MinecraftServer;
+
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A cache of the blocks which players are looking at, shared by all Cartesian 
+ * types. A cached block is only valid for the tick in which it was raytraced 
+ * and only if the player has neither moved nor turned since.
+ * <br><br>
+ * <b>Implementation details:</b><br>
+ * Raytracing is relatively expensive and suggestions for Cartesian types may be
+ * requested several times in a single tick, i.e. by multiple arguments of the
+ * same command. Since a block can only be placed or broken between ticks, a cached
+ * block is never stale. Targets are keyed by the unique IDs of players in a 
+ * {@code ConcurrentHashMap} and expired targets of disconnected players are 
+ * periodically pruned. Copies of cached locations are returned since locations 
+ * are mutable.
+ */
+public @Static class TargetBlocks {
+    
+    static final int RANGE = 5;
+    static final int TTL = 1;
+    static final int PRUNE = 60 * 20;
+    
+    private static final ConcurrentMap<UUID, Target> TARGETS = new ConcurrentHashMap<>();
+    private static final LongAdder RAYTRACES = new LongAdder();
+    private static final LongAdder SAVED = new LongAdder();
+    private static volatile int pruned;
+    
+    
+    /**
+     * Returns the location of the block that the given player is looking at within
+     * 5 blocks.
+     * 
+     * @param player the player
+     * @return the location of the block, or {@code null} if the player is not looking 
+     *         at a block within 5 blocks
+     */
+    static @Nullable Location of(Player player) {
+        return of(player, MinecraftServer.currentTick);
+    }
+    
+    /**
+     * Returns the location of the block that the given player is looking at within
+     * 5 blocks at the given tick.
+     * 
+     * @param player the player
+     * @param tick the tick
+     * @return the location of the block, or {@code null} if the player is not looking 
+     *         at a block within 5 blocks
+     */
+    static @Nullable Location of(Player player, int tick) {
+        var location = player.getLocation();
+        var target = TARGETS.get(player.getUniqueId());
+        if (target != null && tick - target.tick < TTL && target.location.equals(location)) {
+            SAVED.increment();
+            return target.block == null ? null : target.block.clone();
+        }
+        
+        RAYTRACES.increment();
+        var block = player.getTargetBlockExact(RANGE);
+        var result = block == null ? null : block.getLocation();
+        
+        TARGETS.put(player.getUniqueId(), new Target(tick, location, result == null ? null : result.clone()));
+        if (tick - pruned >= PRUNE) {
+            pruned = tick;
+            TARGETS.values().removeIf(expired -> tick - expired.tick >= TTL);
+        }
+        
+        return result;
+    }
+    
+    
+    /**
+     * Returns the number of raytraces performed.
+     * 
+     * @return the number of raytraces performed
+     */
+    public static long raytraces() {
+        return RAYTRACES.sum();
+    }
+    
+    /**
+     * Returns the number of raytraces saved by returning a cached block.
+     * 
+     * @return the number of raytraces saved
+     */
+    public static long saved() {
+        return SAVED.sum();
+    }
+    
+    /**
+     * Returns the number of cached targets.
+     * 
+     * @return the number of cached targets
+     */
+    static int size() {
+        return TARGETS.size();
+    }
+    
+    
+    static final class Target {
+        
+        final int tick;
+        final Location location;
+        final @Nullable Location block;
+        
+        Target(int tick, Location location, @Nullable Location block) {
+            this.tick = tick;
+            this.location = location;
+            this.block = block;
+        }
+        
+    }
+    
+}
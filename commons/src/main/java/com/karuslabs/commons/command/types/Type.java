@@ -35,6 +35,9 @@ import java.util.concurrent.CompletableFuture;
  * <b>Implementation requirement:</b><br>
  * {@link #mapped} must return an {@code ArgumentType} that is supported by the
  * client. Otherwise the client will be disconnected from the server upon connection.
+ * <br><br>
+ * A {@code Type} that is {@link #concurrent()} may have its suggestions computed
+ * on an executor other than the main thread.
  * 
  * @param <T> the type of the argument
  */
@@ -49,6 +52,17 @@ public interface Type<T> extends ArgumentType<T> {
         return Suggestions.empty();
     }
     
+    /**
+     * Returns whether {@link #listSuggestions(Object, CommandContext, SuggestionsBuilder)}
+     * is thread-safe and may be invoked off the main thread. By default, a 
+     * {@code Type} is not concurrent.
+     * 
+     * @return {@code true} if suggestions can be computed off the main thread
+     */
+    default boolean concurrent() {
+        return false;
+    }
+    
     ArgumentType<?> mapped();
     
 }
@@ -23,6 +23,9 @@
  */
 package com.karuslabs.commons.command.types;
 
+import com.karuslabs.commons.command.Readers;
+import com.karuslabs.commons.util.Coordinates;
+
 import com.mojang.brigadier.StringReader;
 import com.mojang.brigadier.exceptions.CommandSyntaxException;
 
@@ -64,18 +67,42 @@ public abstract class VectorType extends DynamicExampleType<Vector> {
         var vector = new Vector();
         
         reader.skipWhitespace();
-        vector.setX(reader.readDouble());
+        vector.setX(Readers.readDouble(reader));
         
         if (cubic) {
             reader.skipWhitespace();
-            vector.setY(reader.readDouble());
+            vector.setY(Readers.readDouble(reader));
         }
         
         reader.skipWhitespace();
-        vector.setZ(reader.readDouble());
+        vector.setZ(Readers.readDouble(reader));
         
         return vector;
     }
+    
+    /**
+     * Parses absolute {@code Coordinates} from {@code reader}. Unlike {@link #parse(StringReader)}, 
+     * a {@code Vector} is not created.
+     * 
+     * @param reader the reader
+     * @return the coordinates
+     * @throws CommandSyntaxException if the input was invalid
+     */
+    public Coordinates coordinates(StringReader reader) throws CommandSyntaxException {
+        reader.skipWhitespace();
+        var x = Readers.readDouble(reader);
+        var y = 0.0;
+        
+        if (cubic) {
+            reader.skipWhitespace();
+            y = Readers.readDouble(reader);
+        }
+        
+        reader.skipWhitespace();
+        var z = Readers.readDouble(reader);
+        
+        return new Coordinates(x, y, z, (byte) 0);
+    }
 
 }
 
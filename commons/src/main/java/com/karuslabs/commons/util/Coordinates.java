@@ -0,0 +1,244 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util;
+
+import com.karuslabs.commons.util.Point.Axis;
+
+import org.bukkit.*;
+import org.bukkit.util.Vector;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An immutable 3D coordinate that is optionally relative to another point. 
+ * <br><br>
+ * Unlike a {@link Point}, a {@code Coordinates} carries neither a world nor 
+ * a direction and packs whether each axis is relative and whether it is to be 
+ * rotated into a single byte. A {@code Point} is only created when requested.
+ */
+public final class Coordinates {
+    
+    /**
+     * The flag for a relative x coordinate.
+     */
+    public static final byte RELATIVE_X = 1;
+    /**
+     * The flag for a relative y coordinate.
+     */
+    public static final byte RELATIVE_Y = 1 << 1;
+    /**
+     * The flag for a relative z coordinate.
+     */
+    public static final byte RELATIVE_Z = 1 << 2;
+    /**
+     * The flag for coordinates that are to be rotated.
+     */
+    public static final byte ROTATION = 1 << 3;
+    
+    /**
+     * Returns the flag for a relative coordinate on the given axis.
+     * 
+     * @param axis the axis
+     * @return the flag for the given axis
+     */
+    public static byte flag(Axis axis) {
+        return (byte) (1 << axis.ordinal());
+    }
+    
+    
+    private final double x;
+    private final double y;
+    private final double z;
+    private final byte flags;
+    
+    /**
+     * Creates a {@code Coordinates} with the given coordinates and flags.
+     * 
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @param z the z coordinate
+     * @param flags the combination of {@link #RELATIVE_X}, {@link #RELATIVE_Y},
+     *              {@link #RELATIVE_Z} and {@link #ROTATION}
+     */
+    public Coordinates(double x, double y, double z, byte flags) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.flags = flags;
+    }
+    
+    
+    /**
+     * Copies the optionally relative coordinates of {@code origin} to {@code result}.
+     * 
+     * @param origin the origin
+     * @param result the location to which {@code origin} is copied
+     * 
+     * @see Point#copy(Location, Location)
+     */
+    public void copy(Location origin, Location result) {
+        result.setX((flags & RELATIVE_X) != 0 ? x + origin.getX() : x);
+        result.setY((flags & RELATIVE_Y) != 0 ? y + origin.getY() : y);
+        result.setZ((flags & RELATIVE_Z) != 0 ? z + origin.getZ() : z);
+        
+        if ((flags & ROTATION) != 0) {
+            Vectors.rotate(result, origin);
+        }
+    }
+    
+    /**
+     * Creates a {@code Point} with no world from these coordinates.
+     * 
+     * @return a point
+     */
+    public Point point() {
+        return point(null);
+    }
+    
+    /**
+     * Creates a {@code Point} with the given world from these coordinates.
+     * 
+     * @param world the world
+     * @return a point
+     */
+    public Point point(@Nullable World world) {
+        return new Point(world, x, y, z)
+            .relative(Axis.X, (flags & RELATIVE_X) != 0)
+            .relative(Axis.Y, (flags & RELATIVE_Y) != 0)
+            .relative(Axis.Z, (flags & RELATIVE_Z) != 0)
+            .rotation((flags & ROTATION) != 0);
+    }
+    
+    /**
+     * Creates a {@code Vector} from these coordinates, ignoring any flags.
+     * 
+     * @return a vector
+     */
+    public Vector vector() {
+        return new Vector(x, y, z);
+    }
+    
+    
+    /**
+     * Returns the x coordinate.
+     * 
+     * @return the x coordinate
+     */
+    public double x() {
+        return x;
+    }
+    
+    /**
+     * Returns the y coordinate.
+     * 
+     * @return the y coordinate
+     */
+    public double y() {
+        return y;
+    }
+    
+    /**
+     * Returns the z coordinate.
+     * 
+     * @return the z coordinate
+     */
+    public double z() {
+        return z;
+    }
+    
+    /**
+     * Returns the coordinate for the given axis.
+     * 
+     * @param axis the axis
+     * @return the coordinate for the given axis
+     */
+    public double get(Axis axis) {
+        return switch (axis) {
+            case X -> x;
+            case Y -> y;
+            case Z -> z;
+        };
+    }
+    
+    /**
+     * Returns whether the coordinate for the given axis is relative.
+     * 
+     * @param axis the axis
+     * @return {@code true} if the coordinate for the given axis is relative
+     */
+    public boolean relative(Axis axis) {
+        return (flags & flag(axis)) != 0;
+    }
+    
+    /**
+     * Returns whether these coordinates are to be rotated.
+     * 
+     * @return {@code true} if these coordinates are to be rotated
+     */
+    public boolean rotation() {
+        return (flags & ROTATION) != 0;
+    }
+    
+    /**
+     * Returns the flags of these coordinates.
+     * 
+     * @return the flags
+     */
+    public byte flags() {
+        return flags;
+    }
+    
+    
+    @Override
+    public boolean equals(Object other) {
+        return this == other
+            || other instanceof Coordinates coordinates
+            && Double.compare(x, coordinates.x) == 0
+            && Double.compare(y, coordinates.y) == 0
+            && Double.compare(z, coordinates.z) == 0
+            && flags == coordinates.flags;
+    }
+    
+    @Override
+    public int hashCode() {
+        int hash = Double.hashCode(x);
+        hash = 31 * hash + Double.hashCode(y);
+        hash = 31 * hash + Double.hashCode(z);
+        return 31 * hash + flags;
+    }
+    
+    @Override
+    public String toString() {
+        return "Coordinates[rotation: " + rotation()
+             + ", x: " + coordinate(x, RELATIVE_X)
+             + ", y: " + coordinate(y, RELATIVE_Y)
+             + ", z: " + coordinate(z, RELATIVE_Z)
+             + "]";
+    }
+    
+    private String coordinate(double value, byte flag) {
+        return "[" + value + ", " + ((flags & flag) != 0 ? "relative" : "absolute") + "]";
+    }
+    
+}
@@ -0,0 +1,216 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util;
+
+import com.karuslabs.commons.util.collection.ConcurrentPrefixMap;
+
+import org.bukkit.entity.Player;
+import org.bukkit.event.*;
+import org.bukkit.event.player.*;
+import org.bukkit.event.world.WorldUnloadEvent;
+import org.bukkit.plugin.Plugin;
+
+import static org.bukkit.event.EventPriority.MONITOR;
+
+/**
+ * Indexes of online players that are incrementally updated as players join, 
+ * move and quit.
+ * <br><br>
+ * <b>Implementation details:</b><br>
+ * The indexes are updated on the main thread after all other listeners have 
+ * handled an event. They may be queried on any thread. When a player joins, whether 
+ * the player can see and be seen by every online player is recorded, since players 
+ * hidden by other plugins while joining are not otherwise reported.
+ */
+public class OnlinePlayers implements Listener {
+    
+    /**
+     * Creates an {@code OnlinePlayers} that contains the players currently online
+     * and registers it as a listener for the given plugin.
+     * 
+     * @param plugin the plugin
+     * @return an {@code OnlinePlayers}
+     */
+    public static OnlinePlayers of(Plugin plugin) {
+        var players = new OnlinePlayers();
+        for (var player : plugin.getServer().getOnlinePlayers()) {
+            players.join(player);
+        }
+        
+        plugin.getServer().getPluginManager().registerEvents(players, plugin);
+        return players;
+    }
+    
+    
+    private final SpatialIndex<Player> positions = new SpatialIndex<>();
+    private final ConcurrentPrefixMap<Player> names = new ConcurrentPrefixMap<>();
+    private final Visibility visibility = new Visibility();
+    
+    /**
+     * Creates an empty {@code OnlinePlayers}.
+     * 
+     * @see #of(Plugin)
+     */
+    OnlinePlayers() {}
+    
+    
+    /**
+     * Adds the given player to the indexes.
+     * 
+     * @param player the player
+     */
+    void join(Player player) {
+        names.put(player.getName(), player);
+        positions.update(player, player.getLocation());
+        visibility.refresh(player, names.values());
+        // Players may be hidden from other players when joining, i.e. by vanish plugins, without firing an event
+        for (var viewer : names.values()) {
+            if (viewer == player) {
+                continue;
+            }
+            
+            if (viewer.canSee(player)) {
+                visibility.show(viewer, player);
+                
+            } else {
+                visibility.hide(viewer, player);
+            }
+        }
+    }
+    
+    /**
+     * Removes the given player from the indexes.
+     * 
+     * @param player the player
+     */
+    void quit(Player player) {
+        names.remove(player.getName(), player);
+        positions.remove(player);
+        visibility.remove(player);
+    }
+    
+    
+    /**
+     * Adds the player who joined to the indexes.
+     * 
+     * @param event the event
+     */
+    @EventHandler(priority = MONITOR)
+    protected void join(PlayerJoinEvent event) {
+        join(event.getPlayer());
+    }
+    
+    /**
+     * Removes the player who quit from the indexes.
+     * 
+     * @param event the event
+     */
+    @EventHandler(priority = MONITOR)
+    protected void quit(PlayerQuitEvent event) {
+        quit(event.getPlayer());
+    }
+    
+    /**
+     * Updates the position of the player who moved.
+     * 
+     * @param event the event
+     */
+    @EventHandler(priority = MONITOR, ignoreCancelled = true)
+    protected void move(PlayerMoveEvent event) {
+        var to = event.getTo();
+        if (to != null && to.getWorld() != null) {
+            positions.update(event.getPlayer(), to);
+        }
+    }
+    
+    /**
+     * Updates the position of the player who teleported.
+     * 
+     * @param event the event
+     */
+    @EventHandler(priority = MONITOR, ignoreCancelled = true)
+    protected void teleport(PlayerTeleportEvent event) {
+        move(event);
+    }
+    
+    /**
+     * Updates the position of the player who changed worlds.
+     * 
+     * @param event the event
+     */
+    @EventHandler(priority = MONITOR)
+    protected void change(PlayerChangedWorldEvent event) {
+        positions.update(event.getPlayer(), event.getPlayer().getLocation());
+    }
+    
+    /**
+     * Updates the position of the player who respawned.
+     * 
+     * @param event the event
+     */
+    @EventHandler(priority = MONITOR)
+    protected void respawn(PlayerRespawnEvent event) {
+        positions.update(event.getPlayer(), event.getRespawnLocation());
+    }
+    
+    /**
+     * Removes the players in the unloaded world from the indexes.
+     * 
+     * @param event the event
+     */
+    @EventHandler(priority = MONITOR, ignoreCancelled = true)
+    protected void unload(WorldUnloadEvent event) {
+        positions.remove(event.getWorld());
+    }
+    
+    
+    /**
+     * Returns the index of the positions of online players.
+     * 
+     * @return the positions of online players
+     */
+    public SpatialIndex<Player> positions() {
+        return positions;
+    }
+    
+    /**
+     * Returns the index of the names of online players. Names are case-insensitive
+     * and may be looked up by prefix.
+     * 
+     * @return the names of online players
+     */
+    public ConcurrentPrefixMap<Player> names() {
+        return names;
+    }
+    
+    /**
+     * Returns the players hidden from each online player.
+     * 
+     * @return the visibility of online players
+     */
+    public Visibility visibility() {
+        return visibility;
+    }
+    
+}
@@ -24,6 +24,7 @@
 package com.karuslabs.commons.util;
 
 import java.util.*;
+import java.util.concurrent.RecursiveAction;
 
 import org.bukkit.*;
 import org.bukkit.util.Vector;
@@ -120,6 +121,24 @@ public final class Point extends Location {
         }
     }
     
+    /**
+     * Copies the optionally relative coordinates of {@code origin} to {@code result}, 
+     * using the given precomputed rotation instead of the rotation of {@code origin}.
+     * 
+     * @param origin the origin
+     * @param rotation the rotation, typically created from the yaw and pitch of {@code origin}
+     * @param result the location to which {@code origin} is copied
+     */
+    public void copy(Location origin, Rotation rotation, Location result) {
+        result.setX(relative[X] ? getX() + origin.getX() : getX());
+        result.setY(relative[Y] ? getY() + origin.getY() : getY());
+        result.setZ(relative[Z] ? getZ() + origin.getZ() : getZ());
+        
+        if (this.rotation) {
+            Vectors.rotate(result, rotation);
+        }
+    }
+    
     /**
      * Copies coordinates of {@code origin} to {@code result}.
      * 
@@ -136,6 +155,68 @@ public final class Point extends Location {
         }
     }
     
+    /**
+     * Copies coordinates of {@code origin} to {@code result}, using the given 
+     * precomputed rotation instead of the rotation of {@code origin}.
+     * 
+     * @param origin the origin
+     * @param rotation the rotation, typically created from the yaw and pitch of {@code origin}
+     * @param result the vector to which {@code origin} is copied
+     */
+    public void copy(Location origin, Rotation rotation, Vector result) {
+        result.setX(relative[X] ? getX() + origin.getX() : getX())
+              .setY(relative[Y] ? getY() + origin.getY() : getY())
+              .setZ(relative[Z] ? getZ() + origin.getZ() : getZ());
+        
+        if (this.rotation) {
+            Vectors.rotate(result, rotation);
+        }
+    }
+    
+    /**
+     * Copies the optionally relative coordinates of each origin to the result
+     * at the same index. The rotation for origins which share a yaw and pitch 
+     * is only computed once.
+     * <br><br>
+     * <b>Implementation details:</b><br>
+     * Batches of more than 512 origins are split and copied 
+     * in parallel using the common {@code ForkJoinPool}. This point should 
+     * not be modified and each result should be a distinct object while copying.
+     * 
+     * @param origins the origins
+     * @param results the locations to which the origins are copied
+     * @throws IllegalArgumentException if the arrays are not of equal length
+     */
+    public void copy(Location[] origins, Location[] results) {
+        copy(origins, results, Point::copy);
+    }
+    
+    /**
+     * Copies the optionally relative coordinates of each origin to the result
+     * at the same index. The rotation for origins which share a yaw and pitch 
+     * is only computed once.
+     * <br><br>
+     * <b>Implementation details:</b><br>
+     * Batches of more than 512 origins are split and copied 
+     * in parallel using the common {@code ForkJoinPool}. This point should 
+     * not be modified and each result should be a distinct object while copying.
+     * 
+     * @param origins the origins
+     * @param results the vectors to which the origins are copied
+     * @throws IllegalArgumentException if the arrays are not of equal length
+     */
+    public void copy(Location[] origins, Vector[] results) {
+        copy(origins, results, Point::copy);
+    }
+    
+    <T> void copy(Location[] origins, T[] results, Alignment.Copy<T> copy) {
+        if (origins.length != results.length) {
+            throw new IllegalArgumentException("Origins and results should be of equal length, but was " + origins.length + " and " + results.length);
+        }
+        
+        new Alignment<>(this, copy, origins, results, 0, origins.length).invoke();
+    }
+    
     /**
      * Copies the optionally relative coordinates of {@code origin} to this point.
      * 
@@ -148,6 +229,20 @@ public final class Point extends Location {
         if (rotation) Vectors.rotate(this, origin);
     }
     
+    /**
+     * Copies the optionally relative coordinates of {@code origin} to this point, 
+     * using the given precomputed rotation instead of the rotation of {@code origin}.
+     * 
+     * @param origin the origin
+     * @param rotation the rotation, typically created from the yaw and pitch of {@code origin}
+     */
+    public void align(Location origin, Rotation rotation) {
+        if (relative[X]) setX(getX() + origin.getX());
+        if (relative[Y]) setY(getY() + origin.getY());
+        if (relative[Z]) setZ(getZ() + origin.getZ());
+        if (this.rotation) Vectors.rotate(this, rotation);
+    }
+    
     /**
      * Sets the value for the given axis.
      * 
@@ -255,3 +350,78 @@ public final class Point extends Location {
     }
     
 }
+
+/**
+ * A task that copies a {@code Point} relative to a range of origins, splitting 
+ * the range if it is larger than {@link #THRESHOLD}.
+ * 
+ * @param <T> the type of the results
+ */
+class Alignment<T> extends RecursiveAction {
+    
+    /**
+     * Copies a {@code Point} relative to an origin using the given rotation.
+     * 
+     * @param <T> the type of the result
+     */
+    @FunctionalInterface
+    static interface Copy<T> {
+        
+        void copy(Point point, Location origin, Rotation rotation, T result);
+        
+    }
+    
+    static final int THRESHOLD = 512;
+    
+    private final Point point;
+    private final Copy<T> copy;
+    private final Location[] origins;
+    private final T[] results;
+    private final int from;
+    private final int to;
+    
+    Alignment(Point point, Copy<T> copy, Location[] origins, T[] results, int from, int to) {
+        this.point = point;
+        this.copy = copy;
+        this.origins = origins;
+        this.results = results;
+        this.from = from;
+        this.to = to;
+    }
+    
+    @Override
+    protected void compute() {
+        if (to - from > THRESHOLD) {
+            var middle = (from + to) >>> 1;
+            invokeAll(
+                new Alignment<>(point, copy, origins, results, from, middle),
+                new Alignment<>(point, copy, origins, results, middle, to)
+            );
+            return;
+        }
+        
+        Map<Long, Rotation> rotations = null;
+        var rotation = Rotation.IDENTITY;
+        var yaw = Float.NaN;
+        var pitch = Float.NaN;
+        
+        for (int i = from; i < to; i++) {
+            var origin = origins[i];
+            if (point.rotation() && (origin.getYaw() != yaw || origin.getPitch() != pitch)) {
+                if (rotations == null) {
+                    rotations = new HashMap<>();
+                }
+                
+                yaw = origin.getYaw();
+                pitch = origin.getPitch();
+                rotation = rotations.computeIfAbsent(
+                    (long) Float.floatToIntBits(yaw) << 32 | Float.floatToIntBits(pitch) & 0xFFFFFFFFL, 
+                    key -> Rotation.of(origin)
+                );
+            }
+            
+            copy.copy(point, origin, rotation, results[i]);
+        }
+    }
+    
+}
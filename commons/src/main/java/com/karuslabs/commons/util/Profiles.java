@@ -0,0 +1,591 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util;
+
+import com.google.gson.*;
+
+import com.karuslabs.commons.util.collection.ConcurrentPrefixMap;
+import com.karuslabs.commons.util.concurrent.RateLimitedExecutor;
+import com.karuslabs.commons.util.concurrent.RateLimitedExecutor.Policy;
+
+import java.io.*;
+import java.net.URI;
+import java.net.http.*;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.file.*;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+import java.util.regex.Pattern;
+
+import org.bukkit.event.*;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.plugin.Plugin;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.*;
+import static org.bukkit.event.EventPriority.MONITOR;
+
+/**
+ * An index of the unique IDs of players by their names, including players that 
+ * are offline or have never joined the server.
+ * <br><br>
+ * Unlike {@link org.bukkit.Bukkit#getOfflinePlayer(String)}, look-ups never block 
+ * on the network. Names which are not indexed can be explicitly resolved or requested
+ * to be resolved asynchronously via a {@link Resolver}. Resolved names are indexed by their canonical casing and 
+ * appended to a file from which they are loaded again when the server is restarted.
+ * <br><br>
+ * <b>Implementation details:</b><br>
+ * The index is loaded from the user cache of the server and the file of previously 
+ * resolved names when created. It is afterwards updated as players join and names 
+ * are resolved. Concurrent resolutions of the same name are coalesced. Names 
+ * which cannot be resolved are remembered for {@link #UNKNOWN}, after which they
+ * may be resolved again. A {@code Profiles} should be closed when the plugin that
+ * created it is disabled.
+ */
+public class Profiles implements Listener, AutoCloseable {
+    
+    static final String USER_CACHE = "usercache.json";
+    static final String RESOLVED = "profiles.log";
+    static final Pattern NAME = Pattern.compile("\\w{1,16}");
+    
+    /**
+     * The duration for which names that cannot be resolved are remembered.
+     */
+    public static final Duration UNKNOWN = Duration.ofMinutes(10);
+    static final int PRUNE = 1024;
+    
+    /**
+     * The duration for which a requested name must not change before it is resolved.
+     */
+    public static final Duration DEBOUNCE = Duration.ofSeconds(1);
+    static final Executor DELAYED = CompletableFuture.delayedExecutor(DEBOUNCE.toMillis(), TimeUnit.MILLISECONDS);
+    
+    static final int THREADS = 2;
+    static final double RATE = 1;
+    static final long BURST = 10;
+    
+    /**
+     * Creates a {@code Profiles} that resolves unknown names via Mojang's API 
+     * and registers it as a listener for the given plugin. Names are resolved on 
+     * a dedicated pool of {@value #THREADS} daemon threads at a rate of at most 
+     * one name per second, with bursts of at most {@value #BURST} names, so as to 
+     * stay within the rate limit of Mojang's API. Resolutions which exceed the rate 
+     * complete exceptionally. The pool is shut down when the returned {@code Profiles}
+     * is closed.
+     * 
+     * @param plugin the plugin
+     * @return a {@code Profiles}
+     * @throws UncheckedIOException if the user cache or resolved names could not
+     *                              be read
+     */
+    public static Profiles of(Plugin plugin) {
+        var pool = new ScheduledThreadPoolExecutor(THREADS, task -> {
+            var thread = new Thread(task, plugin.getName() + " - Profiles");
+            thread.setDaemon(true);
+            return thread;
+        });
+        pool.setKeepAliveTime(1, TimeUnit.MINUTES);
+        pool.allowCoreThreadTimeOut(true);
+        
+        var executor = new RateLimitedExecutor(pool, RATE, BURST, Policy.REJECT);
+        try {
+            return register(plugin, new Profiles(plugin.getDataFolder().toPath().resolve(RESOLVED), Resolver.MOJANG, executor, pool, System::nanoTime));
+            
+        } catch (RuntimeException e) {
+            pool.shutdown();
+            throw e;
+        }
+    }
+    
+    /**
+     * Creates a {@code Profiles} that resolves unknown names using the given resolver 
+     * on the given executor, and registers it as a listener for the given plugin. 
+     * Resolved names are appended to a file in the data folder of the plugin.
+     * 
+     * @param plugin the plugin
+     * @param resolver the resolver
+     * @param executor the executor on which names are resolved
+     * @return a {@code Profiles}
+     * @throws UncheckedIOException if the user cache or resolved names could not
+     *                              be read
+     */
+    public static Profiles of(Plugin plugin, Resolver resolver, Executor executor) {
+        return register(plugin, new Profiles(plugin.getDataFolder().toPath().resolve(RESOLVED), resolver, executor));
+    }
+    
+    static Profiles register(Plugin plugin, Profiles profiles) {
+        try {
+            profiles.load(plugin.getServer().getWorldContainer().toPath().resolve(USER_CACHE));
+            profiles.load();
+            
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        
+        plugin.getServer().getPluginManager().registerEvents(profiles, plugin);
+        return profiles;
+    }
+    
+    
+    private final ConcurrentPrefixMap<UUID> names = new ConcurrentPrefixMap<>();
+    private final ConcurrentMap<String, CompletableFuture<@Nullable UUID>> pending = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Long> unknown = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Object> requested = new ConcurrentHashMap<>();
+    private final Path file;
+    private final Resolver resolver;
+    private final Executor executor;
+    private final @Nullable ExecutorService pool;
+    private final LongSupplier clock;
+    private @Nullable Writer writer;
+    private boolean closed;
+    
+    /**
+     * Creates an empty {@code Profiles}.
+     * 
+     * @param file the file to which resolved names are appended
+     * @param resolver the resolver
+     * @param executor the executor on which names are resolved
+     * 
+     * @see #of(Plugin, Resolver, Executor)
+     */
+    Profiles(Path file, Resolver resolver, Executor executor) {
+        this(file, resolver, executor, null, System::nanoTime);
+    }
+    
+    Profiles(Path file, Resolver resolver, Executor executor, LongSupplier clock) {
+        this(file, resolver, executor, null, clock);
+    }
+    
+    Profiles(Path file, Resolver resolver, Executor executor, @Nullable ExecutorService pool, LongSupplier clock) {
+        this.file = file;
+        this.resolver = resolver;
+        this.executor = executor;
+        this.pool = pool;
+        this.clock = clock;
+    }
+    
+    
+    /**
+     * Loads the names in the given user cache of the server. Does nothing if the
+     * user cache does not exist.
+     * 
+     * @param cache the user cache
+     * @throws IOException if the user cache could not be read
+     */
+    void load(Path cache) throws IOException {
+        if (Files.notExists(cache)) {
+            return;
+        }
+        
+        try (var reader = Files.newBufferedReader(cache, UTF_8)) {
+            var entries = new Gson().fromJson(reader, Cached[].class);
+            if (entries == null) {
+                return;
+            }
+            
+            for (var entry : entries) {
+                if (entry.name != null && entry.uuid != null) {
+                    names.put(entry.name, UUID.fromString(entry.uuid));
+                }
+            }
+            
+        } catch (JsonParseException | IllegalArgumentException e) {
+            throw new IOException("Invalid user cache: " + cache, e);
+        }
+    }
+    
+    /**
+     * Loads the previously resolved names. Does nothing if no names were previously 
+     * resolved.
+     * 
+     * @throws IOException if the resolved names could not be read
+     */
+    void load() throws IOException {
+        if (Files.notExists(file)) {
+            return;
+        }
+        
+        try (var reader = Files.newBufferedReader(file, UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                var separator = line.indexOf(' ');
+                if (separator == -1) {
+                    continue; // A line may be truncated if the server crashed while writing it
+                }
+                
+                try {
+                    names.put(line.substring(separator + 1), UUID.fromString(line.substring(0, separator)));
+                    
+                } catch (IllegalArgumentException e) {
+                    // ignored
+                }
+            }
+        }
+    }
+    
+    
+    /**
+     * Indexes the player who joined.
+     * 
+     * @param event the event
+     */
+    @EventHandler(priority = MONITOR)
+    protected void join(PlayerJoinEvent event) {
+        names.put(event.getPlayer().getName(), event.getPlayer().getUniqueId());
+    }
+    
+    
+    /**
+     * Returns the unique ID of the player with the given name, ignoring case. 
+     * Names which are not indexed are not resolved.
+     * 
+     * @param name the name of the player
+     * @return the unique ID, or {@code null} if the name is not indexed
+     * 
+     * @see #resolve(String)
+     */
+    public @Nullable UUID get(String name) {
+        return names.get(name);
+    }
+    
+    /**
+     * Requests the unique ID of the player with the given name, ignoring case, to 
+     * be resolved asynchronously after {@link #DEBOUNCE}, unless the name is requested
+     * again or extended by another request in the meantime. Since arguments are parsed 
+     * on every keystroke, this allows names that could not be parsed to be resolved
+     * without resolving every prefix that was typed. Does nothing if the name is
+     * indexed or invalid.
+     * 
+     * @param name the name of the player
+     */
+    public void request(String name) {
+        request(name, DELAYED);
+    }
+    
+    void request(String name, Executor delayed) {
+        if (names.get(name) != null || !NAME.matcher(name).matches()) {
+            return;
+        }
+        
+        var key = name.toLowerCase();
+        for (int i = 1; i < key.length(); i++) {
+            requested.remove(key.substring(0, i));
+        }
+        
+        var request = new Object();
+        requested.put(key, request);
+        delayed.execute(() -> {
+            if (requested.remove(key, request)) {
+                resolve(name);
+            }
+        });
+    }
+    
+    /**
+     * Resolves the unique ID of the player with the given name, ignoring case, 
+     * asynchronously. Resolved names are indexed and appended to the file of 
+     * resolved names.
+     * 
+     * @param name the name of the player
+     * @return a future that contains the unique ID, or {@code null} if no player
+     *         with the given name exists
+     */
+    public CompletableFuture<@Nullable UUID> resolve(String name) {
+        var id = names.get(name);
+        if (id != null) {
+            return CompletableFuture.completedFuture(id);
+            
+        } else if (!NAME.matcher(name).matches()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        
+        var key = name.toLowerCase();
+        var expiry = unknown.get(key);
+        if (expiry != null) {
+            if (expiry - clock.getAsLong() > 0) {
+                return CompletableFuture.completedFuture(null);
+            }
+            
+            unknown.remove(key, expiry);
+        }
+        
+        var future = pending.get(key);
+        if (future != null) {
+            return future;
+        }
+        
+        var created = new CompletableFuture<@Nullable UUID>();
+        future = pending.putIfAbsent(key, created);
+        if (future != null) {
+            return future;
+        }
+        
+        created.whenComplete((resolved, exception) -> pending.remove(key, created));
+        try {
+            executor.execute(() -> {
+                try {
+                    var profile = resolver.resolve(name);
+                    if (profile != null) {
+                        names.put(profile.name(), profile.id());
+                        append(profile.name(), profile.id());
+                        created.complete(profile.id());
+                        
+                    } else {
+                        forget(key);
+                        created.complete(null);
+                    }
+                    
+                } catch (IOException | RuntimeException e) {
+                    created.completeExceptionally(e);
+                }
+            });
+            
+        } catch (RejectedExecutionException e) {
+            created.completeExceptionally(e);
+        }
+        
+        return created;
+    }
+    
+    /**
+     * Remembers that the given name cannot be resolved for {@link #UNKNOWN}. Expired 
+     * names are pruned once more than {@value #PRUNE} names are remembered.
+     * 
+     * @param key the lower-cased name
+     */
+    void forget(String key) {
+        var now = clock.getAsLong();
+        if (unknown.size() >= PRUNE) {
+            unknown.values().removeIf(expiry -> expiry - now <= 0);
+        }
+        
+        unknown.put(key, now + UNKNOWN.toNanos());
+    }
+    
+    /**
+     * Returns the number of names that are remembered as unknown.
+     * 
+     * @return the number of unknown names
+     */
+    int unknown() {
+        return unknown.size();
+    }
+    
+    /**
+     * Appends the given name and unique ID to the file of resolved names. The 
+     * file is opened when the first name is appended.
+     * 
+     * @param name the name
+     * @param id the unique ID
+     * @throws IOException if the name could not be appended or this {@code Profiles}
+     *                     was closed
+     */
+    synchronized void append(String name, UUID id) throws IOException {
+        if (closed) {
+            throw new IOException("Profiles was closed");
+        }
+        
+        if (writer == null) {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            writer = Files.newBufferedWriter(file, UTF_8, CREATE, APPEND, WRITE);
+        }
+        
+        writer.write(id + " " + name + "\n");
+        writer.flush();
+    }
+    
+    /**
+     * Unregisters this {@code Profiles}, shuts down the pool on which names are 
+     * resolved if created by {@link #of(Plugin)} and closes the file of resolved 
+     * names. Resolutions in progress complete exceptionally or are not persisted.
+     * 
+     * @throws IOException if the file of resolved names could not be closed
+     */
+    @Override
+    public void close() throws IOException {
+        HandlerList.unregisterAll(this);
+        if (pool != null) {
+            pool.shutdown();
+        }
+        
+        synchronized (this) {
+            closed = true;
+            if (writer != null) {
+                writer.close();
+                writer = null;
+            }
+        }
+    }
+    
+    
+    /**
+     * Returns the index of names. Names are case-insensitive and may be looked 
+     * up by prefix.
+     * 
+     * @return the names of players
+     */
+    public ConcurrentPrefixMap<UUID> names() {
+        return names;
+    }
+    
+    
+    /**
+     * A resolver which looks up the profiles of players by name, typically from 
+     * a remote service. Resolvers are always invoked asynchronously and may block.
+     */
+    @FunctionalInterface
+    public static interface Resolver {
+        
+        /**
+         * A {@code Resolver} that looks up profiles via Mojang's API. The underlying
+         * HTTP client is created when a name is first resolved.
+         */
+        public static final Resolver MOJANG = new Mojang();
+        
+        /**
+         * Returns the profile of the player with the given name, ignoring case.
+         * 
+         * @param name the name of the player
+         * @return the profile, or {@code null} if no player with the given name 
+         *         exists
+         * @throws IOException if the name could not be resolved
+         */
+        @Nullable Profile resolve(String name) throws IOException;
+        
+    }
+    
+    /**
+     * The canonical name and unique ID of a player.
+     */
+    public static final class Profile {
+        
+        private final String name;
+        private final UUID id;
+        
+        /**
+         * Creates a {@code Profile} with the given name and unique ID.
+         * 
+         * @param name the canonical name
+         * @param id the unique ID
+         */
+        public Profile(String name, UUID id) {
+            this.name = name;
+            this.id = id;
+        }
+        
+        /**
+         * Returns the canonical name of the player.
+         * 
+         * @return the name
+         */
+        public String name() {
+            return name;
+        }
+        
+        /**
+         * Returns the unique ID of the player.
+         * 
+         * @return the unique ID
+         */
+        public UUID id() {
+            return id;
+        }
+        
+    }
+    
+    
+    static class Cached {
+        
+        @Nullable String name;
+        @Nullable String uuid;
+        
+    }
+    
+}
+
+/**
+ * A {@code Resolver} that looks up profiles via Mojang's API.
+ */
+class Mojang implements Profiles.Resolver {
+    
+    static final String PROFILES = "https://api.mojang.com/users/profiles/minecraft/";
+    static final Duration TIMEOUT = Duration.ofSeconds(5);
+    
+    private final Supplier<HttpClient> client;
+    
+    Mojang() {
+        this(() -> Client.CLIENT);
+    }
+    
+    Mojang(Supplier<HttpClient> client) {
+        this.client = client;
+    }
+    
+    @Override
+    public Profiles.@Nullable Profile resolve(String name) throws IOException {
+        var request = HttpRequest.newBuilder(URI.create(PROFILES + name)).timeout(TIMEOUT).GET().build();
+        
+        HttpResponse<String> response;
+        try {
+            response = client.get().send(request, BodyHandlers.ofString(UTF_8));
+            
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while resolving " + name);
+        }
+        
+        return switch (response.statusCode()) {
+            case 200 -> parse(response.body());
+            case 204, 404 -> null;
+            default -> throw new IOException("Failed to resolve " + name + ", status code: " + response.statusCode());
+        };
+    }
+    
+    static Profiles.Profile parse(String body) throws IOException {
+        try {
+            var profile = new Gson().fromJson(body, JsonObject.class);
+            var name = profile.get("name").getAsString();
+            var id = profile.get("id").getAsString();
+            return new Profiles.Profile(name, new UUID(Long.parseUnsignedLong(id.substring(0, 16), 16), Long.parseUnsignedLong(id.substring(16, 32), 16)));
+            
+        } catch (RuntimeException e) {
+            throw new IOException("Invalid profile: " + body, e);
+        }
+    }
+    
+}
+
+/**
+ * Holds the HTTP client used by {@link Mojang}, which is lazily created when first
+ * accessed.
+ */
+final class Client {
+    
+    static final HttpClient CLIENT = HttpClient.newBuilder().connectTimeout(Mojang.TIMEOUT).build();
+    
+}
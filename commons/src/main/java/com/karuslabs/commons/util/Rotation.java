@@ -0,0 +1,222 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util;
+
+import java.util.Arrays;
+
+import org.bukkit.Location;
+
+import static java.lang.Math.*;
+
+/**
+ * An immutable rotation about a yaw and pitch, stored as a precomputed 3x3 matrix.
+ * <br><br>
+ * Creating a {@code Rotation} computes the sine and cosine of the angles once.
+ * Rotating a point afterwards costs only several multiply-adds, so the same
+ * {@code Rotation} should be reused when rotating many points about the same
+ * yaw and pitch.
+ */
+public final class Rotation {
+    
+    /**
+     * A rotation that leaves all points unchanged.
+     */
+    public static final Rotation IDENTITY = new Rotation(new double[] {
+        1, 0, 0,
+        0, 1, 0,
+        0, 0, 1
+    });
+    
+    /**
+     * Creates a {@code Rotation} about the yaw and pitch of the given pivot.
+     * 
+     * @param pivot the pivot
+     * @return a rotation about the pivot's yaw and pitch
+     */
+    public static Rotation of(Location pivot) {
+        return of(pivot.getYaw(), pivot.getPitch());
+    }
+    
+    /**
+     * Creates a {@code Rotation} about the given yaw and pitch. The rotation is
+     * equivalent to {@link Vectors#rotate(org.bukkit.util.Vector, float, float)}.
+     * 
+     * @param yawDegrees the yaw in degrees
+     * @param pitchDegrees the pitch in degrees
+     * @return a rotation about the given yaw and pitch
+     */
+    public static Rotation of(float yawDegrees, float pitchDegrees) {
+        double yaw = toRadians(-(yawDegrees + 90));
+        double pitch = toRadians(-pitchDegrees);
+        
+        return of(cos(yaw), sin(yaw), cos(pitch), sin(pitch));
+    }
+    
+    static Rotation of(double cosYaw, double sinYaw, double cosPitch, double sinPitch) {
+        return new Rotation(new double[] {
+            cosPitch * cosYaw, -sinPitch * cosYaw, sinYaw,
+            sinPitch, cosPitch, 0,
+            -cosPitch * sinYaw, sinPitch * sinYaw, cosYaw
+        });
+    }
+    
+    
+    /**
+     * A lookup table of sines and cosines quantized to a fixed number of steps 
+     * per turn. Creating a {@code Rotation} through a {@code Table} trades accuracy
+     * for avoiding trigonometric functions entirely.
+     */
+    public static final class Table {
+        
+        private final double[] sines;
+        private final int quarter;
+        private final double scale;
+        
+        /**
+         * Creates a {@code Table} with the given number of steps per turn. 
+         * Angles are rounded to the nearest step, i.e. a table with {@code 360} 
+         * steps is accurate to within half a degree.
+         * 
+         * @param steps the number of steps per turn
+         * @throws IllegalArgumentException if {@code steps} is not a positive 
+         *         multiple of {@code 4}
+         */
+        public Table(int steps) {
+            if (steps <= 0 || steps % 4 != 0) {
+                throw new IllegalArgumentException("Steps should be a positive multiple of 4, but was " + steps);
+            }
+            
+            sines = new double[steps];
+            for (int i = 0; i < steps; i++) {
+                sines[i] = sin(2 * PI * i / steps);
+            }
+            
+            quarter = steps / 4;
+            scale = steps / 360.0;
+        }
+        
+        /**
+         * Creates a {@code Rotation} about the yaw and pitch of the given pivot.
+         * 
+         * @param pivot the pivot
+         * @return an approximate rotation about the pivot's yaw and pitch
+         */
+        public Rotation of(Location pivot) {
+            return of(pivot.getYaw(), pivot.getPitch());
+        }
+        
+        /**
+         * Creates a {@code Rotation} about the given yaw and pitch, rounded to 
+         * the nearest step in this table.
+         * 
+         * @param yawDegrees the yaw in degrees
+         * @param pitchDegrees the pitch in degrees
+         * @return an approximate rotation about the given yaw and pitch
+         */
+        public Rotation of(float yawDegrees, float pitchDegrees) {
+            int yaw = index(-(yawDegrees + 90));
+            int pitch = index(-pitchDegrees);
+            
+            return Rotation.of(cos(yaw), sines[yaw], cos(pitch), sines[pitch]);
+        }
+        
+        int index(double degrees) {
+            return (int) Math.floorMod(Math.round(degrees * scale), (long) sines.length);
+        }
+        
+        double cos(int index) {
+            return sines[(index + quarter) % sines.length];
+        }
+        
+        /**
+         * Returns the maximum error of an angle in degrees.
+         * 
+         * @return the maximum error in degrees
+         */
+        public double accuracy() {
+            return 180.0 / sines.length;
+        }
+        
+    }
+    
+    
+    final double[] matrix;
+    
+    Rotation(double[] matrix) {
+        this.matrix = matrix;
+    }
+    
+    /**
+     * Returns a {@code Rotation} equivalent to applying this rotation, followed 
+     * by {@code other}.
+     * 
+     * @param other the rotation to apply after this rotation
+     * @return the composed rotation
+     */
+    public Rotation then(Rotation other) {
+        var a = other.matrix;
+        var b = matrix;
+        var result = new double[9];
+        
+        for (int row = 0; row < 3; row++) {
+            for (int column = 0; column < 3; column++) {
+                result[row * 3 + column] = a[row * 3] * b[column] 
+                                         + a[row * 3 + 1] * b[3 + column] 
+                                         + a[row * 3 + 2] * b[6 + column];
+            }
+        }
+        
+        return new Rotation(result);
+    }
+    
+    /**
+     * Returns the {@code Rotation} that reverses this rotation.
+     * 
+     * @return the inverse of this rotation
+     */
+    public Rotation inverse() {
+        return new Rotation(new double[] {
+            matrix[0], matrix[3], matrix[6],
+            matrix[1], matrix[4], matrix[7],
+            matrix[2], matrix[5], matrix[8]
+        });
+    }
+    
+    
+    @Override
+    public boolean equals(Object other) {
+        return this == other || other instanceof Rotation rotation && Arrays.equals(matrix, rotation.matrix);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(matrix);
+    }
+    
+    @Override
+    public String toString() {
+        return "Rotation" + Arrays.toString(matrix);
+    }
+    
+}
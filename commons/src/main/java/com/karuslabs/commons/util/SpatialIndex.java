@@ -0,0 +1,432 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Predicate;
+
+import org.bukkit.*;
+import org.bukkit.util.BoundingBox;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A spatial index that buckets values by the chunk in which they are located. 
+ * Queries only visit the chunks that intersect the queried region and hence 
+ * take time roughly proportional to the number of results instead of the number 
+ * of indexed values.
+ * <br><br>
+ * <b>Implementation details:</b><br>
+ * This index is thread-safe. It is typically updated on the main thread in 
+ * response to events while queries may be performed on any thread. A value is 
+ * only visited through the cell of its current position and is hence returned 
+ * at most once by a query, even while it is being moved. A query that is concurrent
+ * with an update may however miss the moved value.
+ * 
+ * @param <T> the type of the indexed values
+ */
+public class SpatialIndex<T> {
+    
+    static final int SHIFT = 4;
+    static final int CHUNK = 1 << SHIFT;
+    
+    private final ConcurrentMap<World, ConcurrentMap<Long, Set<T>>> worlds = new ConcurrentHashMap<>();
+    private final ConcurrentMap<T, Position> positions = new ConcurrentHashMap<>();
+    
+    
+    /**
+     * Inserts the value at the given location, or moves it if it was already indexed.
+     * 
+     * @param value the value
+     * @param location the location of the value
+     * @throws IllegalArgumentException if the location has no world
+     */
+    public void update(T value, Location location) {
+        var world = location.getWorld();
+        if (world == null) {
+            throw new IllegalArgumentException("Location should have a world");
+        }
+        
+        update(value, world, location.getX(), location.getY(), location.getZ());
+    }
+    
+    /**
+     * Inserts the value at the given coordinates, or moves it if it was already indexed.
+     * 
+     * @param value the value
+     * @param world the world
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @param z the z coordinate
+     */
+    public void update(T value, World world, double x, double y, double z) {
+        var position = new Position(world, x, y, z);
+        var previous = positions.put(value, position);
+        
+        if (previous == null || previous.world != world || previous.cell != position.cell) {
+            worlds.computeIfAbsent(world, key -> new ConcurrentHashMap<>()).compute(position.cell, (key, values) -> {
+                if (values == null) {
+                    values = ConcurrentHashMap.newKeySet();
+                }
+                values.add(value);
+                return values;
+            });
+            
+            if (previous != null) {
+                leave(value, previous);
+            }
+        }
+    }
+    
+    /**
+     * Removes the value from this index.
+     * 
+     * @param value the value
+     * @return {@code true} if the value was indexed
+     */
+    public boolean remove(T value) {
+        var position = positions.remove(value);
+        if (position != null) {
+            leave(value, position);
+        }
+        
+        return position != null;
+    }
+    
+    void leave(T value, Position position) {
+        var cells = worlds.get(position.world);
+        if (cells != null) {
+            cells.computeIfPresent(position.cell, (key, values) -> {
+                values.remove(value);
+                return values.isEmpty() ? null : values;
+            });
+        }
+    }
+    
+    /**
+     * Removes all values in the given world from this index.
+     * 
+     * @param world the world
+     */
+    public void remove(World world) {
+        var cells = worlds.remove(world);
+        if (cells != null) {
+            for (var values : cells.values()) {
+                for (var value : values) {
+                    positions.computeIfPresent(value, (key, position) -> position.world == world ? null : position);
+                }
+            }
+        }
+    }
+    
+    
+    /**
+     * Returns the value nearest to the given location within the given radius.
+     * 
+     * @param center the center of the search
+     * @param radius the radius, which may be {@link Double#POSITIVE_INFINITY}
+     * @return the nearest value, or {@code null} if no value is within the radius
+     */
+    public @Nullable T nearest(Location center, double radius) {
+        return nearest(center, radius, value -> true);
+    }
+    
+    /**
+     * Returns the value nearest to the given location within the given radius
+     * that matches the given filter.
+     * 
+     * @param center the center of the search
+     * @param radius the radius, which may be {@link Double#POSITIVE_INFINITY}
+     * @param filter the filter
+     * @return the nearest value, or {@code null} if no value is within the radius
+     */
+    public @Nullable T nearest(Location center, double radius, Predicate<? super T> filter) {
+        var cells = worlds.get(center.getWorld());
+        if (cells == null) {
+            return null;
+        }
+        
+        var x = center.getX();
+        var y = center.getY();
+        var z = center.getZ();
+        var chunkX = chunk(x);
+        var chunkZ = chunk(z);
+        var span = 2 * (Math.ceil(radius / CHUNK) + 1) + 1;
+        
+        var nearest = new Nearest(radius * radius);
+        
+        // Visiting the rings of cells only pays off if they contain fewer cells than the world.
+        if (span * span > cells.size()) {
+            for (var entry : cells.entrySet()) {
+                nearest.visit(entry.getKey(), entry.getValue(), center.getWorld(), x, y, z, filter);
+            }
+            return nearest.value;
+        }
+        
+        var rings = (int) (span - 1) / 2;
+        for (int ring = 0; ring <= rings; ring++) {
+            for (int i = -ring; i <= ring; i++) {
+                nearest.visit(key(chunkX + i, chunkZ - ring), cells, center.getWorld(), x, y, z, filter);
+                if (ring != 0) {
+                    nearest.visit(key(chunkX + i, chunkZ + ring), cells, center.getWorld(), x, y, z, filter);
+                }
+            }
+            
+            for (int i = -ring + 1; i < ring; i++) {
+                nearest.visit(key(chunkX - ring, chunkZ + i), cells, center.getWorld(), x, y, z, filter);
+                nearest.visit(key(chunkX + ring, chunkZ + i), cells, center.getWorld(), x, y, z, filter);
+            }
+            
+            // Values in subsequent rings are at least this far from the center.
+            var bound = (double) ring * CHUNK;
+            if (nearest.value != null && nearest.distance <= bound * bound) {
+                break;
+            }
+        }
+        
+        return nearest.value;
+    }
+    
+    /**
+     * Returns the values within the given radius of the given location.
+     * 
+     * @param center the center of the search
+     * @param radius the radius
+     * @return the values within the radius
+     */
+    public List<T> radius(Location center, double radius) {
+        return radius(center, radius, value -> true);
+    }
+    
+    /**
+     * Returns the values within the given radius of the given location that match
+     * the given filter.
+     * 
+     * @param center the center of the search
+     * @param radius the radius
+     * @param filter the filter
+     * @return the values within the radius
+     */
+    public List<T> radius(Location center, double radius, Predicate<? super T> filter) {
+        var x = center.getX();
+        var y = center.getY();
+        var z = center.getZ();
+        var squared = radius * radius;
+        
+        var results = new ArrayList<T>();
+        visit(center.getWorld(), x - radius, z - radius, x + radius, z + radius, (value, position) -> {
+            if (position.distance(x, y, z) <= squared && filter.test(value)) {
+                results.add(value);
+            }
+        });
+        
+        return results;
+    }
+    
+    /**
+     * Returns the values inside the given box.
+     * 
+     * @param world the world
+     * @param box the box
+     * @return the values inside the box
+     */
+    public List<T> box(World world, BoundingBox box) {
+        return box(world, box, value -> true);
+    }
+    
+    /**
+     * Returns the values inside the given box that match the given filter.
+     * 
+     * @param world the world
+     * @param box the box
+     * @param filter the filter
+     * @return the values inside the box
+     */
+    public List<T> box(World world, BoundingBox box, Predicate<? super T> filter) {
+        var results = new ArrayList<T>();
+        visit(world, box.getMinX(), box.getMinZ(), box.getMaxX(), box.getMaxZ(), (value, position) -> {
+            if (box.contains(position.x, position.y, position.z) && filter.test(value)) {
+                results.add(value);
+            }
+        });
+        
+        return results;
+    }
+    
+    void visit(@Nullable World world, double minX, double minZ, double maxX, double maxZ, Visitor<T> visitor) {
+        var cells = worlds.get(world);
+        if (cells == null) {
+            return;
+        }
+        
+        long fromX = chunk(minX);
+        long fromZ = chunk(minZ);
+        long toX = chunk(maxX);
+        long toZ = chunk(maxZ);
+        
+        if (((double) toX - fromX + 1) * ((double) toZ - fromZ + 1) > cells.size()) {
+            for (var entry : cells.entrySet()) {
+                visit(entry.getKey(), entry.getValue(), world, visitor);
+            }
+            return;
+        }
+        
+        for (var chunkX = fromX; chunkX <= toX; chunkX++) {
+            for (var chunkZ = fromZ; chunkZ <= toZ; chunkZ++) {
+                var cell = key(chunkX, chunkZ);
+                var values = cells.get(cell);
+                if (values != null) {
+                    visit(cell, values, world, visitor);
+                }
+            }
+        }
+    }
+    
+    void visit(long cell, Set<T> values, World world, Visitor<T> visitor) {
+        for (var value : values) {
+            var position = positions.get(value);
+            if (position != null && position.world == world && position.cell == cell) {
+                visitor.visit(value, position);
+            }
+        }
+    }
+    
+    
+    /**
+     * Returns the location of the given value.
+     * 
+     * @param value the value
+     * @return the location of the value, or {@code null} if the value is not indexed
+     */
+    public @Nullable Location location(T value) {
+        var position = positions.get(value);
+        return position == null ? null : new Location(position.world, position.x, position.y, position.z);
+    }
+    
+    /**
+     * Returns whether the given value is indexed.
+     * 
+     * @param value the value
+     * @return {@code true} if the value is indexed
+     */
+    public boolean contains(T value) {
+        return positions.containsKey(value);
+    }
+    
+    /**
+     * Returns the number of indexed values.
+     * 
+     * @return the number of indexed values
+     */
+    public int size() {
+        return positions.size();
+    }
+    
+    
+    static long chunk(double coordinate) {
+        return (long) Math.floor(coordinate) >> SHIFT;
+    }
+    
+    static long key(long chunkX, long chunkZ) {
+        return chunkX << 32 | chunkZ & 0xFFFFFFFFL;
+    }
+    
+    
+    /**
+     * Visits an indexed value and its position.
+     * 
+     * @param <T> the type of the value
+     */
+    @FunctionalInterface
+    static interface Visitor<T> {
+        
+        void visit(T value, Position position);
+        
+    }
+    
+    /**
+     * The position of an indexed value.
+     */
+    static final class Position {
+        
+        final World world;
+        final double x;
+        final double y;
+        final double z;
+        final long cell;
+        
+        Position(World world, double x, double y, double z) {
+            this.world = world;
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.cell = key(chunk(x), chunk(z));
+        }
+        
+        double distance(double x, double y, double z) {
+            var dx = this.x - x;
+            var dy = this.y - y;
+            var dz = this.z - z;
+            return dx * dx + dy * dy + dz * dz;
+        }
+        
+    }
+    
+    /**
+     * The nearest value visited so far.
+     */
+    final class Nearest {
+        
+        @Nullable T value;
+        double distance;
+        
+        Nearest(double distance) {
+            this.distance = distance;
+        }
+        
+        void visit(long cell, Map<Long, Set<T>> cells, World world, double x, double y, double z, Predicate<? super T> filter) {
+            visit(cell, cells.get(cell), world, x, y, z, filter);
+        }
+        
+        void visit(long cell, @Nullable Set<T> values, World world, double x, double y, double z, Predicate<? super T> filter) {
+            if (values == null) {
+                return;
+            }
+            
+            for (var value : values) {
+                var position = positions.get(value);
+                if (position != null && position.world == world && position.cell == cell) {
+                    var squared = position.distance(x, y, z);
+                    if (squared <= distance && filter.test(value)) {
+                        this.value = value;
+                        distance = squared;
+                    }
+                }
+            }
+        }
+        
+    }
+    
+}
@@ -25,6 +25,8 @@ package com.karuslabs.commons.util;
 
 import com.karuslabs.annotations.Static;
 
+import java.util.Objects;
+
 import org.bukkit.Location;
 import org.bukkit.util.Vector;
 
@@ -146,6 +148,17 @@ public @Static class Vectors {
         return rotate(VECTOR, vector, vector.getX(), vector.getY(), vector.getZ(), yawDegrees, pitchDegrees);
     }
     
+    /**
+     * Rotates the vector using the given rotation.
+     * 
+     * @param vector the vector
+     * @param rotation the rotation
+     * @return the given vector
+     */
+    public static Vector rotate(Vector vector, Rotation rotation) {
+        return rotate(VECTOR, vector, vector.getX(), vector.getY(), vector.getZ(), rotation);
+    }
+    
     
     /**
      * Rotates the location about the given pivot.
@@ -170,6 +183,17 @@ public @Static class Vectors {
         return rotate(LOCATION, location, location.getX(), location.getY(), location.getZ(), yawDegrees, pitchDegrees);
     }
     
+    /**
+     * Rotates the location using the given rotation.
+     * 
+     * @param location the location
+     * @param rotation the rotation
+     * @return the given location
+     */
+    public static Location rotate(Location location, Rotation rotation) {
+        return rotate(LOCATION, location, location.getX(), location.getY(), location.getZ(), rotation);
+    }
+    
     
     /**
      * Rotates the x, y and z coordinates about the given yaw and pitch and reduces
@@ -207,7 +231,150 @@ public @Static class Vectors {
 
         return reducer.reduce(container, x, y, z);
     }
+    
+    /**
+     * Rotates the x, y and z coordinates using the given rotation and reduces
+     * the resultant coordinates to the given container.
+     * 
+     * @param <T> the type of the container
+     * @param reducer the reducing function
+     * @param container the container
+     * @param x the X coordinate
+     * @param y the Y coordinate
+     * @param z the Z coordinate
+     * @param rotation the rotation
+     * @return the given container
+     */
+    static <T> T rotate(Reduction<T> reducer, T container, double x, double y, double z, Rotation rotation) {
+        var m = rotation.matrix;
+        return reducer.reduce(
+            container,
+            m[0] * x + m[1] * y + m[2] * z,
+            m[3] * x + m[4] * y + m[5] * z,
+            m[6] * x + m[7] * y + m[8] * z
+        );
+    }
 
+    /**
+     * Rotates the points, represented as separate arrays of x, y and z coordinates, 
+     * about the given pivot.
+     * 
+     * @param xs the x coordinates
+     * @param ys the y coordinates
+     * @param zs the z coordinates
+     * @param pivot the pivot which the points are rotated about
+     * @throws IllegalArgumentException if the arrays are not of equal length
+     */
+    public static void rotate(double[] xs, double[] ys, double[] zs, Location pivot) {
+        rotate(xs, ys, zs, pivot.getYaw(), pivot.getPitch());
+    }
+    
+    /**
+     * Rotates the points, represented as separate arrays of x, y and z coordinates, 
+     * about the given yaw and pitch.
+     * 
+     * @param xs the x coordinates
+     * @param ys the y coordinates
+     * @param zs the z coordinates
+     * @param yawDegrees the yaw in degrees
+     * @param pitchDegrees the pitch in degrees
+     * @throws IllegalArgumentException if the arrays are not of equal length
+     */
+    public static void rotate(double[] xs, double[] ys, double[] zs, float yawDegrees, float pitchDegrees) {
+        if (xs.length != ys.length || xs.length != zs.length) {
+            throw new IllegalArgumentException("Coordinate arrays should be of equal length, but was " + xs.length + ", " + ys.length + " and " + zs.length);
+        }
+        
+        rotate(xs, ys, zs, 0, xs.length, Rotation.of(yawDegrees, pitchDegrees).matrix);
+    }
+    
+    /**
+     * Rotates the given range of points, represented as separate arrays of x, y 
+     * and z coordinates, about the given yaw and pitch. The sine and cosine of 
+     * the angles are only computed once for all points.
+     * 
+     * @param xs the x coordinates
+     * @param ys the y coordinates
+     * @param zs the z coordinates
+     * @param offset the index of the first point to be rotated
+     * @param length the number of points to be rotated
+     * @param yawDegrees the yaw in degrees
+     * @param pitchDegrees the pitch in degrees
+     * @throws IndexOutOfBoundsException if the range is out of bounds of any array
+     */
+    public static void rotate(double[] xs, double[] ys, double[] zs, int offset, int length, float yawDegrees, float pitchDegrees) {
+        rotate(xs, ys, zs, offset, length, Rotation.of(yawDegrees, pitchDegrees));
+    }
+    
+    /**
+     * Rotates the points, represented as separate arrays of x, y and z coordinates, 
+     * using the given rotation.
+     * 
+     * @param xs the x coordinates
+     * @param ys the y coordinates
+     * @param zs the z coordinates
+     * @param rotation the rotation
+     * @throws IllegalArgumentException if the arrays are not of equal length
+     */
+    public static void rotate(double[] xs, double[] ys, double[] zs, Rotation rotation) {
+        if (xs.length != ys.length || xs.length != zs.length) {
+            throw new IllegalArgumentException("Coordinate arrays should be of equal length, but was " + xs.length + ", " + ys.length + " and " + zs.length);
+        }
+        
+        rotate(xs, ys, zs, 0, xs.length, rotation.matrix);
+    }
+    
+    /**
+     * Rotates the given range of points, represented as separate arrays of x, y 
+     * and z coordinates, using the given rotation.
+     * 
+     * @param xs the x coordinates
+     * @param ys the y coordinates
+     * @param zs the z coordinates
+     * @param offset the index of the first point to be rotated
+     * @param length the number of points to be rotated
+     * @param rotation the rotation
+     * @throws IndexOutOfBoundsException if the range is out of bounds of any array
+     */
+    public static void rotate(double[] xs, double[] ys, double[] zs, int offset, int length, Rotation rotation) {
+        Objects.checkFromIndexSize(offset, length, xs.length);
+        Objects.checkFromIndexSize(offset, length, ys.length);
+        Objects.checkFromIndexSize(offset, length, zs.length);
+        
+        rotate(xs, ys, zs, offset, offset + length, rotation.matrix);
+    }
+    
+    /**
+     * Rotates the given range of points using the given rotation matrix.
+     * <br><br>
+     * <b>Implementation details:</b><br>
+     * The loop is kept free of branches and calls over separate coordinate arrays 
+     * so that it can be auto-vectorized by the JIT compiler.
+     * 
+     * @param xs the x coordinates
+     * @param ys the y coordinates
+     * @param zs the z coordinates
+     * @param from the index of the first point, inclusive
+     * @param to the index of the last point, exclusive
+     * @param matrix the row-major 3x3 rotation matrix
+     */
+    static void rotate(double[] xs, double[] ys, double[] zs, int from, int to, double[] matrix) {
+        double m00 = matrix[0], m01 = matrix[1], m02 = matrix[2];
+        double m10 = matrix[3], m11 = matrix[4], m12 = matrix[5];
+        double m20 = matrix[6], m21 = matrix[7], m22 = matrix[8];
+        
+        for (int i = from; i < to; i++) {
+            double x = xs[i];
+            double y = ys[i];
+            double z = zs[i];
+            
+            xs[i] = m00 * x + m01 * y + m02 * z;
+            ys[i] = m10 * x + m11 * y + m12 * z;
+            zs[i] = m20 * x + m21 * y + m22 * z;
+        }
+    }
+    
+    
     /**
      * Returns the angle <i>theta</i> from the conversion of the given vector coordinates 
      * ({@code x} and {@code y}) to polar coordinates (r,&nbsp;<i>theta</i>).
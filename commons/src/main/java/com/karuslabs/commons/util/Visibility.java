@@ -0,0 +1,163 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+
+/**
+ * The players hidden from each online player, which can be queried in constant
+ * time on any thread.
+ * <br><br>
+ * Bukkit does not emit events when players are hidden or shown. Hence, players 
+ * should be hidden or shown through {@link #hide(Plugin, Player, Player)} and
+ * {@link #show(Plugin, Player, Player)}, or changes made by other plugins reported 
+ * via {@link #hide(Player, Player)}, {@link #show(Player, Player)} and 
+ * {@link #refresh(Player, Collection)}.
+ * <br><br>
+ * <b>Implementation details:</b><br>
+ * Hidden players are tracked by their unique IDs, similar to Bukkit. A hidden player
+ * therefore remains hidden after reconnecting. An epoch is incremented whenever 
+ * the visibility of any player changes, allowing cached results derived from
+ * visibility to be invalidated.
+ */
+public class Visibility {
+    
+    private final ConcurrentMap<UUID, Set<UUID>> hidden = new ConcurrentHashMap<>();
+    private final AtomicLong epoch = new AtomicLong();
+    
+    
+    /**
+     * Hides {@code target} from {@code viewer} and records it. This method should 
+     * only be called on the main thread.
+     * 
+     * @param plugin the plugin which requests the target to be hidden
+     * @param viewer the viewer
+     * @param target the player to be hidden
+     */
+    public void hide(Plugin plugin, Player viewer, Player target) {
+        viewer.hidePlayer(plugin, target);
+        hide(viewer, target);
+    }
+    
+    /**
+     * Shows {@code target} to {@code viewer} and records it. This method should
+     * only be called on the main thread.
+     * 
+     * @param plugin the plugin which requests the target to be shown
+     * @param viewer the viewer
+     * @param target the player to be shown
+     */
+    public void show(Plugin plugin, Player viewer, Player target) {
+        viewer.showPlayer(plugin, target);
+        show(viewer, target);
+    }
+    
+    /**
+     * Records that {@code target} was hidden from {@code viewer}.
+     * 
+     * @param viewer the viewer
+     * @param target the hidden player
+     */
+    public void hide(Player viewer, Player target) {
+        if (hidden.computeIfAbsent(viewer.getUniqueId(), key -> ConcurrentHashMap.newKeySet()).add(target.getUniqueId())) {
+            epoch.incrementAndGet();
+        }
+    }
+    
+    /**
+     * Records that {@code target} was shown to {@code viewer}.
+     * 
+     * @param viewer the viewer
+     * @param target the shown player
+     */
+    public void show(Player viewer, Player target) {
+        var players = hidden.get(viewer.getUniqueId());
+        if (players != null && players.remove(target.getUniqueId())) {
+            epoch.incrementAndGet();
+        }
+    }
+    
+    /**
+     * Rebuilds the players hidden from {@code viewer} by checking if the viewer
+     * can see each of the given players. This method should only be called on 
+     * the main thread.
+     * 
+     * @param viewer the viewer
+     * @param players the players, typically all online players
+     */
+    public void refresh(Player viewer, Collection<? extends Player> players) {
+        Set<UUID> refreshed = ConcurrentHashMap.newKeySet();
+        for (var player : players) {
+            if (player != viewer && !viewer.canSee(player)) {
+                refreshed.add(player.getUniqueId());
+            }
+        }
+        
+        var previous = refreshed.isEmpty() ? hidden.remove(viewer.getUniqueId()) : hidden.put(viewer.getUniqueId(), refreshed);
+        if (!Objects.equals(previous == null ? Set.of() : previous, refreshed)) {
+            epoch.incrementAndGet();
+        }
+    }
+    
+    /**
+     * Removes the players hidden from {@code viewer}.
+     * 
+     * @param viewer the viewer
+     */
+    public void remove(Player viewer) {
+        var previous = hidden.remove(viewer.getUniqueId());
+        if (previous != null && !previous.isEmpty()) {
+            epoch.incrementAndGet();
+        }
+    }
+    
+    
+    /**
+     * Returns whether {@code viewer} can see {@code target}. This method is thread-safe.
+     * 
+     * @param viewer the viewer
+     * @param target the target
+     * @return {@code true} if the target is not hidden from the viewer
+     */
+    public boolean canSee(Player viewer, Player target) {
+        var players = hidden.get(viewer.getUniqueId());
+        return players == null || !players.contains(target.getUniqueId());
+    }
+    
+    /**
+     * Returns the epoch, which is incremented whenever the visibility of any player
+     * changes.
+     * 
+     * @return the epoch
+     */
+    public long epoch() {
+        return epoch.get();
+    }
+    
+}
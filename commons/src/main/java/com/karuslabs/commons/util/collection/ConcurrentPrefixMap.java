@@ -0,0 +1,84 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util.collection;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * A concurrent map of strings which supports case-insensitive prefix look-ups. 
+ * The average time complexity for a prefix look-up is {@code O(log n + k)} where 
+ * {@code n} is the number of keys and {@code k} is the number of keys that start 
+ * with the prefix.
+ * <br><br>
+ * <b>Implementation details:</b><br>
+ * Keys are compared case-insensitively in a {@code ConcurrentSkipListMap}. All keys 
+ * that start with a prefix are hence adjacent and retrieved as a range instead 
+ * of traversing the entire map. Unlike a {@link Trie}, look-ups and modifications 
+ * are thread-safe and non-blocking.
+ * 
+ * @param <V> the type of the values
+ */
+public class ConcurrentPrefixMap<V> extends ConcurrentSkipListMap<String, V> {
+    
+    /**
+     * Creates a {@code ConcurrentPrefixMap}.
+     */
+    public ConcurrentPrefixMap() {
+        super(String.CASE_INSENSITIVE_ORDER);
+    }
+    
+    /**
+     * Returns a view of the entries whose keys start with the given prefix, ignoring 
+     * case.
+     * 
+     * @param prefix the prefix
+     * @return a view of the entries whose keys start with the given prefix
+     */
+    public ConcurrentNavigableMap<String, V> prefixed(String prefix) {
+        return subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+    }
+    
+    /**
+     * Returns a view of the keys that start with the given prefix, ignoring case.
+     * 
+     * @param prefix the prefix
+     * @return a view of the keys that start with the given prefix
+     */
+    public NavigableSet<String> prefixedKeys(String prefix) {
+        return prefixed(prefix).navigableKeySet();
+    }
+    
+    /**
+     * Returns a view of the values whose associated keys start with the given prefix,
+     * ignoring case.
+     * 
+     * @param prefix the prefix
+     * @return a view of the values whose associated keys start with the given prefix
+     */
+    public Collection<V> prefixedValues(String prefix) {
+        return prefixed(prefix).values();
+    }
+    
+}
@@ -0,0 +1,329 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util.concurrent;
+
+import java.util.concurrent.atomic.*;
+
+import javax.management.ConstructorParameters;
+
+/**
+ * A lock-free histogram of non-negative {@code long} values, i.e. latencies in 
+ * nanoseconds, that can be concurrently recorded and read.
+ * <br><br>
+ * Values are recorded in buckets that are linear within each power of two, similar 
+ * to a {@code HdrHistogram}. Values below {@value #EXACT} are recorded exactly 
+ * while larger values are recorded with a relative error of at most 1/{@value #EXACT}.
+ * Recording a value never allocates.
+ */
+public final class Histogram {
+    
+    static final int BITS = 5;
+    /**
+     * The number of values below which values are recorded exactly.
+     */
+    public static final int EXACT = 1 << BITS;
+    static final int BUCKETS = (Long.SIZE - BITS) << BITS;
+    
+    /**
+     * Returns the index of the bucket in which the given value is recorded.
+     * 
+     * @param value the value
+     * @return the index of the bucket
+     */
+    static int index(long value) {
+        if (value < EXACT) {
+            return (int) value;
+        }
+        
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int mantissa = (int) (value >>> (exponent - BITS)) & (EXACT - 1);
+        return ((exponent - BITS + 1) << BITS) + mantissa;
+    }
+    
+    /**
+     * Returns the largest value that is recorded in the given bucket.
+     * 
+     * @param index the index of the bucket
+     * @return the largest value in the bucket
+     */
+    static long ceiling(int index) {
+        if (index < EXACT) {
+            return index;
+        }
+        
+        int exponent = (index >> BITS) + BITS - 1;
+        long lower = (long) (EXACT + (index & (EXACT - 1))) << (exponent - BITS);
+        return lower + (1L << (exponent - BITS)) - 1;
+    }
+    
+    
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+    
+    /**
+     * Records the given value. Negative values are recorded as {@code 0}.
+     * 
+     * @param value the value
+     */
+    public void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+        
+        buckets.incrementAndGet(index(value));
+        count.increment();
+        sum.add(value);
+        
+        long current;
+        while (value > (current = max.get()) && !max.compareAndSet(current, value)) {
+            Thread.onSpinWait();
+        }
+    }
+    
+    /**
+     * Returns an approximation of the value below which the given percentage of 
+     * recorded values fall. The approximation never exceeds {@link #max()}.
+     * 
+     * @param percentile the percentile, between {@code 0} and {@code 100} inclusive
+     * @return the value at the given percentile, or {@code 0} if no values were 
+     *         recorded
+     * @throws IllegalArgumentException if the percentile is not between {@code 0}
+     *                                  and {@code 100}
+     */
+    public long percentile(double percentile) {
+        return percentiles(percentile)[0];
+    }
+    
+    /**
+     * Returns approximations of the values at the given percentiles in a single
+     * pass over the buckets.
+     * 
+     * @param percentiles the percentiles in ascending order, each between {@code 0} 
+     *                    and {@code 100} inclusive
+     * @return the values at the given percentiles
+     * @throws IllegalArgumentException if a percentile is not between {@code 0} 
+     *                                  and {@code 100}, or the percentiles are not
+     *                                  in ascending order
+     */
+    long[] percentiles(double... percentiles) {
+        for (int i = 0; i < percentiles.length; i++) {
+            var percentile = percentiles[i];
+            if (percentile < 0 || percentile > 100) {
+                throw new IllegalArgumentException("Percentile should be between 0 and 100, but was " + percentile);
+                
+            } else if (i > 0 && percentile < percentiles[i - 1]) {
+                throw new IllegalArgumentException("Percentiles should be in ascending order");
+            }
+        }
+        
+        var values = new long[percentiles.length];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            total += buckets.get(i);
+        }
+        
+        if (total == 0) {
+            return values;
+        }
+        
+        long max = max();
+        int j = 0;
+        long target = target(percentiles[j], total);
+        long cumulative = 0;
+        // Values recorded concurrently only increase the cumulative count of the second pass
+        for (int i = 0; i < BUCKETS && j < percentiles.length; i++) {
+            cumulative += buckets.get(i);
+            while (j < percentiles.length && cumulative >= target) {
+                values[j++] = Math.min(ceiling(i), max);
+                if (j < percentiles.length) {
+                    target = target(percentiles[j], total);
+                }
+            }
+        }
+        
+        for (; j < percentiles.length; j++) {
+            values[j] = max;
+        }
+        
+        return values;
+    }
+    
+    static long target(double percentile, long total) {
+        return Math.max(1, (long) Math.ceil(percentile / 100 * total));
+    }
+    
+    /**
+     * Returns the mean of the recorded values.
+     * 
+     * @return the mean, or {@code 0} if no values were recorded
+     */
+    public double mean() {
+        long count = count();
+        return count == 0 ? 0 : (double) sum() / count;
+    }
+    
+    /**
+     * Returns the largest recorded value.
+     * 
+     * @return the largest value, or {@code 0} if no values were recorded
+     */
+    public long max() {
+        return max.get();
+    }
+    
+    /**
+     * Returns the sum of the recorded values.
+     * 
+     * @return the sum
+     */
+    public long sum() {
+        return sum.sum();
+    }
+    
+    /**
+     * Returns the number of recorded values.
+     * 
+     * @return the number of recorded values
+     */
+    public long count() {
+        return count.sum();
+    }
+    
+    /**
+     * Returns a snapshot of the count, mean, 50th, 90th and 99th percentile, and
+     * maximum of the recorded values.
+     * 
+     * @return a snapshot
+     */
+    public Snapshot snapshot() {
+        var percentiles = percentiles(50, 90, 99);
+        return new Snapshot(count(), mean(), percentiles[0], percentiles[1], percentiles[2], max());
+    }
+    
+    /**
+     * Removes all recorded values. Values that are concurrently recorded may be 
+     * partially removed.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets.set(i, 0);
+        }
+        count.reset();
+        sum.reset();
+        max.set(0);
+    }
+    
+    
+    /**
+     * A summary of the values recorded in a {@code Histogram} at a point in time,
+     * which can be exposed via JMX.
+     */
+    public static final class Snapshot {
+        
+        private final long count;
+        private final double mean;
+        private final long p50;
+        private final long p90;
+        private final long p99;
+        private final long max;
+        
+        /**
+         * Creates a {@code Snapshot} with the given values.
+         * 
+         * @param count the number of recorded values
+         * @param mean the mean
+         * @param p50 the 50th percentile
+         * @param p90 the 90th percentile
+         * @param p99 the 99th percentile
+         * @param max the largest recorded value
+         */
+        @ConstructorParameters({"count", "mean", "p50", "p90", "p99", "max"})
+        public Snapshot(long count, double mean, long p50, long p90, long p99, long max) {
+            this.count = count;
+            this.mean = mean;
+            this.p50 = p50;
+            this.p90 = p90;
+            this.p99 = p99;
+            this.max = max;
+        }
+        
+        /**
+         * Returns the number of recorded values.
+         * 
+         * @return the number of recorded values
+         */
+        public long getCount() {
+            return count;
+        }
+        
+        /**
+         * Returns the mean of the recorded values.
+         * 
+         * @return the mean
+         */
+        public double getMean() {
+            return mean;
+        }
+        
+        /**
+         * Returns the 50th percentile of the recorded values.
+         * 
+         * @return the 50th percentile
+         */
+        public long getP50() {
+            return p50;
+        }
+        
+        /**
+         * Returns the 90th percentile of the recorded values.
+         * 
+         * @return the 90th percentile
+         */
+        public long getP90() {
+            return p90;
+        }
+        
+        /**
+         * Returns the 99th percentile of the recorded values.
+         * 
+         * @return the 99th percentile
+         */
+        public long getP99() {
+            return p99;
+        }
+        
+        /**
+         * Returns the largest recorded value.
+         * 
+         * @return the largest value
+         */
+        public long getMax() {
+            return max;
+        }
+        
+    }
+    
+}
@@ -0,0 +1,254 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util.concurrent;
+
+import java.lang.management.ManagementFactory;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import javax.management.*;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * The metrics of a {@link Scheduler}. Timings of executions are recorded per group 
+ * of tasks and per task while the metrics of the scheduler are enabled. Tasks are 
+ * identified by their classes, i.e. the class of a lambda, which typically maps 
+ * to the site in the source code at which the task was created.
+ * <br><br>
+ * Each group of tasks and each class of tasks retains two {@link Histogram}s. Care 
+ * should hence be taken to group tasks coarsely, i.e. by plugin rather than by 
+ * player, if metrics are enabled.
+ * <br><br>
+ * These metrics can be exposed via JMX through {@link #register(String)}.
+ */
+public final class Metrics implements MetricsMXBean {
+    
+    /**
+     * The group under which timings of tasks that do not belong to any group are 
+     * recorded.
+     */
+    public static final Object UNGROUPED = new Object() {
+        @Override
+        public String toString() {
+            return "ungrouped";
+        }
+    };
+    
+    private final ThreadPoolExecutor executor;
+    private final ConcurrentMap<Object, Timings> timings = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Class<?>, Timings> tasks = new ConcurrentHashMap<>();
+    private final LongAdder rejected = new LongAdder();
+    
+    /**
+     * Creates a {@code Metrics} for the given executor.
+     * 
+     * @param executor the executor
+     */
+    Metrics(ThreadPoolExecutor executor) {
+        this.executor = executor;
+    }
+    
+    /**
+     * Returns the timings of the given group.
+     * 
+     * @param group the group
+     * @return the timings, or {@code null} if no executions in the given group 
+     *         were recorded
+     */
+    public @Nullable Timings timings(Object group) {
+        return timings.get(group);
+    }
+    
+    /**
+     * Returns the timings of all groups.
+     * 
+     * @return the timings of all groups
+     */
+    public Map<Object, Timings> timings() {
+        return Collections.unmodifiableMap(timings);
+    }
+    
+    /**
+     * Returns the timings of tasks of the given class.
+     * 
+     * @param task the class of the tasks, i.e. the class of a {@code Runnable} 
+     *             or, for tasks scheduled as a {@code Consumer<Context>}, the class
+     *             of the consumer
+     * @return the timings, or {@code null} if no executions of tasks of the given
+     *         class were recorded
+     */
+    public @Nullable Timings task(Class<?> task) {
+        return tasks.get(task);
+    }
+    
+    /**
+     * Returns the timings of all classes of tasks.
+     * 
+     * @return the timings of all classes of tasks
+     */
+    public Map<Class<?>, Timings> tasks() {
+        return Collections.unmodifiableMap(tasks);
+    }
+    
+    /**
+     * Removes all recorded timings and rejections.
+     */
+    public void reset() {
+        timings.clear();
+        tasks.clear();
+        rejected.reset();
+    }
+    
+    
+    /**
+     * Registers these metrics with the platform {@code MBeanServer} under the 
+     * given name.
+     * 
+     * @param name the name of the scheduler
+     * @return the name under which these metrics were registered
+     * @throws JMException if these metrics could not be registered
+     * 
+     * @see #register(MBeanServer, String)
+     */
+    public ObjectName register(String name) throws JMException {
+        return register(ManagementFactory.getPlatformMBeanServer(), name);
+    }
+    
+    /**
+     * Registers these metrics with the given {@code MBeanServer} under the object
+     * name {@code com.karuslabs.commons:type=Scheduler,name=<name>}. The metrics 
+     * should be unregistered when the scheduler is shut down.
+     * 
+     * @param server the server
+     * @param name the name of the scheduler
+     * @return the name under which these metrics were registered
+     * @throws JMException if these metrics could not be registered
+     */
+    public ObjectName register(MBeanServer server, String name) throws JMException {
+        var object = new ObjectName("com.karuslabs.commons", new Hashtable<>(Map.of("type", "Scheduler", "name", ObjectName.quote(name))));
+        server.registerMBean(this, object);
+        return object;
+    }
+    
+    
+    @Override
+    public int getQueued() {
+        return executor.getQueue().size();
+    }
+
+    @Override
+    public int getActive() {
+        return executor.getActiveCount();
+    }
+
+    @Override
+    public long getCompleted() {
+        return executor.getCompletedTaskCount();
+    }
+
+    @Override
+    public long getRejected() {
+        return rejected.sum();
+    }
+    
+    @Override
+    public Map<String, Histogram.Snapshot> getGroupDrift() {
+        return snapshot(timings, Timings::drift);
+    }
+    
+    @Override
+    public Map<String, Histogram.Snapshot> getGroupRuntime() {
+        return snapshot(timings, Timings::runtime);
+    }
+    
+    @Override
+    public Map<String, Histogram.Snapshot> getTaskDrift() {
+        return snapshot(tasks, Timings::drift);
+    }
+    
+    @Override
+    public Map<String, Histogram.Snapshot> getTaskRuntime() {
+        return snapshot(tasks, Timings::runtime);
+    }
+    
+    static Map<String, Histogram.Snapshot> snapshot(Map<?, Timings> timings, Function<Timings, Histogram> histogram) {
+        var snapshots = new TreeMap<String, Histogram.Snapshot>();
+        for (var entry : timings.entrySet()) {
+            var key = entry.getKey() instanceof Class<?> type ? type.getName() : String.valueOf(entry.getKey());
+            snapshots.put(key, histogram.apply(entry.getValue()).snapshot());
+        }
+        return snapshots;
+    }
+    
+    
+    Timings record(Object group) {
+        var timing = timings.get(group);
+        return timing != null ? timing : timings.computeIfAbsent(group, key -> new Timings());
+    }
+    
+    Timings recordTask(Class<?> task) {
+        var timing = tasks.get(task);
+        return timing != null ? timing : tasks.computeIfAbsent(task, key -> new Timings());
+    }
+    
+    void reject() {
+        rejected.increment();
+    }
+    
+    
+    /**
+     * The timings of executions in a group of tasks, in nanoseconds.
+     */
+    public static final class Timings {
+        
+        private final Histogram drift = new Histogram();
+        private final Histogram runtime = new Histogram();
+        
+        Timings() {}
+        
+        /**
+         * Returns the delays between when executions were scheduled and when they 
+         * actually started.
+         * 
+         * @return the drift of executions
+         */
+        public Histogram drift() {
+            return drift;
+        }
+        
+        /**
+         * Returns the durations of executions.
+         * 
+         * @return the durations of executions
+         */
+        public Histogram runtime() {
+            return runtime;
+        }
+        
+    }
+    
+}
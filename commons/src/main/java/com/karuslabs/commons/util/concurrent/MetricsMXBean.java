@@ -0,0 +1,91 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util.concurrent;
+
+import java.util.Map;
+
+/**
+ * The management interface of a {@link Scheduler}'s {@link Metrics}.
+ */
+public interface MetricsMXBean {
+    
+    /**
+     * Returns the number of tasks waiting in the work queue.
+     * 
+     * @return the number of queued tasks
+     */
+    int getQueued();
+    
+    /**
+     * Returns the approximate number of threads that are actively executing tasks.
+     * 
+     * @return the number of active threads
+     */
+    int getActive();
+    
+    /**
+     * Returns the approximate number of completed task executions.
+     * 
+     * @return the number of completed executions
+     */
+    long getCompleted();
+    
+    /**
+     * Returns the number of tasks that were rejected since the metrics were enabled.
+     * 
+     * @return the number of rejected tasks
+     */
+    long getRejected();
+    
+    /**
+     * Returns snapshots of the drift of executions, keyed by group.
+     * 
+     * @return the drift of executions per group
+     */
+    Map<String, Histogram.Snapshot> getGroupDrift();
+    
+    /**
+     * Returns snapshots of the durations of executions, keyed by group.
+     * 
+     * @return the durations of executions per group
+     */
+    Map<String, Histogram.Snapshot> getGroupRuntime();
+    
+    /**
+     * Returns snapshots of the drift of executions, keyed by the name of the class 
+     * of the tasks.
+     * 
+     * @return the drift of executions per class of tasks
+     */
+    Map<String, Histogram.Snapshot> getTaskDrift();
+    
+    /**
+     * Returns snapshots of the durations of executions, keyed by the name of the 
+     * class of the tasks.
+     * 
+     * @return the durations of executions per class of tasks
+     */
+    Map<String, Histogram.Snapshot> getTaskRuntime();
+    
+}
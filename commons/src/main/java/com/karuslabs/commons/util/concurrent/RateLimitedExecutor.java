@@ -0,0 +1,345 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util.concurrent;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An {@code Executor} decorator that limits the rate at which tasks are executed 
+ * using a lock-free token bucket. Tasks are forwarded to the underlying executor 
+ * without delay while the rate is below the limit.
+ * <br><br>
+ * Tasks may also be executed under a key, in which case they are additionally 
+ * limited by a separate bucket for each key, i.e. to limit the writes for a single 
+ * player. Buckets of keys that have been idle long enough to refill completely 
+ * can be discarded via {@link #purge()}.
+ * <br><br>
+ * The behaviour of tasks that exceed the limit is determined by a {@link Policy}.
+ */
+public class RateLimitedExecutor implements Executor {
+    
+    /**
+     * The behaviour of tasks which exceed a {@code RateLimitedExecutor}'s limit.
+     */
+    public static enum Policy {
+        
+        /**
+         * Denotes that tasks which exceed the limit are rejected by throwing a 
+         * {@code RejectedExecutionException}.
+         */
+        REJECT,
+        /**
+         * Denotes that tasks which exceed the limit are scheduled on the underlying 
+         * executor for when the limit permits.
+         */
+        QUEUE,
+        /**
+         * Denotes that the calling thread waits until the limit permits and then 
+         * executes tasks which exceed the limit itself, thereby slowing down the 
+         * submission of tasks.
+         */
+        CALLER_RUNS;
+        
+    }
+    
+    
+    private final ScheduledExecutorService executor;
+    private final TokenBucket bucket;
+    private final ConcurrentMap<Object, TokenBucket> keys = new ConcurrentHashMap<>();
+    private final double keyRate;
+    private final long keyBurst;
+    private final Policy policy;
+    
+    /**
+     * Creates a {@code RateLimitedExecutor} with the given arguments.
+     * 
+     * @param executor the underlying executor
+     * @param rate the maximum number of tasks executed per second
+     * @param burst the maximum number of tasks that can be executed at once
+     * @param policy the behaviour of tasks which exceed the limit
+     * @throws IllegalArgumentException if {@code rate} or {@code burst} is not
+     *                                  positive
+     */
+    public RateLimitedExecutor(ScheduledExecutorService executor, double rate, long burst, Policy policy) {
+        this(executor, rate, burst, rate, burst, policy);
+    }
+    
+    /**
+     * Creates a {@code RateLimitedExecutor} with the given arguments.
+     * 
+     * @param executor the underlying executor
+     * @param rate the maximum number of tasks executed per second
+     * @param burst the maximum number of tasks that can be executed at once
+     * @param keyRate the maximum number of tasks under a single key executed per second
+     * @param keyBurst the maximum number of tasks under a single key that can 
+     *                 be executed at once
+     * @param policy the behaviour of tasks which exceed the limit
+     * @throws IllegalArgumentException if {@code rate}, {@code burst}, {@code keyRate}
+     *                                  or {@code keyBurst} is not positive
+     */
+    public RateLimitedExecutor(ScheduledExecutorService executor, double rate, long burst, double keyRate, long keyBurst, Policy policy) {
+        if (!(keyRate > 0) || keyBurst <= 0) {
+            throw new IllegalArgumentException("Key rate and burst should be positive, but was " + keyRate + " and " + keyBurst);
+        }
+        
+        this.executor = executor;
+        this.bucket = new TokenBucket(rate, burst);
+        this.keyRate = keyRate;
+        this.keyBurst = keyBurst;
+        this.policy = policy;
+    }
+    
+    
+    /**
+     * Executes the given task, subject to the limit.
+     * 
+     * @param task the task
+     * @throws RejectedExecutionException if the task exceeds the limit and the 
+     *                                    policy is {@link Policy#REJECT}, or the 
+     *                                    underlying executor rejects the task
+     */
+    @Override
+    public void execute(Runnable task) {
+        execute(null, task);
+    }
+    
+    /**
+     * Executes the given task under the given key, subject to both the limit and 
+     * the limit of the key.
+     * 
+     * @param key the key, or {@code null} if the task is only subject to the limit
+     * @param task the task
+     * @throws RejectedExecutionException if the task exceeds either limit and 
+     *                                    the policy is {@link Policy#REJECT}, or 
+     *                                    the underlying executor rejects the task
+     */
+    public void execute(@Nullable Object key, Runnable task) {
+        if (!tryExecute(key, task)) {
+            throw new RejectedExecutionException("Task " + task + " exceeds the rate limit");
+        }
+    }
+    
+    /**
+     * Executes the given task, subject to the limit.
+     * 
+     * @param task the task
+     * @return {@code false} if the task exceeds the limit and the policy is 
+     *         {@link Policy#REJECT}, otherwise {@code true}
+     * @throws RejectedExecutionException if the underlying executor rejects the task
+     */
+    public boolean tryExecute(Runnable task) {
+        return tryExecute(null, task);
+    }
+    
+    /**
+     * Executes the given task under the given key, subject to both the limit and 
+     * the limit of the key.
+     * 
+     * @param key the key, or {@code null} if the task is only subject to the limit
+     * @param task the task
+     * @return {@code false} if the task exceeds either limit and the policy is 
+     *         {@link Policy#REJECT}, otherwise {@code true}
+     * @throws RejectedExecutionException if the underlying executor rejects the task
+     */
+    public boolean tryExecute(@Nullable Object key, Runnable task) {
+        long now = System.nanoTime();
+        if (key == null ? bucket.acquire(now) : acquire(key, now)) {
+            executor.execute(task);
+            return true;
+        }
+        
+        if (policy == Policy.REJECT) {
+            return false;
+        }
+        
+        long delay = bucket.reserve(now);
+        if (key != null) {
+            delay = Math.max(delay, reserve(key, now));
+        }
+        
+        if (policy == Policy.QUEUE) {
+            executor.schedule(task, delay, TimeUnit.NANOSECONDS);
+            
+        } else {
+            long deadline = now + delay;
+            for (long remaining = delay; remaining > 0; remaining = deadline - System.nanoTime()) {
+                LockSupport.parkNanos(this, remaining);
+            }
+            task.run();
+        }
+        
+        return true;
+    }
+    
+    private boolean acquire(Object key, long now) {
+        TokenBucket keyed;
+        do {
+            keyed = keys.computeIfAbsent(key, k -> new TokenBucket(keyRate, keyBurst));
+            if (!keyed.acquire(now)) {
+                return false;
+            }
+            // The bucket may have been purged before it was acquired
+        } while (keys.get(key) != keyed);
+        
+        if (!bucket.acquire(now)) {
+            keyed.refund();
+            return false;
+        }
+        
+        return true;
+    }
+    
+    private long reserve(Object key, long now) {
+        TokenBucket keyed;
+        long delay;
+        do {
+            keyed = keys.computeIfAbsent(key, k -> new TokenBucket(keyRate, keyBurst));
+            delay = keyed.reserve(now);
+            // The bucket may have been purged before it was reserved
+        } while (keys.get(key) != keyed);
+        
+        return delay;
+    }
+    
+    
+    /**
+     * Discards the buckets of keys which have been idle long enough to refill 
+     * completely. A bucket is only discarded atomically with respect to the key, 
+     * and a bucket discarded while being acquired is acquired again.
+     */
+    public void purge() {
+        long now = System.nanoTime();
+        for (var key : keys.keySet()) {
+            keys.computeIfPresent(key, (k, bucket) -> bucket.full(now) ? null : bucket);
+        }
+    }
+    
+    /**
+     * Returns the number of keys which buckets are retained.
+     * 
+     * @return the number of keys
+     */
+    public int keys() {
+        return keys.size();
+    }
+    
+    /**
+     * Returns the underlying executor.
+     * 
+     * @return the underlying executor
+     */
+    public ScheduledExecutorService executor() {
+        return executor;
+    }
+    
+}
+
+/**
+ * A lock-free token bucket implemented as a generic cell rate algorithm. The bucket 
+ * is represented as the theoretical time at which the next token is available, 
+ * which can be atomically updated.
+ */
+class TokenBucket {
+    
+    final long interval;
+    final long tolerance;
+    final AtomicLong available;
+    
+    /**
+     * Creates a full {@code TokenBucket} with the given rate and capacity.
+     * 
+     * @param rate the number of tokens added per second
+     * @param burst the capacity
+     * @throws IllegalArgumentException if {@code rate} or {@code burst} is not 
+     *                                  positive
+     */
+    TokenBucket(double rate, long burst) {
+        if (!(rate > 0) || burst <= 0) {
+            throw new IllegalArgumentException("Rate and burst should be positive, but was " + rate + " and " + burst);
+        }
+        
+        interval = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / rate));
+        tolerance = interval * (burst - 1);
+        available = new AtomicLong(System.nanoTime());
+    }
+    
+    /**
+     * Takes a token from this bucket if present.
+     * 
+     * @param now the current time in nanoseconds
+     * @return {@code true} if a token was taken
+     */
+    boolean acquire(long now) {
+        long current;
+        long start;
+        do {
+            current = available.get();
+            start = current - now > 0 ? current : now;
+            if (start - now > tolerance) {
+                return false;
+            }
+        } while (!available.compareAndSet(current, start + interval));
+        
+        return true;
+    }
+    
+    /**
+     * Reserves the next token in this bucket.
+     * 
+     * @param now the current time in nanoseconds
+     * @return the delay in nanoseconds after which the reserved token is available
+     */
+    long reserve(long now) {
+        long current;
+        long start;
+        do {
+            current = available.get();
+            start = current - now > 0 ? current : now;
+        } while (!available.compareAndSet(current, start + interval));
+        
+        return Math.max(0, start - tolerance - now);
+    }
+    
+    /**
+     * Returns a previously taken token to this bucket.
+     */
+    void refund() {
+        available.addAndGet(-interval);
+    }
+    
+    /**
+     * Returns whether this bucket is full.
+     * 
+     * @param now the current time in nanoseconds
+     * @return {@code true} if this bucket is full
+     */
+    boolean full(long now) {
+        return available.get() - now <= 0;
+    }
+    
+}
@@ -25,15 +25,41 @@ package com.karuslabs.commons.util.concurrent;
 
 import com.karuslabs.annotations.Lazy;
 
+import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 /**
  * A {@code ScheduledThreadPoolExecutor} subclass which can schedule repeating tasks 
  * that can be executed an arbitrary number of times.
+ * <br><br>
+ * Repeating tasks may be scheduled under a group, which allows all tasks in the 
+ * group to be cancelled together, i.e. all tasks owned by a player or plugin.
+ * <br><br>
+ * Bursts of requests to execute an idempotent task, i.e. saving a player's data, 
+ * may be coalesced into a single execution via {@link #coalesce(Object, Runnable, long, TimeUnit)}.
+ * <br><br>
+ * Metrics, i.e. the drift and duration of executions, may be recorded per group 
+ * and per task by enabling them via {@link #enableMetrics()}. Recording metrics 
+ * is disabled by default, in which case the overhead of an execution is a volatile 
+ * read and a thread-local write. Similarly, slow executions may be reported by 
+ * a {@link Watchdog}.
  */
 public class Scheduler extends ScheduledThreadPoolExecutor {
     
+    private static final ThreadLocal<long[]> STARTED = ThreadLocal.withInitial(() -> new long[1]);
+    private static final ThreadLocal<@Nullable Label> LABEL = new ThreadLocal<>();
+    private static final ThreadLocal<@Nullable Runnable> EXECUTED = new ThreadLocal<>();
+    
+    private final ConcurrentMap<Object, Set<RunnableScheduledFuture<?>>> groups = new ConcurrentHashMap<>();
+    private final ConcurrentMap<RunnableScheduledFuture<?>, Label> labels = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Object, Coalescence> coalesced = new ConcurrentHashMap<>();
+    private volatile @Nullable Metrics metrics;
+    private volatile @Nullable Watchdog watchdog;
+    
     /**
      * Creates a {@code Scheduler} with the given core pool size.
      * 
@@ -42,7 +68,7 @@ public class Scheduler extends ScheduledThreadPoolExecutor {
      * @throws IllegalArgumentException if {@code corePoolSize < 0}
      */
     public Scheduler(int corePoolSize) {
-        super(corePoolSize);
+        super(corePoolSize, new Rejection(new AbortPolicy()));
     }
 
     /**
@@ -56,7 +82,7 @@ public class Scheduler extends ScheduledThreadPoolExecutor {
      * @throws NullPointerException if {@code threadFactory} is {@code null}
      */
     public Scheduler(int corePoolSize, ThreadFactory threadFactory) {
-        super(corePoolSize, threadFactory);
+        super(corePoolSize, threadFactory, new Rejection(new AbortPolicy()));
     }
     
 
@@ -71,7 +97,7 @@ public class Scheduler extends ScheduledThreadPoolExecutor {
      * @throws NullPointerException if {@code handler} is {@code null}
      */
     public Scheduler(int corePoolSize, RejectedExecutionHandler handler) {
-        super(corePoolSize, handler);
+        super(corePoolSize, new Rejection(handler));
     }
 
     /**
@@ -88,7 +114,7 @@ public class Scheduler extends ScheduledThreadPoolExecutor {
      *         {@code handler} is {@code null}
      */
     public Scheduler(int corePoolSize, ThreadFactory threadFactory, RejectedExecutionHandler handler) {
-        super(corePoolSize, threadFactory, handler);
+        super(corePoolSize, threadFactory, new Rejection(handler));
     }
     
     
@@ -121,23 +147,578 @@ public class Scheduler extends ScheduledThreadPoolExecutor {
         return scheduleAtFixedRate(new RunnableContext(task, times), initial, period, unit);
     }
     
-     /**
+    /**
+     * Periodically execute the consumer under the given group after the initial 
+     * delay.
+     * 
+     * @param group the group to which the task belongs
+     * @param task the task to be executed
+     * @param initial the initial delay
+     * @param period the period between which the task is executed
+     * @param unit the unit of time for both the initial delay and period
+     * @return a ScheduledFuture representing the pending completion of the task
+     */
+    public ScheduledFuture<?> schedule(Object group, Consumer<Context> task, long initial, long period, TimeUnit unit) {
+        return schedule(group, task, initial, period, unit, Context.INFINITE);
+    }
+    
+    /**
+     * Periodically execute the consumer under the given group for the given number 
+     * of {@code times} after the initial delay.
+     * 
+     * @param group the group to which the task belongs
+     * @param task the task to be executed
+     * @param initial the initial delay
+     * @param period the period between which the task is executed
+     * @param unit the unit of time for both the initial delay and period
+     * @param times the number of times the task is to be executed
+     * @return a ScheduledFuture representing the pending completion of the task
+     */
+    public ScheduledFuture<?> schedule(Object group, Consumer<Context> task, long initial, long period, TimeUnit unit, long times) {
+        return scheduleAtFixedRate(new RunnableContext(Objects.requireNonNull(group), task, times), initial, period, unit);
+    }
+    
+    
+    /**
+     * Coalesces requests to execute a task under the given key into a single execution. 
+     * The task is executed once no further requests under the given key have been 
+     * made for the given delay.
+     * 
+     * @param key the key under which requests are coalesced
+     * @param task the task to be executed
+     * @param delay the delay after the latest request after which the task is executed
+     * @param unit the unit of time for the delay
+     * @return {@code true} if an execution was scheduled, or {@code false} if 
+     *         the request was coalesced into a pending execution
+     * 
+     * @see #coalesce(Object, Runnable, long, long, TimeUnit) 
+     */
+    public boolean coalesce(Object key, Runnable task, long delay, TimeUnit unit) {
+        return coalesce(key, task, delay, Long.MAX_VALUE, unit);
+    }
+    
+    /**
+     * Coalesces requests to execute a task under the given key into a single execution. 
+     * The task is executed once no further requests under the given key have been 
+     * made for the given delay, or once the given maximum wait since the first 
+     * coalesced request has elapsed, whichever is earlier.
+     * <br><br>
+     * Requests under the same key are assumed to be equivalent. The task of a 
+     * request that is coalesced into a pending execution is hence discarded. 
+     * Coalescing a request is lock-free and never schedules an additional task.
+     * 
+     * @param key the key under which requests are coalesced
+     * @param task the task to be executed
+     * @param delay the delay after the latest request after which the task is executed
+     * @param wait the maximum delay after the first request after which the task 
+     *             is executed
+     * @param unit the unit of time for both the delay and maximum wait
+     * @return {@code true} if an execution was scheduled, or {@code false} if 
+     *         the request was coalesced into a pending execution
+     */
+    public boolean coalesce(Object key, Runnable task, long delay, long wait, TimeUnit unit) {
+        long now = System.nanoTime();
+        while (true) {
+            var pending = coalesced.get(key);
+            if (pending == null) {
+                var coalescence = new Coalescence(this, coalesced, key, task, now, unit.toNanos(delay), unit.toNanos(wait));
+                if (coalesced.putIfAbsent(key, coalescence) == null) {
+                    try {
+                        schedule(coalescence, Math.min(delay, wait), unit);
+                        return true;
+                        
+                    } catch (RejectedExecutionException e) {
+                        coalesced.remove(key, coalescence);
+                        throw e;
+                    }
+                }
+                
+            } else if (pending.request(now)) {
+                return false;
+                
+            } else {
+                coalesced.remove(key, pending);
+            }
+        }
+    }
+    
+    
+    /**
+     * Executes the given task with zero delay. Unlike {@code ScheduledThreadPoolExecutor}, 
+     * the given task rather than its future is passed to the {@code RejectedExecutionHandler}
+     * if rejected, similar to {@code ThreadPoolExecutor}.
+     * 
+     * @param task the task to be executed
+     * @throws RejectedExecutionException at the discretion of the {@code RejectedExecutionHandler}, 
+     *                                    if the task cannot be accepted for execution
+     * @throws NullPointerException if the task is {@code null}
+     */
+    @Override
+    public void execute(Runnable task) {
+        EXECUTED.set(task);
+        try {
+            super.execute(task);
+            
+        } finally {
+            EXECUTED.remove();
+        }
+    }
+    
+    
+    /**
+     * Cancels all tasks in the given group. Cancelled tasks are immediately removed 
+     * from the work queue, either individually if the remove-on-cancel policy is
+     * set, or otherwise in a single pass via {@link #purge()}.
+     * 
+     * @param group the group
+     * @return the number of tasks that were cancelled
+     */
+    public int cancel(Object group) {
+        var tasks = groups.remove(group);
+        if (tasks == null) {
+            return 0;
+        }
+        
+        for (var task : tasks) {
+            labels.remove(task);
+            task.cancel(false);
+        }
+        
+        if (!getRemoveOnCancelPolicy()) {
+            purge();
+        }
+        
+        return tasks.size();
+    }
+    
+    /**
+     * Removes the given task from the work queue and its group if it has completed.
+     * 
+     * @param task the task to remove
+     * @return {@code true} if the task was removed from the work queue
+     */
+    @Override
+    public boolean remove(Runnable task) {
+        var removed = super.remove(task);
+        if (!labels.isEmpty() && task instanceof RunnableScheduledFuture<?> future && future.isDone()) {
+            leave(future);
+        }
+        
+        return removed;
+    }
+    
+    /**
+     * Removes all cancelled tasks from the work queue and their groups.
+     */
+    @Override
+    public void purge() {
+        super.purge();
+        for (var task : labels.keySet()) {
+            if (task.isDone()) {
+                leave(task);
+            }
+        }
+    }
+    
+    /**
+     * Returns the number of tasks in the given group that have yet to complete.
+     * Tasks cancelled via their futures are counted until removed from the work
+     * queue, i.e. immediately if the remove-on-cancel policy is set, or otherwise
+     * when purged or next due.
+     * 
+     * @param group the group
+     * @return the number of live tasks in the given group
+     */
+    public int count(Object group) {
+        var tasks = groups.get(group);
+        return tasks == null ? 0 : tasks.size();
+    }
+    
+    /**
+     * Returns the groups which contain at least one task that has yet to complete.
+     * 
+     * @return the groups
+     */
+    public Set<Object> groups() {
+        return Collections.unmodifiableSet(groups.keySet());
+    }
+    
+    
+    /**
+     * Enables recording of metrics. The existing metrics are returned if metrics 
+     * are already enabled.
+     * 
+     * @return the metrics
+     */
+    public Metrics enableMetrics() {
+        var current = metrics;
+        if (current == null) {
+            synchronized (this) {
+                current = metrics;
+                if (current == null) {
+                    metrics = current = new Metrics(this);
+                }
+            }
+        }
+        
+        return current;
+    }
+    
+    /**
+     * Disables recording of metrics and discards all recorded metrics.
+     */
+    public void disableMetrics() {
+        metrics = null;
+    }
+    
+    /**
+     * Returns the metrics of this scheduler.
+     * 
+     * @return the metrics, or {@code null} if metrics are disabled
+     */
+    public @Nullable Metrics metrics() {
+        return metrics;
+    }
+    
+    
+    /**
+     * Sets the watchdog to which executions are reported.
+     * 
+     * @param watchdog the watchdog, or {@code null} if executions should not be 
+     *                 reported
+     */
+    public void watchdog(@Nullable Watchdog watchdog) {
+        this.watchdog = watchdog;
+    }
+    
+    /**
+     * Returns the watchdog to which executions are reported.
+     * 
+     * @return the watchdog, or {@code null} if executions are not reported
+     */
+    public @Nullable Watchdog watchdog() {
+        return watchdog;
+    }
+    
+    
+    /**
      * Sets the context of the given runnable if it is a {@code RunnableContext}.
+     * A task in a group is recorded as a member of its group. Any task is labelled 
+     * with the class of the task if metrics are enabled or a watchdog is present.
+     * <br><br>
+     * The given future is never wrapped, so that it can still be removed from the
+     * work queue in logarithmic time.
      * 
      * @param <V> the type of the result
      * @param task the submitted task
      * @param future the future created to execute the given runnable
-     * @return a task that execute the given runnable
+     * @return the given future
      */
     @Override
     protected <V> RunnableScheduledFuture<V> decorateTask(Runnable task, RunnableScheduledFuture<V> future) {
         if (task instanceof RunnableContext runnable) {
             runnable.future = future;
+            if (runnable.group != null) {
+                join(runnable.group, future, runnable.task.getClass());
+                
+            } else if (metrics != null || watchdog != null) {
+                labels.put(future, new Label(null, runnable.task.getClass()));
+            }
+            
+        } else if (metrics != null || watchdog != null) {
+            labels.put(future, new Label(null, task instanceof Coalescence coalescence ? coalescence.task.getClass() : task.getClass()));
         }
         
         return future;
     }
     
+    /**
+     * Labels the future of the given callable with the class of the callable if 
+     * metrics are enabled or a watchdog is present.
+     * 
+     * @param <V> the type of the result
+     * @param task the submitted task
+     * @param future the future created to execute the given callable
+     * @return the given future
+     */
+    @Override
+    protected <V> RunnableScheduledFuture<V> decorateTask(Callable<V> task, RunnableScheduledFuture<V> future) {
+        if (metrics != null || watchdog != null) {
+            labels.put(future, new Label(null, task.getClass()));
+        }
+        
+        return future;
+    }
+    
+    /**
+     * Records the drift of the given task if metrics are enabled and reports the 
+     * execution to the watchdog if present.
+     * 
+     * @param thread the thread that will execute the given task
+     * @param task the task to be executed
+     */
+    @Override
+    protected void beforeExecute(Thread thread, Runnable task) {
+        super.beforeExecute(thread, task);
+        var watchdog = this.watchdog;
+        var metrics = this.metrics;
+        if (watchdog == null && metrics == null) {
+            return;
+        }
+        
+        var label = task instanceof RunnableScheduledFuture<?> future ? labels.get(future) : null;
+        if (watchdog != null) {
+            // A task is labelled by its group and class, lazily stringified when reported
+            watchdog.enter(label != null ? label : Metrics.UNGROUPED);
+        }
+        
+        if (metrics != null) {
+            long now = System.nanoTime();
+            if (task instanceof RunnableScheduledFuture<?> future) {
+                long drift = -future.getDelay(TimeUnit.NANOSECONDS);
+                metrics.record(group(label)).drift().record(drift);
+                if (label != null) {
+                    metrics.recordTask(label.type).drift().record(drift);
+                }
+            }
+            // The label is retained since the task may leave its group during its execution
+            LABEL.set(label);
+            STARTED.get()[0] = now;
+        }
+    }
+    
+    /**
+     * Records the duration of the given task if metrics are enabled and removes 
+     * the given task from its group if it has completed.
+     * 
+     * @param task the task that was executed
+     * @param thrown the exception that caused termination, or {@code null} if
+     *               execution completed normally
+     */
+    @Override
+    protected void afterExecute(Runnable task, Throwable thrown) {
+        super.afterExecute(task, thrown);
+        var watchdog = this.watchdog;
+        if (watchdog != null) {
+            watchdog.exit();
+        }
+        
+        // The start time is cleared even if metrics are disabled, since metrics 
+        // may have been disabled and re-enabled during the execution
+        var started = STARTED.get();
+        long start = started[0];
+        started[0] = 0;
+        
+        if (start != 0) {
+            var label = LABEL.get();
+            LABEL.set(null);
+            
+            var metrics = this.metrics;
+            if (metrics != null) {
+                long runtime = System.nanoTime() - start;
+                metrics.record(group(label)).runtime().record(runtime);
+                if (label != null) {
+                    metrics.recordTask(label.type).runtime().record(runtime);
+                }
+            }
+        }
+        
+        if (!labels.isEmpty() && task instanceof RunnableScheduledFuture<?> future && future.isDone()) {
+            leave(future);
+        }
+    }
+    
+    static Object group(@Nullable Label label) {
+        return label == null || label.group == null ? Metrics.UNGROUPED : label.group;
+    }
+    
+    void join(Object group, RunnableScheduledFuture<?> task, Class<?> type) {
+        labels.put(task, new Label(group, type));
+        groups.compute(group, (key, tasks) -> {
+            if (tasks == null) {
+                tasks = ConcurrentHashMap.newKeySet();
+            }
+            tasks.add(task);
+            return tasks;
+        });
+    }
+    
+    void leave(RunnableScheduledFuture<?> task) {
+        var label = labels.remove(task);
+        if (label != null && label.group != null) {
+            groups.computeIfPresent(label.group, (key, tasks) -> {
+                tasks.remove(task);
+                return tasks.isEmpty() ? null : tasks;
+            });
+        }
+    }
+    
+    
+    /**
+     * Sets a new handler for unexecutable tasks. Rejected tasks are counted if 
+     * metrics are enabled.
+     * 
+     * @param handler the new handler
+     * @throws NullPointerException if handler is null
+     */
+    @Override
+    public void setRejectedExecutionHandler(RejectedExecutionHandler handler) {
+        super.setRejectedExecutionHandler(new Rejection(handler));
+    }
+    
+    /**
+     * Returns the current handler for unexecutable tasks.
+     * 
+     * @return the current handler
+     */
+    @Override
+    public RejectedExecutionHandler getRejectedExecutionHandler() {
+        return ((Rejection) super.getRejectedExecutionHandler()).handler;
+    }
+    
+    /**
+     * A {@code RejectedExecutionHandler} that counts rejected tasks before forwarding 
+     * them to an underlying handler. A task rejected via {@link Scheduler#execute(Runnable)}
+     * is forwarded instead of the future that wraps it.
+     */
+    static class Rejection implements RejectedExecutionHandler {
+        
+        final RejectedExecutionHandler handler;
+        
+        Rejection(RejectedExecutionHandler handler) {
+            this.handler = Objects.requireNonNull(handler);
+        }
+        
+        @Override
+        public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+            if (executor instanceof Scheduler scheduler) {
+                var metrics = scheduler.metrics;
+                if (metrics != null) {
+                    metrics.reject();
+                }
+                
+                var executed = EXECUTED.get();
+                if (executed != null) {
+                    task = executed;
+                }
+            }
+            
+            handler.rejectedExecution(task, executor);
+        }
+        
+    }
+    
+}
+
+/**
+ * The group and class of a scheduled task, used to attribute metrics and label
+ * slow executions.
+ */
+final class Label {
+    
+    final @Nullable Object group;
+    final Class<?> type;
+    
+    Label(@Nullable Object group, Class<?> type) {
+        this.group = group;
+        this.type = type;
+    }
+    
+    @Override
+    public String toString() {
+        return group == null ? type.getName() : group + " (" + type.getName() + ")";
+    }
+    
+}
+
+/**
+ * A pending execution into which requests under the same key are coalesced.
+ */
+class Coalescence implements Runnable {
+    
+    static final long CLOSED = Long.MIN_VALUE;
+    
+    private final Scheduler scheduler;
+    private final ConcurrentMap<Object, Coalescence> coalesced;
+    final Object key;
+    final Runnable task;
+    final long first;
+    final AtomicLong latest;
+    private final long delay;
+    private final long wait;
+    
+    /**
+     * Creates a {@code Coalescence} with the given arguments.
+     * 
+     * @param scheduler the scheduler on which this coalescence is scheduled
+     * @param coalesced the pending coalescences, keyed by their keys
+     * @param key the key
+     * @param task the task to be executed
+     * @param first the time of the first request in nanoseconds
+     * @param delay the delay after the latest request in nanoseconds
+     * @param wait the maximum delay after the first request in nanoseconds
+     */
+    Coalescence(Scheduler scheduler, ConcurrentMap<Object, Coalescence> coalesced, Object key, Runnable task, long first, long delay, long wait) {
+        this.scheduler = scheduler;
+        this.coalesced = coalesced;
+        this.key = key;
+        this.task = task;
+        this.first = first;
+        this.latest = new AtomicLong(first);
+        this.delay = delay;
+        this.wait = wait;
+    }
+    
+    /**
+     * Coalesces a request made at the given time into this execution.
+     * 
+     * @param now the time of the request in nanoseconds
+     * @return {@code true} if the request was coalesced, or {@code false} if this 
+     *         execution has already started
+     */
+    boolean request(long now) {
+        long last;
+        do {
+            last = latest.get();
+            if (last == CLOSED) {
+                return false;
+            }
+        } while (last - now < 0 && !latest.compareAndSet(last, now));
+        
+        return true;
+    }
+    
+    /**
+     * Executes the task if no requests have been made for the delay or the maximum 
+     * wait has elapsed; otherwise reschedules this execution. The task is executed 
+     * immediately if this execution cannot be rescheduled, i.e. if the scheduler 
+     * was shut down, since pending requests would otherwise never be executed.
+     */
+    @Override
+    public void run() {
+        long now = System.nanoTime();
+        long last;
+        while ((last = latest.get()) != CLOSED) {
+            long idle = now - last;
+            long waited = now - first;
+            if (idle < delay && waited < wait) {
+                try {
+                    scheduler.schedule(this, Math.min(delay - idle, wait - waited), TimeUnit.NANOSECONDS);
+                    return;
+                    
+                } catch (RejectedExecutionException e) {
+                    // The scheduler was shut down, the task is hence executed immediately
+                }
+            }
+            
+            if (latest.compareAndSet(last, CLOSED)) {
+                coalesced.remove(key, this);
+                task.run();
+                return;
+            }
+        }
+    }
+    
 }
 
 /**
@@ -145,7 +726,8 @@ public class Scheduler extends ScheduledThreadPoolExecutor {
  */
 class RunnableContext implements Context, Runnable {
     
-    private final Consumer<Context> task;
+    final @Nullable Object group;
+    final Consumer<Context> task;
     @Lazy Future<?> future;
     volatile long times;
     
@@ -156,6 +738,20 @@ class RunnableContext implements Context, Runnable {
      * @param times the number of times the task is to be executed
      */
     RunnableContext(Consumer<Context> task, long times) {
+        this(null, task, times);
+    }
+    
+    /**
+     * Creates a {@code RunnableContext} in the given group that wraps and executes 
+     * the given task.
+     * 
+     * @param group the group to which the task belongs, or {@code null} if the 
+     *              task does not belong to a group
+     * @param task the task to be executed
+     * @param times the number of times the task is to be executed
+     */
+    RunnableContext(@Nullable Object group, Consumer<Context> task, long times) {
+        this.group = group;
         this.task = task;
         this.times = times;
     }
@@ -0,0 +1,225 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util.concurrent;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Logger;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A watchdog that reports executions which exceed a threshold. The stack of the 
+ * thread on which a slow execution is running is sampled and logged, after which 
+ * repeated occurrences of the same slow execution are only logged when the number 
+ * of occurrences reaches a power of two.
+ * <br><br>
+ * Executions are tracked by calling {@link #enter(Object)} and {@link #exit()} on 
+ * the executing thread, which only write a timestamp. Sampling is performed on 
+ * a separate, low priority daemon thread that is started via {@link #start()}.
+ * A watchdog can only be started once and cannot be restarted after it was closed.
+ * <br><br>
+ * Executions are not reentrant; entering an execution on a thread that is already 
+ * executing replaces the current execution.
+ */
+public final class Watchdog implements AutoCloseable {
+    
+    static final int FRAMES = 8;
+    
+    private final Logger logger;
+    private final long threshold;
+    private final Set<Watch> watches = ConcurrentHashMap.newKeySet();
+    private final ThreadLocal<Watch> local = ThreadLocal.withInitial(this::watch);
+    private final ConcurrentMap<String, Long> occurrences = new ConcurrentHashMap<>();
+    private @Nullable Thread sampler;
+    private volatile boolean running = true;
+    
+    /**
+     * Creates a {@code Watchdog} which reports executions that exceed the given 
+     * threshold to the given logger. Executions are not sampled until the watchdog
+     * is started.
+     * 
+     * @param logger the logger to which slow executions are reported
+     * @param threshold the duration after which an execution is slow
+     * @param unit the unit of the threshold
+     * @throws IllegalArgumentException if {@code threshold <= 0}
+     */
+    public Watchdog(Logger logger, long threshold, TimeUnit unit) {
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("Threshold should be positive, but was " + threshold);
+        }
+        
+        this.logger = logger;
+        this.threshold = unit.toNanos(threshold);
+    }
+    
+    /**
+     * Starts sampling executions on a separate daemon thread.
+     * 
+     * @return {@code this}
+     * @throws IllegalStateException if this watchdog was already started or closed
+     */
+    public synchronized Watchdog start() {
+        if (sampler != null) {
+            throw new IllegalStateException("Watchdog was already started");
+            
+        } else if (!running) {
+            throw new IllegalStateException("Watchdog was closed");
+        }
+        
+        long interval = Math.max(threshold / 2, TimeUnit.MILLISECONDS.toNanos(1));
+        sampler = new Thread(() -> {
+            while (running) {
+                LockSupport.parkNanos(this, interval);
+                sample(System.nanoTime());
+            }
+        }, "Watchdog");
+        sampler.setDaemon(true);
+        sampler.setPriority(Thread.MIN_PRIORITY);
+        sampler.start();
+        return this;
+    }
+    
+    /**
+     * Marks the start of an execution on the current thread.
+     * 
+     * @param label the label of the execution, i.e. the name of a task or command
+     */
+    public void enter(Object label) {
+        var watch = local.get();
+        watch.label = label;
+        watch.started = System.nanoTime();
+    }
+    
+    /**
+     * Marks the end of the current execution on the current thread.
+     */
+    public void exit() {
+        local.get().started = 0;
+    }
+    
+    /**
+     * Returns the number of times each slow execution has occurred, keyed by the 
+     * label of the execution and the top of the sampled stack.
+     * 
+     * @return the number of occurrences of slow executions
+     */
+    public Map<String, Long> occurrences() {
+        return Collections.unmodifiableMap(occurrences);
+    }
+    
+    /**
+     * Stops sampling executions. A closed watchdog cannot be restarted.
+     */
+    @Override
+    public synchronized void close() {
+        running = false;
+        if (sampler != null) {
+            LockSupport.unpark(sampler);
+        }
+    }
+    
+    
+    /**
+     * Samples the executions which have exceeded the threshold at the given time.
+     * 
+     * @param now the current time in nanoseconds
+     */
+    void sample(long now) {
+        for (var watch : watches) {
+            if (!watch.thread.isAlive()) {
+                watches.remove(watch);
+                continue;
+            }
+            
+            long started = watch.started;
+            if (started == 0 || started == watch.reported || now - started < threshold) {
+                continue;
+            }
+            
+            var label = watch.label;
+            var stack = watch.thread.getStackTrace();
+            // The execution may have completed while the stack was being sampled
+            if (watch.started != started) {
+                continue;
+            }
+            
+            watch.reported = started;
+            report(label, stack, now - started);
+        }
+    }
+    
+    /**
+     * Reports the given slow execution.
+     * 
+     * @param label the label of the execution
+     * @param stack the sampled stack
+     * @param elapsed the time elapsed in nanoseconds since the execution started
+     */
+    void report(Object label, StackTraceElement[] stack, long elapsed) {
+        var signature = new StringBuilder().append(label);
+        for (int i = 0; i < Math.min(FRAMES, stack.length); i++) {
+            signature.append("\n\tat ").append(stack[i]);
+        }
+        
+        var key = signature.toString();
+        long count = occurrences.merge(key, 1L, Long::sum);
+        if (count == 1) {
+            var trace = new StringBuilder().append("Slow execution of ").append(label).append(", running for ")
+                                           .append(TimeUnit.NANOSECONDS.toMillis(elapsed)).append("ms");
+            for (var element : stack) {
+                trace.append("\n\tat ").append(element);
+            }
+            logger.warning(trace.toString());
+            
+        } else if ((count & (count - 1)) == 0) {
+            logger.warning("Slow execution of " + label + " has occurred " + count + " times");
+        }
+    }
+    
+    private Watch watch() {
+        var watch = new Watch(Thread.currentThread());
+        watches.add(watch);
+        return watch;
+    }
+    
+    
+    /**
+     * The current execution on a thread.
+     */
+    static final class Watch {
+        
+        final Thread thread;
+        volatile Object label;
+        volatile long started;
+        long reported;
+        
+        Watch(Thread thread) {
+            this.thread = thread;
+        }
+        
+    }
+    
+}
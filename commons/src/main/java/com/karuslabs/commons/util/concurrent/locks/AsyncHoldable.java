@@ -0,0 +1,46 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util.concurrent.locks;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A resource from which concurrent access to it can be held asynchronously, without 
+ * blocking the current thread.
+ */
+public interface AsyncHoldable {
+    
+    /**
+     * Holds access to this asynchronously.
+     * <br><br>
+     * The returned future is completed with a {@code Mutex} once access is acquired. 
+     * Access is acquired in the order in which it was requested. Cancelling the 
+     * returned future before it completes abandons the request.
+     * 
+     * @return a {@code CompletableFuture} that is completed with a {@code Mutex}
+     *         once access is acquired
+     */
+    CompletableFuture<Mutex> holdAsync();
+    
+}
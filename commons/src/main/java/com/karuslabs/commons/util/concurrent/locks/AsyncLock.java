@@ -0,0 +1,128 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util.concurrent.locks;
+
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A non-reentrant, lock-free mutual exclusion lock that is acquired asynchronously. 
+ * Unlike an {@link AutoLock}, no thread is ever blocked while waiting for this 
+ * lock, i.e. the server's main thread can chain exclusive sections without blocking 
+ * a tick.
+ * <br><br>
+ * Closing a {@code Mutex} hands ownership of this lock directly to the next waiter
+ * by completing its future on the closing thread. If the {@code Mutex} is closed 
+ * by a dependent action of another waiter, the handoff is deferred until that 
+ * action returns. Dependent actions that should 
+ * not run on the closing thread should hence be chained asynchronously, i.e. via 
+ * {@link CompletableFuture#thenAcceptAsync(java.util.function.Consumer, Executor)}.
+ * <br><br>
+ * Each owner of this lock is granted a separate, single-use {@code Mutex}. Closing
+ * a {@code Mutex} more than once throws an {@code IllegalStateException}.
+ */
+public class AsyncLock implements AsyncHoldable {
+    
+    private final AtomicInteger count = new AtomicInteger();
+    private final Queue<CompletableFuture<Mutex>> waiters = new ConcurrentLinkedQueue<>();
+    private final Runnable release = this::release;
+    
+    @Override
+    public CompletableFuture<Mutex> holdAsync() {
+        var future = new CompletableFuture<Mutex>();
+        if (count.getAndIncrement() == 0) {
+            future.complete(new Grant(release));
+            
+        } else {
+            waiters.add(future);
+        }
+        
+        return future;
+    }
+    
+    /**
+     * Holds this lock only if it is not held at the time of invocation.
+     * 
+     * @return a {@code Mutex} if this lock was acquired, otherwise {@code null}
+     */
+    public @Nullable Mutex tryHold() {
+        return count.compareAndSet(0, 1) ? new Grant(release) : null;
+    }
+    
+    /**
+     * Returns whether this lock is held.
+     * 
+     * @return {@code true} if this lock is held
+     */
+    public boolean isLocked() {
+        return count.get() > 0;
+    }
+    
+    /**
+     * Returns an estimate of the number of requests waiting to acquire this lock.
+     * 
+     * @return the estimated number of waiting requests
+     */
+    public int getQueueLength() {
+        return Math.max(0, count.get() - 1);
+    }
+    
+    private void release() {
+        int current;
+        do {
+            current = count.get();
+            if (current <= 0) {
+                throw new IllegalStateException("Lock is not held");
+            }
+        } while (!count.compareAndSet(current, current - 1));
+        
+        if (current == 1) {
+            return;
+        }
+        
+        CompletableFuture<Mutex> next;
+        // A waiter may have incremented the count but not yet been enqueued
+        while ((next = waiters.poll()) == null) {
+            Thread.onSpinWait();
+        }
+        
+        var waiter = next;
+        Handoff.run(() -> {
+            var grant = new Grant(release);
+            // Release the lock on behalf of waiters which were cancelled
+            if (!waiter.complete(grant)) {
+                grant.close();
+            }
+        });
+    }
+    
+    @Override
+    public String toString() {
+        return super.toString() + (isLocked() ? "[Locked]" : "[Unlocked]");
+    }
+    
+}
@@ -0,0 +1,217 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util.concurrent.locks;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A non-reentrant read-write lock that is acquired asynchronously. Unlike an 
+ * {@link AutoReadWriteLock}, no thread is ever blocked while waiting for this lock.
+ * <br><br>
+ * Requests are granted in the order in which they were made; consecutive requests 
+ * for the read lock are granted together. Closing a {@code Mutex} hands ownership 
+ * directly to the next waiters by completing their futures on the closing thread, 
+ * or after the dependent action of another waiter that closed the {@code Mutex} 
+ * returns. Dependent actions that should not run on the closing thread should hence be 
+ * chained asynchronously.
+ * <br><br>
+ * Each owner of this lock is granted a separate, single-use {@code Mutex}. Closing
+ * a {@code Mutex} more than once throws an {@code IllegalStateException}.
+ * <br><br>
+ * <b>Implementation details:</b><br>
+ * The state of this lock is guarded by a monitor that is only held for the duration 
+ * of updating the state. Futures are always completed outside the monitor.
+ */
+public class AsyncReadWriteLock {
+    
+    private final Deque<Waiter> waiters = new ArrayDeque<>();
+    private final AsyncHoldable reader = this::read;
+    private final AsyncHoldable writer = this::write;
+    private final Runnable releaseRead = this::releaseRead;
+    private final Runnable releaseWrite = this::releaseWrite;
+    private int readers;
+    private boolean writing;
+    
+    /**
+     * Returns the lock used for reading.
+     * 
+     * @return the lock used for reading
+     */
+    public AsyncHoldable readLock() {
+        return reader;
+    }
+    
+    /**
+     * Returns the lock used for writing.
+     * 
+     * @return the lock used for writing
+     */
+    public AsyncHoldable writeLock() {
+        return writer;
+    }
+    
+    /**
+     * Returns the number of read locks held for this lock.
+     * 
+     * @return the number of read locks held
+     */
+    public synchronized int getReadLockCount() {
+        return readers;
+    }
+    
+    /**
+     * Returns whether the write lock is held.
+     * 
+     * @return {@code true} if the write lock is held
+     */
+    public synchronized boolean isWriteLocked() {
+        return writing;
+    }
+    
+    /**
+     * Returns the number of requests waiting to acquire either the read or write 
+     * lock.
+     * 
+     * @return the number of waiting requests
+     */
+    public synchronized int getQueueLength() {
+        return waiters.size();
+    }
+    
+    
+    CompletableFuture<Mutex> read() {
+        var future = new CompletableFuture<Mutex>();
+        synchronized (this) {
+            if (!writing && waiters.isEmpty()) {
+                readers++;
+                
+            } else {
+                waiters.add(new Waiter(false, future));
+                return future;
+            }
+        }
+        
+        future.complete(new Grant(releaseRead));
+        return future;
+    }
+    
+    CompletableFuture<Mutex> write() {
+        var future = new CompletableFuture<Mutex>();
+        synchronized (this) {
+            if (!writing && readers == 0 && waiters.isEmpty()) {
+                writing = true;
+                
+            } else {
+                waiters.add(new Waiter(true, future));
+                return future;
+            }
+        }
+        
+        future.complete(new Grant(releaseWrite));
+        return future;
+    }
+    
+    void releaseRead() {
+        List<Waiter> granted;
+        synchronized (this) {
+            if (readers <= 0) {
+                throw new IllegalStateException("Read lock is not held");
+            }
+            
+            readers--;
+            granted = readers == 0 ? grant() : List.of();
+        }
+        
+        complete(granted);
+    }
+    
+    void releaseWrite() {
+        List<Waiter> granted;
+        synchronized (this) {
+            if (!writing) {
+                throw new IllegalStateException("Write lock is not held");
+            }
+            
+            writing = false;
+            granted = grant();
+        }
+        
+        complete(granted);
+    }
+    
+    /**
+     * Grants the lock to the next waiters. Should only be invoked while holding 
+     * the monitor and when neither the read nor write lock is held.
+     * 
+     * @return the waiters which were granted the lock
+     */
+    private List<Waiter> grant() {
+        var head = waiters.peek();
+        if (head == null) {
+            return List.of();
+            
+        } else if (head.write) {
+            writing = true;
+            return List.of(waiters.poll());
+        }
+        
+        var granted = new ArrayList<Waiter>();
+        while ((head = waiters.peek()) != null && !head.write) {
+            readers++;
+            granted.add(waiters.poll());
+        }
+        
+        return granted;
+    }
+    
+    private void complete(List<Waiter> granted) {
+        for (var waiter : granted) {
+            var mutex = new Grant(waiter.write ? releaseWrite : releaseRead);
+            Handoff.run(() -> {
+                // Release the lock on behalf of waiters which were cancelled
+                if (!waiter.future.complete(mutex)) {
+                    mutex.close();
+                }
+            });
+        }
+    }
+    
+    
+    /**
+     * A request to acquire either the read or write lock.
+     */
+    static final class Waiter {
+        
+        final boolean write;
+        final CompletableFuture<Mutex> future;
+        
+        Waiter(boolean write, CompletableFuture<Mutex> future) {
+            this.write = write;
+            this.future = future;
+        }
+        
+    }
+    
+}
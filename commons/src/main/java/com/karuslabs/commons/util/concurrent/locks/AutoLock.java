@@ -25,14 +25,20 @@ package com.karuslabs.commons.util.concurrent.locks;
 
 import java.util.concurrent.locks.ReentrantLock;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 /**
  * A {@code ReentrantLock} subclass that contains additional methods for automatic 
  * resource management; i.e. automatic releasing of the lock when a {@code try-with-resources}
  * block is exited.
+ * <br><br>
+ * The waits and holds of this lock may be recorded by supplying a {@link LockMetrics}.
  */
 public class AutoLock extends ReentrantLock implements Holdable {
     
     private final Mutex mutex;
+    private final @Nullable LockMetrics metrics;
+    private long acquired;
     
     /**
      * Creates a non-fair {@code AutoLock}.
@@ -47,8 +53,20 @@ public class AutoLock extends ReentrantLock implements Holdable {
      * @param fair {@code true} if this lock should use a fair ordering policy 
      */
     public AutoLock(boolean fair) {
+        this(fair, null);
+    }
+    
+    /**
+     * Creates a {@code AutoLock} with the specified fairness policy which records 
+     * its waits and holds to the given metrics.
+     * 
+     * @param fair {@code true} if this lock should use a fair ordering policy 
+     * @param metrics the metrics, or {@code null} if this lock should not be instrumented
+     */
+    public AutoLock(boolean fair, @Nullable LockMetrics metrics) {
         super(fair);
-        this.mutex = this::unlock;
+        this.metrics = metrics;
+        this.mutex = metrics == null ? this::unlock : this::release;
     }
     
     /**
@@ -59,7 +77,14 @@ public class AutoLock extends ReentrantLock implements Holdable {
      */
     @Override
     public Mutex hold() {
+        if (metrics == null) {
+            lock();
+            return mutex;
+        }
+        
+        long started = metrics.acquiring(getQueueLength());
         lock();
+        acquire(started);
         return mutex;
     }
 
@@ -73,8 +98,39 @@ public class AutoLock extends ReentrantLock implements Holdable {
      */
     @Override
     public Mutex holdInterruptibly() throws InterruptedException {
+        if (metrics == null) {
+            lockInterruptibly();
+            return mutex;
+        }
+        
+        long started = metrics.acquiring(getQueueLength());
         lockInterruptibly();
+        acquire(started);
         return mutex;
     }
     
+    /**
+     * Returns the metrics of this lock.
+     * 
+     * @return the metrics, or {@code null} if this lock is not instrumented
+     */
+    public @Nullable LockMetrics metrics() {
+        return metrics;
+    }
+    
+    
+    private void acquire(long started) {
+        long now = metrics.acquired(started);
+        if (getHoldCount() == 1) {
+            acquired = now;
+        }
+    }
+    
+    private void release() {
+        if (getHoldCount() == 1) {
+            metrics.released(acquired);
+        }
+        unlock();
+    }
+    
 }
\ No newline at end of file
@@ -31,10 +31,15 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.*;
 import java.util.concurrent.locks.ReentrantReadWriteLock.*;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 /**
  * A {@code AutoReadWriteLock} subclass that contains additional methods for automatic 
  * resource management; i.e. automatic releasing of the lock when a {@code try-with-resources}
  * block is exited.
+ * <br><br>
+ * The waits and holds of the read and write locks may be recorded by supplying 
+ * {@link LockMetrics}.
  */
 public class AutoReadWriteLock extends ReentrantReadWriteLock {
     
@@ -54,9 +59,23 @@ public class AutoReadWriteLock extends ReentrantReadWriteLock {
      * @param fair {@code true} if this lock should use a fair ordering policy 
      */
     public AutoReadWriteLock(boolean fair) {
+        this(fair, null, null);
+    }
+    
+    /**
+     * Creates a {@code AutoReaderWriteLock} with the specified fairness policy which 
+     * records the waits and holds of its read and write locks to the given metrics.
+     * 
+     * @param fair {@code true} if this lock should use a fair ordering policy 
+     * @param reader the metrics of the read lock, or {@code null} if the read 
+     *               lock should not be instrumented
+     * @param writer the metrics of the write lock, or {@code null} if the write 
+     *               lock should not be instrumented
+     */
+    public AutoReadWriteLock(boolean fair, @Nullable LockMetrics reader, @Nullable LockMetrics writer) {
         super(fair);
-        reader = new AutoReadLock(this, super.readLock());
-        writer = new AutoWriteLock(this, super.writeLock());
+        this.reader = new AutoReadLock(this, super.readLock(), reader);
+        this.writer = new AutoWriteLock(this, super.writeLock(), writer);
     }
     
     /**
@@ -86,8 +105,11 @@ public class AutoReadWriteLock extends ReentrantReadWriteLock {
      */
     public static @Delegate class AutoReadLock extends ReadLock implements Holdable {
         
+        private final ReentrantReadWriteLock owner;
         private final ReadLock lock;
         private final Mutex mutex;
+        private final @Nullable LockMetrics metrics;
+        private final @Nullable ThreadLocal<long[]> acquired;
 
         /**
          * Creates a {@code AutoReadLock} with the given owning {@code ReentrantReadWriteLock}
@@ -97,9 +119,26 @@ public class AutoReadWriteLock extends ReentrantReadWriteLock {
          * @param lock the underlying {@code ReadLock}
          */
         protected AutoReadLock(ReentrantReadWriteLock owner, ReadLock lock) {
+            this(owner, lock, null);
+        }
+        
+        /**
+         * Creates a {@code AutoReadLock} with the given owning {@code ReentrantReadWriteLock}
+         * and underlying {@code ReadLock} which records its waits and holds to the 
+         * given metrics.
+         * 
+         * @param owner the owning {@code ReentrantReadWriteLock}
+         * @param lock the underlying {@code ReadLock}
+         * @param metrics the metrics, or {@code null} if this lock should not be 
+         *                instrumented
+         */
+        protected AutoReadLock(ReentrantReadWriteLock owner, ReadLock lock, @Nullable LockMetrics metrics) {
             super(owner);
+            this.owner = owner;
             this.lock = lock;
-            this.mutex = lock::unlock;
+            this.metrics = metrics;
+            this.acquired = metrics == null ? null : ThreadLocal.withInitial(() -> new long[1]);
+            this.mutex = metrics == null ? lock::unlock : this::release;
         }
         
         /**
@@ -110,7 +149,14 @@ public class AutoReadWriteLock extends ReentrantReadWriteLock {
          */
         @Override
         public Mutex hold() {
+            if (metrics == null) {
+                lock();
+                return mutex;
+            }
+            
+            long started = metrics.acquiring(owner.getQueueLength());
             lock();
+            acquire(started);
             return mutex;
         }
 
@@ -125,10 +171,40 @@ public class AutoReadWriteLock extends ReentrantReadWriteLock {
          */
         @Override
         public Mutex holdInterruptibly() throws InterruptedException {
+            if (metrics == null) {
+                lockInterruptibly();
+                return mutex;
+            }
+            
+            long started = metrics.acquiring(owner.getQueueLength());
             lockInterruptibly();
+            acquire(started);
             return mutex;
         }
         
+        /**
+         * Returns the metrics of this lock.
+         * 
+         * @return the metrics, or {@code null} if this lock is not instrumented
+         */
+        public @Nullable LockMetrics metrics() {
+            return metrics;
+        }
+        
+        private void acquire(long started) {
+            long now = metrics.acquired(started);
+            if (owner.getReadHoldCount() == 1) {
+                acquired.get()[0] = now;
+            }
+        }
+        
+        private void release() {
+            if (owner.getReadHoldCount() == 1) {
+                metrics.released(acquired.get()[0]);
+            }
+            lock.unlock();
+        }
+        
         
         @Override
         public void lock() {
@@ -174,8 +250,11 @@ public class AutoReadWriteLock extends ReentrantReadWriteLock {
      */
     public static @Delegate class AutoWriteLock extends WriteLock implements Holdable {
         
+        private final ReentrantReadWriteLock owner;
         private final WriteLock lock;
         private final Mutex mutex;
+        private final @Nullable LockMetrics metrics;
+        private long acquired;
         
         /**
          * Creates a {@code AutoWriteLock} with the given owning {@code ReentrantReadWriteLock}
@@ -185,9 +264,25 @@ public class AutoReadWriteLock extends ReentrantReadWriteLock {
          * @param lock the underlying {@code WriteLock}
          */
         protected AutoWriteLock(ReentrantReadWriteLock owner, WriteLock lock) {
+            this(owner, lock, null);
+        }
+        
+        /**
+         * Creates a {@code AutoWriteLock} with the given owning {@code ReentrantReadWriteLock}
+         * and underlying {@code WriteLock} which records its waits and holds to the 
+         * given metrics.
+         * 
+         * @param owner the owning {@code ReentrantReadWriteLock}
+         * @param lock the underlying {@code WriteLock}
+         * @param metrics the metrics, or {@code null} if this lock should not be 
+         *                instrumented
+         */
+        protected AutoWriteLock(ReentrantReadWriteLock owner, WriteLock lock, @Nullable LockMetrics metrics) {
             super(owner);
+            this.owner = owner;
             this.lock = lock;
-            this.mutex = lock::unlock;
+            this.metrics = metrics;
+            this.mutex = metrics == null ? lock::unlock : this::release;
         }
         
         /**
@@ -198,7 +293,14 @@ public class AutoReadWriteLock extends ReentrantReadWriteLock {
          */
         @Override
         public Mutex hold() {
+            if (metrics == null) {
+                lock();
+                return mutex;
+            }
+            
+            long started = metrics.acquiring(owner.getQueueLength());
             lock();
+            acquire(started);
             return mutex;
         }
 
@@ -212,10 +314,40 @@ public class AutoReadWriteLock extends ReentrantReadWriteLock {
          */
         @Override
         public Mutex holdInterruptibly() throws InterruptedException {
+            if (metrics == null) {
+                lockInterruptibly();
+                return mutex;
+            }
+            
+            long started = metrics.acquiring(owner.getQueueLength());
             lockInterruptibly();
+            acquire(started);
             return mutex;
         }
         
+        /**
+         * Returns the metrics of this lock.
+         * 
+         * @return the metrics, or {@code null} if this lock is not instrumented
+         */
+        public @Nullable LockMetrics metrics() {
+            return metrics;
+        }
+        
+        private void acquire(long started) {
+            long now = metrics.acquired(started);
+            if (lock.getHoldCount() == 1) {
+                acquired = now;
+            }
+        }
+        
+        private void release() {
+            if (lock.getHoldCount() == 1) {
+                metrics.released(acquired);
+            }
+            lock.unlock();
+        }
+        
         
         @Override
         public int getHoldCount() {
@@ -0,0 +1,196 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util.concurrent.locks;
+
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.*;
+
+/**
+ * A {@code StampedLock} subclass that contains additional methods for automatic 
+ * resource management; i.e. automatic releasing of the lock when a {@code try-with-resources}
+ * block is exited.
+ * <br><br>
+ * Unlike an {@link AutoReadWriteLock}, read-mostly data can be read optimistically 
+ * via {@link #optimistic(Supplier)} without writing to shared state. Like a 
+ * {@code StampedLock}, this lock is <b>not</b> reentrant.
+ */
+public class AutoStampedLock extends StampedLock implements Holdable {
+    
+    private final Mutex reader;
+    private final Mutex writer;
+    
+    /**
+     * Creates a {@code AutoStampedLock}, initially in an unlocked state.
+     */
+    public AutoStampedLock() {
+        reader = this::tryUnlockRead;
+        writer = this::tryUnlockWrite;
+    }
+    
+    /**
+     * Exclusively acquires the write lock, automatically releasing the lock when 
+     * returning from a {@code try-with-resources} block.
+     * 
+     * @return a {@code Mutex}
+     */
+    @Override
+    public Mutex hold() {
+        writeLock();
+        return writer;
+    }
+    
+    /**
+     * Exclusively acquires the write lock unless the current thread is interrupted, 
+     * automatically releasing the lock when returning from a {@code try-with-resources} 
+     * block.
+     * 
+     * @return a {@code Mutex}
+     * @throws InterruptedException if the current thread is interrupted while acquiring 
+     *                              the lock
+     */
+    @Override
+    public Mutex holdInterruptibly() throws InterruptedException {
+        writeLockInterruptibly();
+        return writer;
+    }
+    
+    /**
+     * Non-exclusively acquires the read lock, automatically releasing the lock 
+     * when returning from a {@code try-with-resources} block.
+     * 
+     * @return a {@code Mutex}
+     */
+    public Mutex holdRead() {
+        readLock();
+        return reader;
+    }
+    
+    /**
+     * Non-exclusively acquires the read lock unless the current thread is interrupted, 
+     * automatically releasing the lock when returning from a {@code try-with-resources} 
+     * block.
+     * 
+     * @return a {@code Mutex}
+     * @throws InterruptedException if the current thread is interrupted while acquiring 
+     *                              the lock
+     */
+    public Mutex holdReadInterruptibly() throws InterruptedException {
+        readLockInterruptibly();
+        return reader;
+    }
+    
+    
+    /**
+     * Optimistically reads a value using the given reader without acquiring the 
+     * lock. If a write occurred during the optimistic read, the value is read 
+     * again while holding the read lock.
+     * <br><br>
+     * The given reader may observe inconsistent state during an optimistic read
+     * and should hence only read fields into local variables without acting on 
+     * them.
+     * 
+     * @param <T> the type of the value
+     * @param reader the reader
+     * @return the value that was read
+     */
+    public <T> T optimistic(Supplier<T> reader) {
+        long stamp = tryOptimisticRead();
+        if (stamp != 0) {
+            var value = reader.get();
+            if (validate(stamp)) {
+                return value;
+            }
+        }
+        
+        stamp = readLock();
+        try {
+            return reader.get();
+            
+        } finally {
+            unlockRead(stamp);
+        }
+    }
+    
+    /**
+     * Optimistically reads a value using the given reader without acquiring the 
+     * lock. If a write occurred during the optimistic read, the value is read 
+     * again while holding the read lock.
+     * <br><br>
+     * The given reader may observe inconsistent state during an optimistic read
+     * and should hence only read fields into local variables without acting on 
+     * them.
+     * 
+     * @param reader the reader
+     * @return the value that was read
+     */
+    public long optimistic(LongSupplier reader) {
+        long stamp = tryOptimisticRead();
+        if (stamp != 0) {
+            var value = reader.getAsLong();
+            if (validate(stamp)) {
+                return value;
+            }
+        }
+        
+        stamp = readLock();
+        try {
+            return reader.getAsLong();
+            
+        } finally {
+            unlockRead(stamp);
+        }
+    }
+    
+    /**
+     * Evaluates the given condition while holding the read lock and if satisfied,
+     * upgrades to the write lock and executes the given writer. The condition 
+     * is evaluated again if the read lock cannot be upgraded immediately.
+     * 
+     * @param condition the condition that determines if a write is required
+     * @param writer the writer to be executed while holding the write lock
+     * @return {@code true} if the writer was executed
+     */
+    public boolean upgrade(BooleanSupplier condition, Runnable writer) {
+        long stamp = readLock();
+        try {
+            while (condition.getAsBoolean()) {
+                long upgraded = tryConvertToWriteLock(stamp);
+                if (upgraded != 0) {
+                    stamp = upgraded;
+                    writer.run();
+                    return true;
+                }
+                
+                unlockRead(stamp);
+                stamp = writeLock();
+            }
+            
+            return false;
+            
+        } finally {
+            unlock(stamp);
+        }
+    }
+    
+}
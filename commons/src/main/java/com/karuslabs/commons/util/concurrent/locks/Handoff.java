@@ -0,0 +1,72 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util.concurrent.locks;
+
+import java.util.ArrayDeque;
+
+/**
+ * A trampoline that hands ownership of an asynchronous lock to the next waiter 
+ * on the current thread.
+ * <br><br>
+ * A waiter's dependent actions run when its future is completed and may close 
+ * their {@code Mutex} immediately, which in turn completes the future of the next 
+ * waiter. Handoffs that occur during another handoff on the same thread are hence 
+ * deferred until the outer handoff returns to prevent the stack from growing with 
+ * the number of waiters.
+ */
+final class Handoff {
+    
+    private static final ThreadLocal<Handoff> LOCAL = ThreadLocal.withInitial(Handoff::new);
+    
+    /**
+     * Runs the given handoff on the current thread, deferring it if another handoff 
+     * is running on the current thread.
+     * 
+     * @param handoff the handoff
+     */
+    static void run(Runnable handoff) {
+        var local = LOCAL.get();
+        local.pending.add(handoff);
+        if (local.running) {
+            return;
+        }
+        
+        local.running = true;
+        try {
+            Runnable next;
+            while ((next = local.pending.poll()) != null) {
+                next.run();
+            }
+            
+        } finally {
+            local.running = false;
+        }
+    }
+    
+    private final ArrayDeque<Runnable> pending = new ArrayDeque<>();
+    private boolean running;
+    
+    private Handoff() {}
+    
+}
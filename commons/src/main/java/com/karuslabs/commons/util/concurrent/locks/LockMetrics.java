@@ -0,0 +1,151 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util.concurrent.locks;
+
+import com.karuslabs.commons.util.concurrent.Histogram;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The metrics of a lock, recorded when the lock is held via {@link Holdable#hold()} 
+ * or {@link Holdable#holdInterruptibly()}. All durations are in nanoseconds.
+ * <br><br>
+ * A lock is instrumented by supplying a {@code LockMetrics} when creating the 
+ * lock. Locks created without a {@code LockMetrics} incur no additional cost.
+ */
+public final class LockMetrics {
+    
+    private final String name;
+    private final Histogram waits = new Histogram();
+    private final Histogram holds = new Histogram();
+    private final AtomicInteger queue = new AtomicInteger();
+    
+    /**
+     * Creates a {@code LockMetrics} with the given name.
+     * 
+     * @param name the name of the instrumented lock
+     */
+    public LockMetrics(String name) {
+        this.name = name;
+    }
+    
+    /**
+     * Marks the start of an attempt to acquire the lock.
+     * 
+     * @param queued the estimated number of threads waiting to acquire the lock
+     * @return the time at which the attempt started
+     */
+    long acquiring(int queued) {
+        int current;
+        while (queued > (current = queue.get()) && !queue.compareAndSet(current, queued)) {
+            Thread.onSpinWait();
+        }
+        
+        return System.nanoTime();
+    }
+    
+    /**
+     * Marks the acquisition of the lock.
+     * 
+     * @param started the time at which the attempt to acquire the lock started
+     * @return the time at which the lock was acquired
+     */
+    long acquired(long started) {
+        long now = System.nanoTime();
+        waits.record(now - started);
+        return now;
+    }
+    
+    /**
+     * Marks the release of the lock.
+     * 
+     * @param acquired the time at which the lock was acquired
+     */
+    void released(long acquired) {
+        holds.record(System.nanoTime() - acquired);
+    }
+    
+    
+    /**
+     * Returns the name of the instrumented lock.
+     * 
+     * @return the name
+     */
+    public String name() {
+        return name;
+    }
+    
+    /**
+     * Returns the durations which threads waited to acquire the lock.
+     * 
+     * @return the durations of waits
+     */
+    public Histogram waits() {
+        return waits;
+    }
+    
+    /**
+     * Returns the durations for which the lock was held, from acquisition until 
+     * the outermost {@code Mutex} was closed.
+     * 
+     * @return the durations of holds
+     */
+    public Histogram holds() {
+        return holds;
+    }
+    
+    /**
+     * Returns the number of times the lock was acquired.
+     * 
+     * @return the number of acquisitions
+     */
+    public long acquisitions() {
+        return waits.count();
+    }
+    
+    /**
+     * Returns the largest estimated number of threads that were waiting to acquire 
+     * the lock.
+     * 
+     * @return the maximum length of the queue
+     */
+    public int maxQueue() {
+        return queue.get();
+    }
+    
+    /**
+     * Removes all recorded metrics.
+     */
+    public void reset() {
+        waits.reset();
+        holds.reset();
+        queue.set(0);
+    }
+    
+    @Override
+    public String toString() {
+        return "LockMetrics[" + name + "]";
+    }
+    
+}
@@ -0,0 +1,168 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util.concurrent.locks;
+
+import java.util.Arrays;
+import java.util.function.*;
+
+/**
+ * A fixed number of locks, known as stripes, onto which keys are mapped, i.e. 
+ * to lock the state of individual players without a lock per player. Distinct 
+ * keys may be mapped onto the same stripe.
+ * <br><br>
+ * The number of stripes is always a power of two. Stripes are not padded; the 
+ * contended state of a lock resides in a separately allocated synchronizer rather 
+ * than in the stripe itself.
+ * 
+ * @param <T> the type of the stripes
+ */
+public final class StripedLocks<T> {
+    
+    /**
+     * Creates a {@code StripedLocks} of non-fair {@code AutoLock}s with at least 
+     * the given number of stripes.
+     * 
+     * @param stripes the minimum number of stripes
+     * @return a {@code StripedLocks}
+     * @throws IllegalArgumentException if {@code stripes} is not positive
+     */
+    public static StripedLocks<AutoLock> locks(int stripes) {
+        return new StripedLocks<>(stripes, AutoLock::new, lock -> lock);
+    }
+    
+    /**
+     * Creates a {@code StripedLocks} of non-fair {@code AutoReadWriteLock}s with 
+     * at least the given number of stripes. The write locks of stripes are held 
+     * by {@link #hold(Object)} and {@link #hold(Object...)}.
+     * 
+     * @param stripes the minimum number of stripes
+     * @return a {@code StripedLocks}
+     * @throws IllegalArgumentException if {@code stripes} is not positive
+     */
+    public static StripedLocks<AutoReadWriteLock> readwrite(int stripes) {
+        return new StripedLocks<>(stripes, AutoReadWriteLock::new, AutoReadWriteLock::writeLock);
+    }
+    
+    
+    private final Object[] stripes;
+    private final int mask;
+    private final Function<T, Holdable> exclusive;
+    
+    /**
+     * Creates a {@code StripedLocks} with the given arguments.
+     * 
+     * @param stripes the minimum number of stripes
+     * @param factory the factory used to create stripes
+     * @param exclusive the function used to retrieve the exclusive {@code Holdable} 
+     *                  of a stripe
+     * @throws IllegalArgumentException if {@code stripes} is not positive
+     */
+    StripedLocks(int stripes, Supplier<T> factory, Function<T, Holdable> exclusive) {
+        if (stripes <= 0 || stripes > 1 << 30) {
+            throw new IllegalArgumentException("Number of stripes should be between 1 and 2^30, but was " + stripes);
+        }
+        
+        this.stripes = new Object[stripes == 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1];
+        this.mask = this.stripes.length - 1;
+        this.exclusive = exclusive;
+        for (int i = 0; i < this.stripes.length; i++) {
+            this.stripes[i] = factory.get();
+        }
+    }
+    
+    
+    /**
+     * Exclusively holds the stripe onto which the given key is mapped.
+     * 
+     * @param key the key
+     * @return a {@code Mutex}
+     */
+    public Mutex hold(Object key) {
+        return exclusive.apply(get(key)).hold();
+    }
+    
+    /**
+     * Exclusively holds the stripes onto which the given keys are mapped. Stripes 
+     * are always acquired in the same order to prevent deadlocks between threads
+     * which hold overlapping stripes, and are released in reverse order when the 
+     * returned {@code Mutex} is closed.
+     * 
+     * @param keys the keys
+     * @return a {@code Mutex}
+     */
+    public Mutex hold(Object... keys) {
+        var indexes = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            indexes[i] = index(keys[i]);
+        }
+        Arrays.sort(indexes);
+        
+        int count = 0;
+        for (int i = 0; i < indexes.length; i++) {
+            if (i == 0 || indexes[i] != indexes[i - 1]) {
+                indexes[count++] = indexes[i];
+            }
+        }
+        
+        var mutexes = new Mutex[count];
+        for (int i = 0; i < count; i++) {
+            @SuppressWarnings("unchecked")
+            var stripe = (T) stripes[indexes[i]];
+            mutexes[i] = exclusive.apply(stripe).hold();
+        }
+        
+        return () -> {
+            for (int i = mutexes.length - 1; i >= 0; i--) {
+                mutexes[i].close();
+            }
+        };
+    }
+    
+    /**
+     * Returns the stripe onto which the given key is mapped.
+     * 
+     * @param key the key
+     * @return the stripe
+     */
+    public T get(Object key) {
+        @SuppressWarnings("unchecked")
+        var stripe = (T) stripes[index(key)];
+        return stripe;
+    }
+    
+    /**
+     * Returns the number of stripes.
+     * 
+     * @return the number of stripes
+     */
+    public int size() {
+        return stripes.length;
+    }
+    
+    int index(Object key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+    
+}
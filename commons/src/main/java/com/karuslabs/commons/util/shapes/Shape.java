@@ -0,0 +1,184 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util.shapes;
+
+import com.karuslabs.commons.util.*;
+
+import java.util.Objects;
+
+import org.bukkit.Location;
+
+/**
+ * An immutable shape of unit size, represented as separate arrays of x, y and 
+ * z coordinates. 
+ * <br><br>
+ * A {@code Shape} is transformed into a caller-supplied buffer instead of 
+ * creating new vectors. Reusing both the buffer and the {@link Rotation} 
+ * therefore allows a shape to be rendered each tick without any allocation.
+ * 
+ * @see Shapes
+ */
+public final class Shape {
+    
+    private final double[] xs;
+    private final double[] ys;
+    private final double[] zs;
+    
+    /**
+     * Creates a {@code Shape} with the given coordinates. The arrays are not copied
+     * and should not be modified afterwards.
+     * 
+     * @param xs the x coordinates
+     * @param ys the y coordinates
+     * @param zs the z coordinates
+     */
+    Shape(double[] xs, double[] ys, double[] zs) {
+        this.xs = xs;
+        this.ys = ys;
+        this.zs = zs;
+    }
+    
+    
+    /**
+     * Copies the coordinates of this shape to the given buffer.
+     * 
+     * @param xs the buffer for the x coordinates
+     * @param ys the buffer for the y coordinates
+     * @param zs the buffer for the z coordinates
+     * @param offset the index in the buffer at which the first point is copied
+     * @throws IndexOutOfBoundsException if this shape does not fit in the buffer
+     */
+    public void copy(double[] xs, double[] ys, double[] zs, int offset) {
+        check(xs, ys, zs, offset);
+        
+        System.arraycopy(this.xs, 0, xs, offset, size());
+        System.arraycopy(this.ys, 0, ys, offset, size());
+        System.arraycopy(this.zs, 0, zs, offset, size());
+    }
+    
+    /**
+     * Scales, rotates and translates this shape to the given origin and copies 
+     * the resultant coordinates to the given buffer. The shape is rotated about 
+     * the yaw and pitch of the origin.
+     * <br><br>
+     * <b>Implementation details:</b><br>
+     * A {@code Rotation} is created for each invocation. Use 
+     * {@link #transform(Rotation, double, double, double, double, double[], double[], double[], int)}
+     * with a cached rotation to avoid the allocation.
+     * 
+     * @param origin the origin
+     * @param scale the factor by which this shape is scaled
+     * @param xs the buffer for the x coordinates
+     * @param ys the buffer for the y coordinates
+     * @param zs the buffer for the z coordinates
+     * @param offset the index in the buffer at which the first point is copied
+     * @throws IndexOutOfBoundsException if this shape does not fit in the buffer
+     */
+    public void transform(Location origin, double scale, double[] xs, double[] ys, double[] zs, int offset) {
+        transform(Rotation.of(origin), scale, origin.getX(), origin.getY(), origin.getZ(), xs, ys, zs, offset);
+    }
+    
+    /**
+     * Scales, rotates and translates this shape by the given values and copies
+     * the resultant coordinates to the given buffer.
+     * 
+     * @param rotation the rotation
+     * @param scale the factor by which this shape is scaled
+     * @param x the x coordinate by which this shape is translated
+     * @param y the y coordinate by which this shape is translated
+     * @param z the z coordinate by which this shape is translated
+     * @param xs the buffer for the x coordinates
+     * @param ys the buffer for the y coordinates
+     * @param zs the buffer for the z coordinates
+     * @param offset the index in the buffer at which the first point is copied
+     * @throws IndexOutOfBoundsException if this shape does not fit in the buffer
+     */
+    public void transform(Rotation rotation, double scale, double x, double y, double z, double[] xs, double[] ys, double[] zs, int offset) {
+        check(xs, ys, zs, offset);
+        
+        var size = size();
+        for (int i = 0; i < size; i++) {
+            xs[offset + i] = this.xs[i] * scale;
+            ys[offset + i] = this.ys[i] * scale;
+            zs[offset + i] = this.zs[i] * scale;
+        }
+        
+        if (rotation != Rotation.IDENTITY) {
+            Vectors.rotate(xs, ys, zs, offset, size, rotation);
+        }
+        
+        for (int i = offset; i < offset + size; i++) {
+            xs[i] += x;
+            ys[i] += y;
+            zs[i] += z;
+        }
+    }
+    
+    void check(double[] xs, double[] ys, double[] zs, int offset) {
+        Objects.checkFromIndexSize(offset, size(), xs.length);
+        Objects.checkFromIndexSize(offset, size(), ys.length);
+        Objects.checkFromIndexSize(offset, size(), zs.length);
+    }
+    
+    
+    /**
+     * Returns the x coordinate of the point at the given index.
+     * 
+     * @param index the index
+     * @return the x coordinate
+     */
+    public double x(int index) {
+        return xs[index];
+    }
+    
+    /**
+     * Returns the y coordinate of the point at the given index.
+     * 
+     * @param index the index
+     * @return the y coordinate
+     */
+    public double y(int index) {
+        return ys[index];
+    }
+    
+    /**
+     * Returns the z coordinate of the point at the given index.
+     * 
+     * @param index the index
+     * @return the z coordinate
+     */
+    public double z(int index) {
+        return zs[index];
+    }
+    
+    /**
+     * Returns the number of points in this shape.
+     * 
+     * @return the number of points
+     */
+    public int size() {
+        return xs.length;
+    }
+    
+}
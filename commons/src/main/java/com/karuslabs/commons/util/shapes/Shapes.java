@@ -0,0 +1,174 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util.shapes;
+
+import com.karuslabs.annotations.Static;
+
+import java.util.concurrent.*;
+
+import static java.lang.Math.*;
+
+/**
+ * Factory methods for shapes of unit size, which are computed once and cached 
+ * by resolution.
+ * <br><br>
+ * Shapes face the positive x axis, which {@link com.karuslabs.commons.util.Vectors}
+ * rotates to the direction of a yaw and pitch.
+ */
+public @Static class Shapes {
+    
+    private static final double GOLDEN_ANGLE = PI * (3 - sqrt(5));
+    
+    private static final ConcurrentMap<Integer, Shape> CIRCLES = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<Long, Shape> HELIXES = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<Integer, Shape> SPHERES = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<Integer, Shape> LINES = new ConcurrentHashMap<>();
+    
+    
+    /**
+     * Returns a horizontal circle with a radius of 1, centered on the origin.
+     * 
+     * @param points the number of points
+     * @return a circle
+     * @throws IllegalArgumentException if {@code points} is not positive
+     */
+    public static Shape circle(int points) {
+        check(points);
+        return CIRCLES.computeIfAbsent(points, Shapes::computeCircle);
+    }
+    
+    static Shape computeCircle(int points) {
+        var xs = new double[points];
+        var ys = new double[points];
+        var zs = new double[points];
+        
+        for (int i = 0; i < points; i++) {
+            var angle = 2 * PI * i / points;
+            xs[i] = cos(angle);
+            zs[i] = sin(angle);
+        }
+        
+        return new Shape(xs, ys, zs);
+    }
+    
+    
+    /**
+     * Returns a helix with a radius and height of 1 that rises from the origin
+     * along the y axis.
+     * 
+     * @param points the number of points
+     * @param turns the number of turns
+     * @return a helix
+     * @throws IllegalArgumentException if {@code points} or {@code turns} is not positive
+     */
+    public static Shape helix(int points, int turns) {
+        check(points);
+        if (turns <= 0) {
+            throw new IllegalArgumentException("Turns should be positive, but was " + turns);
+        }
+        
+        return HELIXES.computeIfAbsent((long) points << 32 | turns, key -> computeHelix(points, turns));
+    }
+    
+    static Shape computeHelix(int points, int turns) {
+        var xs = new double[points];
+        var ys = new double[points];
+        var zs = new double[points];
+        
+        for (int i = 0; i < points; i++) {
+            var height = points == 1 ? 0 : (double) i / (points - 1);
+            var angle = 2 * PI * turns * height;
+            
+            xs[i] = cos(angle);
+            ys[i] = height;
+            zs[i] = sin(angle);
+        }
+        
+        return new Shape(xs, ys, zs);
+    }
+    
+    
+    /**
+     * Returns a sphere with a radius of 1, centered on the origin. The points are
+     * evenly distributed on the surface using a Fibonacci lattice.
+     * 
+     * @param points the number of points
+     * @return a sphere
+     * @throws IllegalArgumentException if {@code points} is not positive
+     */
+    public static Shape sphere(int points) {
+        check(points);
+        return SPHERES.computeIfAbsent(points, Shapes::computeSphere);
+    }
+    
+    static Shape computeSphere(int points) {
+        var xs = new double[points];
+        var ys = new double[points];
+        var zs = new double[points];
+        
+        for (int i = 0; i < points; i++) {
+            var y = 1 - 2 * (i + 0.5) / points;
+            var radius = sqrt(1 - y * y);
+            var angle = GOLDEN_ANGLE * i;
+            
+            xs[i] = radius * cos(angle);
+            ys[i] = y;
+            zs[i] = radius * sin(angle);
+        }
+        
+        return new Shape(xs, ys, zs);
+    }
+    
+    
+    /**
+     * Returns a line with a length of 1 that extends from the origin along the 
+     * positive x axis.
+     * 
+     * @param points the number of points
+     * @return a line
+     * @throws IllegalArgumentException if {@code points} is not positive
+     */
+    public static Shape line(int points) {
+        check(points);
+        return LINES.computeIfAbsent(points, Shapes::computeLine);
+    }
+    
+    static Shape computeLine(int points) {
+        var xs = new double[points];
+        
+        for (int i = 0; i < points; i++) {
+            xs[i] = points == 1 ? 0 : (double) i / (points - 1);
+        }
+        
+        return new Shape(xs, new double[points], new double[points]);
+    }
+    
+    
+    static void check(int points) {
+        if (points <= 0) {
+            throw new IllegalArgumentException("Points should be positive, but was " + points);
+        }
+    }
+    
+}
@@ -0,0 +1,102 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.command;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares splitting a comma separated list of names with {@link Readers#COMMA}
+ * against iterating it with {@link Readers#segments(String)}, as done when parsing 
+ * and suggesting players.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReadersBenchmark {
+    
+    @Param({"1", "10", "100"})
+    int names;
+    
+    String argument;
+    String remaining;
+    
+    @Setup
+    public void setup() {
+        var joiner = new StringJoiner(", ");
+        for (int i = 0; i < names; i++) {
+            joiner.add("Player" + i);
+        }
+        
+        argument = joiner.toString();
+        remaining = '"' + argument.substring(0, argument.length() - 1);
+    }
+    
+    
+    @Benchmark
+    public void parse_split(Blackhole blackhole) {
+        for (var name : Readers.COMMA.split(argument)) {
+            blackhole.consume(name.equalsIgnoreCase("@r"));
+            blackhole.consume(name);
+        }
+    }
+    
+    @Benchmark
+    public void parse_segments(Blackhole blackhole) {
+        var segments = Readers.segments(argument);
+        while (segments.next()) {
+            blackhole.consume(segments.equalsIgnoreCase("@r"));
+            blackhole.consume(segments.segment());
+        }
+    }
+    
+    
+    @Benchmark
+    public String suggest_split() {
+        var remaining = this.remaining.replace("\"", "");
+        var parts = Readers.COMMA.split(remaining, -1);
+        var last = parts[parts.length - 1];
+        var beginning = remaining.substring(0, remaining.lastIndexOf(last));
+        
+        return '"' + beginning + "Player" + '"';
+    }
+    
+    @Benchmark
+    public String suggest_segments() {
+        var segments = Readers.segments(remaining, 1, remaining.length());
+        var last = 1;
+        while (segments.next()) {
+            last = segments.start();
+        }
+        
+        return new StringBuilder(last + 8).append('"').append(remaining, 1, last).append("Player").append('"').toString();
+    }
+    
+}
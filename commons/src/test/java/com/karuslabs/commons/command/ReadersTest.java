@@ -24,8 +24,13 @@
 package com.karuslabs.commons.command;
 
 import com.mojang.brigadier.StringReader;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+
+import java.util.*;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -51,5 +56,83 @@ class ReadersTest {
     void until_predicate() {
         assertEquals("abc", Readers.until(reader, val -> val == 'd'));
     }
+    
+    
+    @ParameterizedTest
+    @ValueSource(strings = {"0", "-0", "1.", ".5", "-.5", "0.1", "-1.4", "3.14159265358979", "0.30000000000000004", "9007199254740993", "123456789012345678901234"})
+    void readDouble(String number) throws CommandSyntaxException {
+        var expected = new StringReader(number + " a");
+        var actual = new StringReader(number + " a");
+        
+        assertEquals(Double.doubleToLongBits(expected.readDouble()), Double.doubleToLongBits(Readers.readDouble(actual)));
+        assertEquals(expected.getCursor(), actual.getCursor());
+    }
+    
+    @Test
+    void readDouble_end() throws CommandSyntaxException {
+        var reader = new StringReader("1.5..2");
+        
+        assertEquals(1.5, Readers.readDouble(reader, 3));
+        assertEquals(3, reader.getCursor());
+    }
+    
+    @Test
+    void readDouble_expected() {
+        assertEquals(
+            CommandSyntaxException.BUILT_IN_EXCEPTIONS.readerExpectedDouble(),
+            assertThrows(CommandSyntaxException.class, () -> Readers.readDouble(reader)).getType()
+        );
+    }
+    
+    @ParameterizedTest
+    @ValueSource(strings = {"-", ".", "-.", "1-2", "1..2", "--1"})
+    void readDouble_invalid(String number) {
+        var reader = new StringReader(number);
+        
+        assertEquals(
+            CommandSyntaxException.BUILT_IN_EXCEPTIONS.readerInvalidDouble(),
+            assertThrows(CommandSyntaxException.class, () -> Readers.readDouble(reader)).getType()
+        );
+        assertEquals(0, reader.getCursor());
+    }
+    
+    
+    @ParameterizedTest
+    @ValueSource(strings = {"", "a", "a,b", "a, b", "a,\t b", "a,,b", "a, ", ",a", "a ,b", "a,b,"})
+    void segments(String string) {
+        var segments = Readers.segments(string);
+        var actual = new ArrayList<String>();
+        while (segments.next()) {
+            actual.add(segments.segment());
+        }
+        
+        assertEquals(List.of(Readers.COMMA.split(string, -1)), actual);
+        assertTrue(segments.last());
+    }
+    
+    @Test
+    void segments_range() {
+        var segments = Readers.segments("\"ab, Cd\"", 1, 7);
+        
+        assertTrue(segments.next());
+        assertEquals(1, segments.start());
+        assertEquals(3, segments.end());
+        assertFalse(segments.last());
+        
+        assertTrue(segments.next());
+        assertEquals(5, segments.start());
+        assertEquals(7, segments.end());
+        assertTrue(segments.equalsIgnoreCase("cd"));
+        assertFalse(segments.equalsIgnoreCase("c"));
+        assertFalse(segments.empty());
+        assertTrue(segments.last());
+        
+        assertFalse(segments.next());
+    }
+    
+    @Test
+    void segments_range_throws_exception() {
+        assertThrows(IndexOutOfBoundsException.class, () -> Readers.segments("abc", 2, 4));
+    }
 
-} 
+}
@@ -0,0 +1,202 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.command;
+
+import com.karuslabs.commons.command.types.Type;
+
+import com.mojang.brigadier.StringReader;
+import com.mojang.brigadier.arguments.StringArgumentType;
+import com.mojang.brigadier.context.CommandContext;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import com.mojang.brigadier.suggestion.*;
+
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import org.bukkit.command.*;
+import org.bukkit.entity.Player;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+
+class SuggestionCacheTest {
+    
+    AtomicInteger calls = new AtomicInteger();
+    SuggestionProvider<Object> provider = (context, builder) -> {
+        calls.incrementAndGet();
+        return builder.suggest(builder.getRemaining() + "a").buildFuture();
+    };
+    CommandContext<Object> context = mock(CommandContext.class);
+    
+    
+    @Test
+    void suggest() throws CommandSyntaxException, InterruptedException, ExecutionException {
+        var cache = new SuggestionCache(2);
+        var cached = cache.provider(provider);
+        
+        var first = cached.getSuggestions(context, new SuggestionsBuilder("/a b", 3)).get();
+        var second = cached.getSuggestions(context, new SuggestionsBuilder("/c b", 3)).get();
+        
+        assertSame(first, second);
+        assertEquals("ba", first.getList().get(0).getText());
+        assertEquals(1, calls.get());
+        assertEquals(1, cache.hits());
+        assertEquals(1, cache.misses());
+    }
+    
+    @Test
+    void suggest_start() throws CommandSyntaxException, InterruptedException, ExecutionException {
+        var cached = new SuggestionCache(2).provider(provider);
+        
+        var first = cached.getSuggestions(context, new SuggestionsBuilder("/a b", 3)).get();
+        var second = cached.getSuggestions(context, new SuggestionsBuilder("/ab b", 4)).get();
+        
+        assertNotSame(first, second);
+        assertEquals(4, second.getRange().getStart());
+        assertEquals(2, calls.get());
+    }
+    
+    @Test
+    void suggest_class() throws CommandSyntaxException, InterruptedException, ExecutionException {
+        var cache = new SuggestionCache(4, SuggestionCache.Scope.CLASS, () -> 0);
+        var cached = cache.provider(provider);
+        
+        when(context.getSource()).thenReturn(mock(Player.class));
+        cached.getSuggestions(context, new SuggestionsBuilder("b", 0)).get();
+        cached.getSuggestions(context, new SuggestionsBuilder("b", 0)).get();
+        
+        when(context.getSource()).thenReturn(mock(ConsoleCommandSender.class));
+        cached.getSuggestions(context, new SuggestionsBuilder("b", 0)).get();
+        
+        assertEquals(2, calls.get());
+        assertEquals(2, cache.size());
+    }
+    
+    @Test
+    void suggest_source() throws CommandSyntaxException, InterruptedException, ExecutionException {
+        var cache = new SuggestionCache(4, SuggestionCache.Scope.SOURCE, () -> 0);
+        var cached = cache.provider(provider);
+        var player = mock(Player.class);
+        
+        when(context.getSource()).thenReturn(player);
+        var first = cached.getSuggestions(context, new SuggestionsBuilder("b", 0)).get();
+        var second = cached.getSuggestions(context, new SuggestionsBuilder("b", 0)).get();
+        
+        when(context.getSource()).thenReturn(mock(Player.class));
+        var other = cached.getSuggestions(context, new SuggestionsBuilder("b", 0)).get();
+        
+        assertSame(first, second);
+        assertNotSame(first, other);
+        assertEquals(2, calls.get());
+    }
+    
+    @Test
+    void suggest_epoch() throws CommandSyntaxException, InterruptedException, ExecutionException {
+        var epoch = new AtomicLong();
+        var cached = new SuggestionCache(4, SuggestionCache.Scope.SHARED, epoch::get).provider(provider);
+        
+        cached.getSuggestions(context, new SuggestionsBuilder("b", 0)).get();
+        epoch.incrementAndGet();
+        cached.getSuggestions(context, new SuggestionsBuilder("b", 0)).get();
+        cached.getSuggestions(context, new SuggestionsBuilder("b", 0)).get();
+        
+        assertEquals(2, calls.get());
+    }
+    
+    @Test
+    void suggest_evicts_least_recently_used() throws CommandSyntaxException, InterruptedException, ExecutionException {
+        var cache = new SuggestionCache(2);
+        var cached = cache.provider(provider);
+        
+        cached.getSuggestions(context, new SuggestionsBuilder("a", 0)).get();
+        cached.getSuggestions(context, new SuggestionsBuilder("b", 0)).get();
+        cached.getSuggestions(context, new SuggestionsBuilder("a", 0)).get();
+        cached.getSuggestions(context, new SuggestionsBuilder("c", 0)).get();
+        cached.getSuggestions(context, new SuggestionsBuilder("a", 0)).get();
+        
+        assertEquals(2, cache.size());
+        assertEquals(3, calls.get());
+        
+        cached.getSuggestions(context, new SuggestionsBuilder("b", 0)).get();
+        assertEquals(4, calls.get());
+    }
+    
+    @Test
+    void suggest_exceptionally() {
+        var cache = new SuggestionCache(2);
+        cache.suggest(null, new SuggestionsBuilder("a", 0), builder -> CompletableFuture.failedFuture(new IllegalStateException()));
+        
+        assertEquals(0, cache.size());
+    }
+    
+    @Test
+    void invalidate() throws CommandSyntaxException, InterruptedException, ExecutionException {
+        var cache = new SuggestionCache(2);
+        cache.provider(provider).getSuggestions(context, new SuggestionsBuilder("a", 0)).get();
+        
+        cache.invalidate();
+        
+        assertEquals(0, cache.size());
+    }
+    
+    @Test
+    void throws_exception() {
+        assertEquals(
+            "Capacity should be positive, but was 0",
+            assertThrows(IllegalArgumentException.class, () -> new SuggestionCache(0)).getMessage()
+        );
+    }
+    
+    
+    @Test
+    void type() throws CommandSyntaxException, InterruptedException, ExecutionException {
+        Type<String> type = mock(Type.class);
+        when(type.parse(any())).thenReturn("parsed");
+        when(type.getExamples()).thenReturn(List.of("example"));
+        var mapped = StringArgumentType.word();
+        when(type.mapped()).thenReturn(mapped);
+        when(type.listSuggestions(any(), any(CommandContext.class), any())).then(invocation -> {
+            calls.incrementAndGet();
+            return invocation.<SuggestionsBuilder>getArgument(2).suggest("b").buildFuture();
+        });
+        
+        var cached = new SuggestionCache(2).type(type);
+        var source = mock(CommandSender.class);
+        
+        assertEquals("parsed", cached.parse(new StringReader("")));
+        assertEquals(List.of("example"), cached.getExamples());
+        assertSame(mapped, cached.mapped());
+        
+        assertSame(
+            cached.listSuggestions(source, context, new SuggestionsBuilder("", 0)).get(),
+            cached.listSuggestions(source, context, new SuggestionsBuilder("", 0)).get()
+        );
+        assertEquals(1, calls.get());
+    }
+    
+}
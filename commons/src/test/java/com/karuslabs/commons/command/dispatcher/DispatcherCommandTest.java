@@ -23,10 +23,14 @@
  */
 package com.karuslabs.commons.command.dispatcher;
 
-import com.mojang.brigadier.CommandDispatcher;
-import com.mojang.brigadier.LiteralMessage;
-import com.mojang.brigadier.StringReader;
+import com.karuslabs.commons.util.concurrent.Watchdog;
+
+import com.mojang.brigadier.*;
+import com.mojang.brigadier.arguments.StringArgumentType;
+import com.mojang.brigadier.builder.*;
+import com.mojang.brigadier.context.*;
 import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import com.mojang.brigadier.tree.RootCommandNode;
 
 import java.util.List;
 
@@ -81,6 +85,37 @@ class DispatcherCommandTest {
     }
     
     
+    @Test
+    void execute_watchdog() throws CommandSyntaxException {
+        var watchdog = mock(Watchdog.class);
+        var owner = mock(Dispatcher.class);
+        owner.watchdog = watchdog;
+        
+        var context = new CommandContextBuilder<CommandSender>(owner, sender, new RootCommandNode<>(), 0)
+            .withNode(LiteralArgumentBuilder.<CommandSender>literal("command").build(), StringRange.between(0, 7))
+            .withNode(RequiredArgumentBuilder.<CommandSender, String>argument("argument", StringArgumentType.word()).build(), StringRange.between(8, 9));
+        var parse = new ParseResults<>(context);
+        
+        var command = spy(new DispatcherCommand("name", plugin, "desc", owner, "", List.of()));
+        doReturn(true).when(command).testPermission(sender);
+        doReturn(parse).when(owner).parse(any(StringReader.class), any(CommandSender.class));
+        doThrow(RuntimeException.class).when(owner).execute(parse);
+        
+        assertTrue(command.execute(sender, "command", "a", "b"));
+        
+        var order = inOrder(watchdog, owner);
+        order.verify(watchdog).enter("/command <argument>");
+        order.verify(owner).execute(parse);
+        order.verify(watchdog).exit();
+    }
+    
+    @Test
+    void label() {
+        var context = new CommandContextBuilder<CommandSender>(dispatcher, sender, new RootCommandNode<>(), 0);
+        assertEquals("/name", command.label(context));
+    }
+    
+    
     @Test
     void execute_CommandRuntimeException() throws CommandSyntaxException {
         doReturn(true).when(command).testPermission(sender);
@@ -27,12 +27,13 @@ import com.karuslabs.commons.command.types.*;
 import com.karuslabs.commons.command.ClientSuggestionProvider;
 import com.karuslabs.commons.command.tree.nodes.*;
 
-import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.*;
 import com.mojang.brigadier.arguments.BoolArgumentType;
-import com.mojang.brigadier.context.CommandContext;
+import com.mojang.brigadier.context.*;
 import com.mojang.brigadier.exceptions.CommandSyntaxException;
 import com.mojang.brigadier.suggestion.*;
 
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -128,6 +129,36 @@ class SpigotMapperTest {
     }
     
     
+    @Test
+    void reparse_type_concurrent() throws CommandSyntaxException {
+        var executor = mock(Executor.class);
+        var owner = mock(Dispatcher.class);
+        owner.executor = executor;
+        when(owner.parse(anyString(), any(CommandSender.class))).thenReturn(new ParseResults<>(new CommandContextBuilder<>(owner, sender, null, 0)));
+        
+        Type<Object> type = when(mock(Type.class).concurrent()).thenReturn(true).getMock();
+        CommandContext<CommandSourceStack> context = when(mock(CommandContext.class).getSource()).thenReturn(stack).getMock();
+        when(context.getInput()).thenReturn("/command");
+        
+        new SpigotMapper(owner).reparse(type).getSuggestions(context, mock(SuggestionsBuilder.class));
+        
+        verify(owner).parse("command", sender);
+        verify(executor).execute(any());
+        verify(type, never()).listSuggestions(any(CommandContext.class), any());
+    }
+    
+    @Test
+    void reparse_type_concurrent_no_executor() throws CommandSyntaxException {
+        Type<Object> type = when(mock(Type.class).concurrent()).thenReturn(true).getMock();
+        CommandContext<CommandSourceStack> context = when(mock(CommandContext.class).getSource()).thenReturn(stack).getMock();
+        when(context.getInput()).thenReturn("/command");
+        
+        mapper.reparse(type).getSuggestions(context, mock(SuggestionsBuilder.class));
+        
+        verify(type).listSuggestions(any(CommandContext.class), any());
+    }
+    
+    
     @ParameterizedTest
     @MethodSource("command_parameters")
     void reparse_suggestion_provider(String command, String trimmed) throws CommandSyntaxException {
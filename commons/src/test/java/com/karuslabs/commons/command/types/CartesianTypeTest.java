@@ -29,6 +29,7 @@ import com.mojang.brigadier.context.CommandContext;
 import com.mojang.brigadier.exceptions.CommandSyntaxException;
 import com.mojang.brigadier.suggestion.SuggestionsBuilder;
 
+import java.util.UUID;
 import java.util.concurrent.ExecutionException;
 
 import net.minecraft.commands.arguments.coordinates.*;
@@ -50,6 +51,11 @@ class CartesianTypeTest {
     Block block = when(mock(Block.class).getLocation()).thenReturn(location).getMock();
     Player player = when(mock(Player.class).getTargetBlockExact(5)).thenReturn(block).getMock();
     SuggestionsBuilder builder = new SuggestionsBuilder("a b", 0);
+    
+    {
+        when(player.getLocation()).thenReturn(new Location(null, 1, 2, 3));
+        when(player.getUniqueId()).thenReturn(UUID.randomUUID());
+    }
     CommandContext<CommandSender> context = mock(CommandContext.class);
     
     
@@ -29,6 +29,7 @@ import com.mojang.brigadier.suggestion.SuggestionsBuilder;
 
 import java.util.List;
 
+import org.bukkit.NamespacedKey;
 import org.bukkit.enchantments.Enchantment;
 
 import org.junit.jupiter.api.Test;
@@ -39,15 +40,19 @@ import static org.mockito.Mockito.*;
 
 class EnchantmentTypeTest {
     
-    EnchantmentType type = new EnchantmentType();
+    static Enchantment enchantment(String key) {
+        return when(mock(Enchantment.class).getKey()).thenReturn(NamespacedKey.minecraft(key)).getMock();
+    }
+    
+    Enchantment channeling = enchantment("channeling");
+    EnchantmentType type = new EnchantmentType(new KeyedType.Index<>(
+        () -> List.of(channeling, enchantment("arrow_damage"), enchantment("arrow_fire")), enchantment -> enchantment.getKey().toString()
+    ));
     
     
     @Test
     void parse() throws CommandSyntaxException {
-        Enchantment enchantment = mock(Enchantment.class);
-        EnchantmentType.ENCHANTMENTS.put("channeling", enchantment);
-                
-        assertEquals(enchantment, type.parse(new StringReader("CHANNELING")));
+        assertEquals(channeling, type.parse(new StringReader("CHANNELING")));
     }
     
     
@@ -62,9 +67,6 @@ class EnchantmentTypeTest {
     
     @Test
     void listSuggestions() {
-        EnchantmentType.ENCHANTMENTS.put("arrow_damage", mock(Enchantment.class));
-        EnchantmentType.ENCHANTMENTS.put("arrow_fire", mock(Enchantment.class));
-        
         SuggestionsBuilder builder = when(mock(SuggestionsBuilder.class).getRemaining()).thenReturn("arro").getMock();
         type.listSuggestions(null, builder);
         
@@ -0,0 +1,280 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.command.types;
+
+import com.karuslabs.commons.command.types.KeyedType.Index;
+
+import com.mojang.brigadier.StringReader;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import com.mojang.brigadier.suggestion.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import net.minecraft.commands.arguments.ResourceLocationArgument;
+
+import org.bukkit.Particle;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class KeyedTypeTest {
+    
+    AtomicInteger builds = new AtomicInteger();
+    Index<Particle> index = new Index<>(() -> {
+        builds.incrementAndGet();
+        return List.of(Particle.FLAME, Particle.FLASH, Particle.HEART);
+    }, particle -> switch (particle) {
+        case HEART -> "plugin:heart";
+        default -> "minecraft:" + particle.toString().toLowerCase();
+    });
+    KeyedType<Particle> type = new KeyedType<>(index, "particle", List.of("flame"));
+    long time = 0;
+    
+    
+    @Test
+    void parse() throws CommandSyntaxException {
+        assertEquals(Particle.FLAME, type.parse(new StringReader("FLAME")));
+        assertEquals(Particle.FLASH, type.parse(new StringReader("minecraft:flash")));
+        assertEquals(Particle.HEART, type.parse(new StringReader("plugin:heart")));
+    }
+    
+    @Test
+    void parse_trailing() throws CommandSyntaxException {
+        var reader = new StringReader("flame],");
+        
+        assertEquals(Particle.FLAME, type.parse(reader));
+        assertEquals(5, reader.getCursor());
+    }
+    
+    @Test
+    void parse_throws_exception() {
+        assertEquals(
+            "Unknown particle: heart",
+            assertThrows(CommandSyntaxException.class, () -> type.parse(new StringReader("heart"))).getRawMessage().toString()
+        );
+    }
+    
+    
+    @Test
+    void listSuggestions() throws InterruptedException, ExecutionException {
+        assertEquals(
+            Set.of("flame", "flash"),
+            texts(type.listSuggestions(null, new SuggestionsBuilder("fla", 0)).get())
+        );
+    }
+    
+    @Test
+    void listSuggestions_empty() throws InterruptedException, ExecutionException {
+        assertEquals(
+            Set.of("flame", "flash", "plugin:heart"),
+            texts(type.listSuggestions(null, new SuggestionsBuilder("", 0)).get())
+        );
+    }
+    
+    @Test
+    void listSuggestions_namespaced() throws InterruptedException, ExecutionException {
+        assertEquals(
+            Set.of("minecraft:flame", "minecraft:flash"),
+            texts(type.listSuggestions(null, new SuggestionsBuilder("minecraft:f", 0)).get())
+        );
+        assertEquals(
+            Set.of("plugin:heart"),
+            texts(type.listSuggestions(null, new SuggestionsBuilder("plu", 0)).get())
+        );
+    }
+    
+    @Test
+    void listSuggestions_limit() throws CommandSyntaxException, InterruptedException, ExecutionException {
+        type.parse(new StringReader("flash"));
+        
+        assertEquals(1, type.limit(1).limit());
+        assertEquals(
+            Set.of("flash"),
+            texts(type.listSuggestions(null, new SuggestionsBuilder("fla", 0)).get())
+        );
+    }
+    
+    @Test
+    void listSuggestions_limit_lexicographical() throws InterruptedException, ExecutionException {
+        assertEquals(
+            Set.of("flame"),
+            texts(type.limit(1).listSuggestions(null, new SuggestionsBuilder("fla", 0)).get())
+        );
+    }
+    
+    @Test
+    void listSuggestions_limit_namespaced() throws CommandSyntaxException, InterruptedException, ExecutionException {
+        type.parse(new StringReader("plugin:heart"));
+        
+        assertEquals(
+            Set.of("minecraft:flame"),
+            texts(type.limit(1).listSuggestions(null, new SuggestionsBuilder("minecraft:", 0)).get())
+        );
+    }
+    
+    @Test
+    void limit() {
+        assertEquals(KeyedType.LIMIT, type.limit());
+    }
+    
+    @Test
+    void limit_throws_exception() {
+        assertEquals(
+            "Limit should be positive, but was 0",
+            assertThrows(IllegalArgumentException.class, () -> type.limit(0)).getMessage()
+        );
+    }
+    
+    static Set<String> texts(Suggestions suggestions) {
+        var texts = new HashSet<String>();
+        for (var suggestion : suggestions.getList()) {
+            texts.add(suggestion.getText());
+        }
+        return texts;
+    }
+    
+    
+    @Test
+    void index_lazy() {
+        assertEquals(0, builds.get());
+        
+        assertEquals(3, index.size());
+        assertNotNull(index.get("flame"));
+        
+        assertEquals(1, builds.get());
+    }
+    
+    
+    @Test
+    void index_use() {
+        assertEquals(Particle.FLASH, index.use("minecraft:flash"));
+        assertNull(index.use("heart"));
+        
+        var table = index.table();
+        assertEquals(1, table.frequencies.frequency(table.find("flash")));
+        assertEquals(0, table.frequencies.frequency(table.find("flame")));
+    }
+    
+    
+    @Test
+    void frequencies_use() {
+        var frequencies = new Frequencies(2, () -> time);
+        
+        frequencies.use(0);
+        time = Frequencies.HALF_LIFE;
+        frequencies.use(1);
+        
+        assertEquals(1, frequencies.frequency(0));
+        assertEquals(2, frequencies.frequency(1));
+    }
+    
+    @Test
+    void frequencies_rescale() {
+        var frequencies = new Frequencies(2, () -> time);
+        
+        frequencies.use(0);
+        time = Frequencies.HALF_LIFE * 40;
+        frequencies.use(1);
+        
+        assertEquals(0x1p-40, frequencies.frequency(0));
+        assertEquals(1, frequencies.frequency(1));
+    }
+    
+    @Test
+    void frequencies_rescale_once() {
+        var frequencies = new Frequencies(2, () -> time);
+        
+        frequencies.use(0);
+        time = Frequencies.HALF_LIFE * 40;
+        frequencies.use(1);
+        frequencies.rescale(time);
+        
+        assertEquals(0x1p-40, frequencies.frequency(0));
+        assertEquals(1, frequencies.frequency(1));
+        assertEquals(1, frequencies.weight(time));
+    }
+    
+    @Test
+    void frequencies_top() {
+        var frequencies = new Frequencies(5, () -> time);
+        frequencies.use(3);
+        frequencies.use(3);
+        frequencies.use(1);
+        frequencies.use(4);
+        
+        assertArrayEquals(new int[] {1, 3}, frequencies.top(0, 5, 2, i -> true));
+        assertArrayEquals(new int[] {0, 1, 4}, frequencies.top(0, 5, 3, i -> i != 3));
+        assertArrayEquals(new int[] {0}, frequencies.top(0, 3, 1, i -> i != 1));
+    }
+    
+    
+    @Test
+    void index_read() throws IOException {
+        var index = Index.of(Particle.class, () -> List.of(Particle.FLAME, Particle.HEART), particle -> "minecraft:" + particle.toString().toLowerCase());
+        var writer = new StringWriter();
+        index.write(writer, "1.17-R0.1-SNAPSHOT");
+        
+        var table = index.read(new BufferedReader(new java.io.StringReader(writer.toString())), "1.17-R0.1-SNAPSHOT");
+        
+        assertArrayEquals(new String[] {"flame", "heart"}, table.keys);
+        assertArrayEquals(new Particle[] {Particle.FLAME, Particle.HEART}, table.values);
+        assertEquals(Particle.HEART, table.get("heart"));
+    }
+    
+    @Test
+    void index_read_version() throws IOException {
+        var index = Index.of(Particle.class, () -> List.of(Particle.FLAME), particle -> "minecraft:" + particle.toString().toLowerCase());
+        var writer = new StringWriter();
+        index.write(writer, "1.17-R0.1-SNAPSHOT");
+        
+        assertNull(index.read(new BufferedReader(new java.io.StringReader(writer.toString())), "1.17.1-R0.1-SNAPSHOT"));
+    }
+    
+    @Test
+    void index_resource() {
+        assertEquals("com/karuslabs/commons/command/types/registries/org.bukkit.Particle.index", ParticleType.PARTICLES.resource());
+    }
+    
+    
+    @Test
+    void concurrent() {
+        assertTrue(type.concurrent());
+    }
+    
+    @Test
+    void mapped() {
+        assertEquals(ResourceLocationArgument.class, type.mapped().getClass());
+    }
+    
+    @Test
+    void getExamples() {
+        assertEquals(List.of("flame"), type.getExamples());
+    }
+    
+}
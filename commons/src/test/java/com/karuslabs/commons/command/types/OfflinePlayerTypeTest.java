@@ -0,0 +1,140 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.command.types;
+
+import com.karuslabs.commons.MockServer;
+import com.karuslabs.commons.util.Profiles;
+import com.karuslabs.commons.util.collection.ConcurrentPrefixMap;
+
+import com.mojang.brigadier.StringReader;
+import com.mojang.brigadier.context.CommandContext;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import com.mojang.brigadier.suggestion.SuggestionsBuilder;
+
+import java.util.*;
+
+import org.bukkit.*;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class OfflinePlayerTypeTest {
+    
+    static final UUID PANTE = UUID.fromString("069a79f4-44e9-4726-a5be-fca90e38aaf5");
+    
+    OfflinePlayer player = mock(OfflinePlayer.class);
+    Server server = when(mock(MockServer.class).getOfflinePlayer(PANTE)).thenReturn(player).getMock();
+    ConcurrentPrefixMap<UUID> names = new ConcurrentPrefixMap<>();
+    Profiles profiles = when(mock(Profiles.class).names()).thenReturn(names).getMock();
+    OfflinePlayerType type = new OfflinePlayerType(profiles, server);
+    
+    {
+        names.put("Pante", PANTE);
+        names.put("Pantera", UUID.randomUUID());
+        names.put("Bob", UUID.randomUUID());
+        when(profiles.get("pante")).thenReturn(PANTE);
+    }
+    
+    
+    @Test
+    void parse_name() throws CommandSyntaxException {
+        assertSame(player, type.parse(new StringReader("pante")));
+    }
+    
+    @Test
+    void parse_id() throws CommandSyntaxException {
+        assertSame(player, type.parse(new StringReader(PANTE.toString())));
+        verify(profiles, never()).get(any());
+    }
+    
+    @Test
+    void parse_throws_exception() {
+        assertEquals(
+            "Unknown player: Alice",
+            assertThrows(CommandSyntaxException.class, () -> type.parse(new StringReader("Alice"))).getRawMessage().toString()
+        );
+        verify(profiles).get("Alice");
+        verify(profiles).request("Alice");
+        verify(profiles, never()).resolve(any());
+    }
+    
+    
+    @Test
+    void listSuggestions() {
+        SuggestionsBuilder builder = when(mock(SuggestionsBuilder.class).getRemaining()).thenReturn("pan").getMock();
+        
+        type.listSuggestions(mock(CommandContext.class), builder);
+        
+        verify(builder).suggest("Pante");
+        verify(builder).suggest("Pantera");
+        verify(builder, never()).suggest("Bob");
+    }
+    
+    @Test
+    void listSuggestions_limit() {
+        SuggestionsBuilder builder = when(mock(SuggestionsBuilder.class).getRemaining()).thenReturn("").getMock();
+        
+        assertEquals(2, type.limit(2).limit());
+        type.listSuggestions(mock(CommandContext.class), builder);
+        
+        verify(builder).suggest("Bob");
+        verify(builder).suggest("Pante");
+        verify(builder, never()).suggest("Pantera");
+    }
+    
+    @Test
+    void limit() {
+        assertEquals(KeyedType.LIMIT, type.limit());
+    }
+    
+    @Test
+    void limit_throws_exception() {
+        assertEquals(
+            "Limit should be positive, but was 0",
+            assertThrows(IllegalArgumentException.class, () -> type.limit(0)).getMessage()
+        );
+    }
+    
+    
+    @Test
+    void id() {
+        assertEquals(PANTE, OfflinePlayerType.id(PANTE.toString()));
+        assertNull(OfflinePlayerType.id("Pante"));
+        assertNull(OfflinePlayerType.id("069a79f4-44e9-4726-a5be-fca90e38aaf-"));
+    }
+    
+    
+    @Test
+    void concurrent() {
+        assertTrue(type.concurrent());
+    }
+    
+    @Test
+    void getExamples() {
+        assertEquals(3, type.getExamples().size());
+    }
+    
+}
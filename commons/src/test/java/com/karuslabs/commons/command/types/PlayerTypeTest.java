@@ -24,6 +24,8 @@
 package com.karuslabs.commons.command.types;
 
 import com.karuslabs.commons.MockServer;
+import com.karuslabs.commons.util.*;
+import com.karuslabs.commons.util.collection.ConcurrentPrefixMap;
 
 import com.mojang.brigadier.StringReader;
 import com.mojang.brigadier.context.CommandContext;
@@ -52,10 +54,11 @@ import static org.mockito.quality.Strictness.LENIENT;
 @MockitoSettings(strictness = LENIENT)
 class PlayerTypeTest {
     
+    static Player pante = when(mock(Player.class).getName()).thenReturn("Pante").getMock();
+    
     static {
-        Player player = when(mock(Player.class).getName()).thenReturn("Pante").getMock();
-        Server server = when(mock(MockServer.class).getOnlinePlayers()).thenReturn(List.of(player)).getMock();
-        when(server.getPlayerExact("Pante")).thenReturn(player);
+        Server server = when(mock(MockServer.class).getOnlinePlayers()).thenReturn(List.of(pante)).getMock();
+        when(server.getPlayerExact("Pante")).thenReturn(pante);
         
         try {
             var field = Bukkit.class.getDeclaredField("server");
@@ -79,6 +82,16 @@ class PlayerTypeTest {
     }
     
     
+    @Test
+    void parse_index() throws CommandSyntaxException {
+        var names = new ConcurrentPrefixMap<Player>();
+        names.put("Pante", pante);
+        OnlinePlayers players = when(mock(OnlinePlayers.class).names()).thenReturn(names).getMock();
+        
+        assertEquals(pante, new PlayerType(players).parse(new StringReader("pante")));
+    }
+    
+    
     @Test
     void parse_throws_exception() throws CommandSyntaxException {
         assertEquals(
@@ -101,9 +114,27 @@ class PlayerTypeTest {
         verify(builder, times(times)).suggest("Pante");
     }
     
+    @ParameterizedTest
+    @MethodSource("listSuggestions_parameters")
+    void listSuggestions_index(CommandSender source, String remaining, boolean see, int times) {
+        var names = new ConcurrentPrefixMap<Player>();
+        names.put("Pante", pante);
+        names.put("Bob", mock(Player.class));
+        OnlinePlayers players = when(mock(OnlinePlayers.class).names()).thenReturn(names).getMock();
+        when(player.canSee(any())).thenReturn(see);
+        
+        CommandContext<CommandSender> context = when(mock(CommandContext.class).getSource()).thenReturn(source).getMock();
+        SuggestionsBuilder builder = when(mock(SuggestionsBuilder.class).getRemaining()).thenReturn(remaining).getMock();
+        
+        new PlayerType(players).listSuggestions(context, builder);
+        
+        verify(builder, times(times)).suggest("Pante");
+    }
+    
     static Stream<Arguments> listSuggestions_parameters() {
         return Stream.of(
             of(player, "P", true, 1),
+            of(player, "p", true, 1),
             of(player, "P", false, 0),
             of(player, "invalid", false, 0),
             of(sender, "P", false, 1),
@@ -112,6 +143,13 @@ class PlayerTypeTest {
     }
     
     
+    @Test
+    void concurrent() {
+        assertFalse(type.concurrent());
+        assertFalse(new PlayerType(mock(OnlinePlayers.class)).concurrent());
+    }
+    
+    
     @Test
     void getExamples() {
         assertEquals(List.of("Bob", "Pante"), type.getExamples());
@@ -24,6 +24,8 @@
 package com.karuslabs.commons.command.types;
 
 import com.karuslabs.commons.MockServer;
+import com.karuslabs.commons.util.*;
+import com.karuslabs.commons.util.collection.ConcurrentPrefixMap;
 
 import com.mojang.brigadier.StringReader;
 import com.mojang.brigadier.context.CommandContext;
@@ -84,6 +86,7 @@ class PlayersTypeTest {
     static Stream<Arguments> parse_parameters() {
         return Stream.of(
             of("\"@r, Pante\"", List.of(pante, pante)),
+            of("\"Pante,\tPante, \"", List.of(pante, pante)),
             of("@a", List.of(pante)),
             of("Pante", List.of(pante))
         );
@@ -107,6 +110,14 @@ class PlayersTypeTest {
         );
     }
     
+    @Test
+    void parse_throws_unknown_exception_empty() {
+        assertEquals(
+            "Unknown player or selector: ",
+            assertThrows(CommandSyntaxException.class, () -> type.parse(new StringReader("\"Pante,,Pante\""))).getRawMessage().toString()
+        );
+    }
+    
     
     @ParameterizedTest
     @MethodSource("listSuggestions_parameters")
@@ -120,9 +131,26 @@ class PlayersTypeTest {
     }
     
     
+    @ParameterizedTest
+    @MethodSource("listSuggestions_parameters")
+    void listSuggestions_index(CommandSender source, boolean see, SuggestionsBuilder expected) throws InterruptedException, ExecutionException {
+        var names = new ConcurrentPrefixMap<Player>();
+        names.put("Pante", pante);
+        OnlinePlayers players = when(mock(OnlinePlayers.class).names()).thenReturn(names).getMock();
+        when(player.canSee(any())).thenReturn(see);
+        
+        CommandContext<CommandSender> context = when(mock(CommandContext.class).getSource()).thenReturn(source).getMock();
+        
+        var future = new PlayersType(players).listSuggestions(context, new SuggestionsBuilder(expected.getInput(), 0));
+        
+        assertEquals(expected.build(), future.get());
+    }
+    
+    
     static Stream<Arguments> listSuggestions_parameters() {
         return Stream.of(
             of(player, true, new SuggestionsBuilder("P", 0).suggest("Pante")),
+            of(player, true, new SuggestionsBuilder("p", 0).suggest("Pante")),
             of(sender, true, new SuggestionsBuilder("P", 0).suggest("Pante")),
             of(player, true, new SuggestionsBuilder("Invalid", 0)),
             of(player, false, new SuggestionsBuilder("P", 0)),
@@ -135,6 +163,13 @@ class PlayersTypeTest {
     }
     
     
+    @Test
+    void concurrent() {
+        assertFalse(type.concurrent());
+        assertFalse(new PlayersType(mock(OnlinePlayers.class)).concurrent());
+    }
+    
+    
     @Test
     void getExamples() {
         assertEquals(List.of("@a", "@r", "\"Pante, Kevaasaurus\""), type.getExamples());
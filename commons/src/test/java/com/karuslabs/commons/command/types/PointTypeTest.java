@@ -23,7 +23,7 @@
  */
 package com.karuslabs.commons.command.types;
 
-import com.karuslabs.commons.util.Point;
+import com.karuslabs.commons.util.*;
 
 import com.mojang.brigadier.StringReader;
 import com.mojang.brigadier.exceptions.CommandSyntaxException;
@@ -53,6 +53,26 @@ class PointTypeTest {
             assertThrows(CommandSyntaxException.class, () -> type.parse(new StringReader(line))).getRawMessage().toString()
         );
     }
+    
+    @ParameterizedTest
+    @CsvSource({"'^1 2 3'", "'1 ^2 3'"})
+    void coordinates_throws_exception(String line) throws CommandSyntaxException {
+        assertEquals(
+            "Cannot mix world and local coordinates (everything must either use ^ or not)",
+            assertThrows(CommandSyntaxException.class, () -> type.coordinates(new StringReader(line))).getRawMessage().toString()
+        );
+    }
+    
+    @ParameterizedTest
+    @CsvSource({"'^1.0  ^2.0  ^3.0'", "' 1.0  ~2.0   3.0'", "'~ ~-1 ~0.5'"})
+    void coordinates(String line) throws CommandSyntaxException {
+        assertEquals(type.parse(new StringReader(line)), type.coordinates(new StringReader(line)).point());
+    }
+    
+    @Test
+    void coordinates_2D() throws CommandSyntaxException {
+        assertEquals(new Coordinates(1, 0, 2, Coordinates.RELATIVE_Z), PointType.FLAT.coordinates(new StringReader("1 ~2")));
+    }
 
 }
 
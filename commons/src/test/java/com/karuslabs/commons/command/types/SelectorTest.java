@@ -0,0 +1,182 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.command.types;
+
+import com.karuslabs.commons.MockServer;
+import com.karuslabs.commons.command.types.Selector.Target;
+import com.karuslabs.commons.util.SpatialIndex;
+
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+
+import java.util.*;
+
+import org.bukkit.*;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.*;
+import org.bukkit.util.BoundingBox;
+
+import org.junit.jupiter.api.Test;
+
+import static java.lang.Double.POSITIVE_INFINITY;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SelectorTest {
+    
+    World world = mock(World.class);
+    Player source = player(0, 0, 0);
+    Player near = player(3, 0, 0);
+    Player far = player(30, 0, 0);
+    Server server = when(mock(MockServer.class).getOnlinePlayers()).thenReturn(List.of(source, near, far)).getMock();
+    SpatialIndex<Player> index = new SpatialIndex<>();
+    
+    {
+        when(world.getPlayers()).thenReturn(List.of(source, near, far));
+        for (var player : List.of(source, near, far)) {
+            index.update(player, player.getLocation());
+        }
+    }
+    
+    Player player(double x, double y, double z) {
+        return when(mock(Player.class).getLocation()).thenReturn(new Location(world, x, y, z)).getMock();
+    }
+    
+    
+    @Test
+    void select_nearest() throws CommandSyntaxException {
+        var selector = new Selector(server, null, Target.NEAREST, 1, POSITIVE_INFINITY, null, 1);
+        assertEquals(List.of(near), selector.select(source));
+    }
+    
+    @Test
+    void select_nearest_index() throws CommandSyntaxException {
+        var selector = new Selector(server, index, Target.NEAREST, 1, POSITIVE_INFINITY, null, 1);
+        assertEquals(List.of(near), selector.select(source));
+    }
+    
+    @Test
+    void select_all_radius_index() throws CommandSyntaxException {
+        var selector = new Selector(server, index, Target.ALL, 0, 5, null, Integer.MAX_VALUE);
+        assertEquals(Set.of(source, near), new HashSet<>(selector.select(source)));
+    }
+    
+    @Test
+    void select_all_box_index() throws CommandSyntaxException {
+        var selector = new Selector(server, index, Target.ALL, 0, POSITIVE_INFINITY, new double[] {30, 0, 0}, Integer.MAX_VALUE);
+        assertEquals(Set.of(source, near, far), new HashSet<>(selector.select(source)));
+    }
+    
+    @Test
+    void select_all_limit() throws CommandSyntaxException {
+        var selector = new Selector(server, null, Target.ALL, 0, POSITIVE_INFINITY, null, 2);
+        assertEquals(List.of(source, near), selector.select(mock(CommandSender.class)));
+    }
+    
+    @Test
+    void select_random() throws CommandSyntaxException {
+        var selector = new Selector(server, null, Target.RANDOM, 0, POSITIVE_INFINITY, null, 1);
+        assertEquals(1, selector.select(source).size());
+    }
+    
+    @Test
+    void select_self() throws CommandSyntaxException {
+        var selector = new Selector(server, null, Target.SELF, 0, POSITIVE_INFINITY, null, Integer.MAX_VALUE);
+        
+        assertEquals(List.of(source), selector.select(source));
+        assertEquals(List.of(), selector.select(mock(CommandSender.class)));
+    }
+    
+    @Test
+    void select_entities() throws CommandSyntaxException {
+        var entity = mock(Entity.class);
+        when(entity.getLocation()).thenReturn(new Location(world, 2, 0, 0));
+        when(world.getNearbyEntities(any(Location.class), eq(5.0), eq(5.0), eq(5.0))).thenReturn(List.of(entity, far));
+        
+        var selector = new Selector(server, index, Target.ENTITIES, 0, 5, null, Integer.MAX_VALUE);
+        
+        assertEquals(List.of(entity), selector.select(source));
+    }
+    
+    @Test
+    void select_entities_box() throws CommandSyntaxException {
+        var entity = mock(Entity.class);
+        when(entity.getLocation()).thenReturn(new Location(world, 2, 0, 0));
+        when(world.getNearbyEntities(any(BoundingBox.class))).thenReturn(List.of(entity));
+        
+        var selector = new Selector(server, index, Target.ENTITIES, 0, POSITIVE_INFINITY, new double[] {2, 2, 2}, Integer.MAX_VALUE);
+        
+        assertEquals(List.of(entity), selector.select(source));
+    }
+    
+    @Test
+    void select_throws_exception() {
+        var selector = new Selector(server, index, Target.ALL, 0, 5, null, Integer.MAX_VALUE);
+        assertEquals(
+            "A location is required to resolve this selector",
+            assertThrows(CommandSyntaxException.class, () -> selector.select(mock(CommandSender.class))).getRawMessage().toString()
+        );
+    }
+    
+    @Test
+    void select_nearest_throws_exception() {
+        var selector = new Selector(server, index, Target.NEAREST, 0, POSITIVE_INFINITY, null, 1);
+        assertEquals(
+            "A location is required to resolve this selector",
+            assertThrows(CommandSyntaxException.class, () -> selector.select(mock(CommandSender.class))).getRawMessage().toString()
+        );
+    }
+    
+    
+    @Test
+    void players() throws CommandSyntaxException {
+        var entity = mock(Entity.class);
+        when(entity.getLocation()).thenReturn(new Location(world, 2, 0, 0));
+        when(world.getEntities()).thenReturn(List.of(entity, near));
+        
+        var selector = new Selector(server, index, Target.ENTITIES, 0, POSITIVE_INFINITY, null, Integer.MAX_VALUE);
+        
+        assertEquals(List.of(near), selector.players(source));
+    }
+    
+    
+    @Test
+    void box() {
+        var selector = new Selector(server, index, Target.ALL, 0, POSITIVE_INFINITY, new double[] {-2, 0, 3}, Integer.MAX_VALUE);
+        var box = selector.box(new Location(world, 1, 1, 1));
+        
+        assertEquals(-1, box.getMinX());
+        assertEquals(2, box.getMaxX());
+        assertEquals(1, box.getMinY());
+        assertEquals(2, box.getMaxY());
+        assertEquals(1, box.getMinZ());
+        assertEquals(5, box.getMaxZ());
+    }
+    
+    @Test
+    void box_null() {
+        var selector = new Selector(server, index, Target.ALL, 0, POSITIVE_INFINITY, null, Integer.MAX_VALUE);
+        assertNull(selector.box(new Location(world, 1, 1, 1)));
+    }
+    
+}
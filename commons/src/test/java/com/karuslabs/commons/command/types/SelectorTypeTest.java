@@ -0,0 +1,118 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.command.types;
+
+import com.karuslabs.commons.command.types.Selector.Target;
+
+import com.mojang.brigadier.StringReader;
+import com.mojang.brigadier.context.CommandContext;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import com.mojang.brigadier.suggestion.SuggestionsBuilder;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SelectorTypeTest {
+    
+    SelectorType type = new SelectorType();
+    
+    
+    @ParameterizedTest
+    @CsvSource({"@p, NEAREST, 1", "@a, ALL, 2147483647", "@r, RANDOM, 1", "@s, SELF, 2147483647", "@e, ENTITIES, 2147483647"})
+    void parse(String line, Target target, int limit) throws CommandSyntaxException {
+        var selector = type.parse(new StringReader(line));
+        
+        assertEquals(target, selector.target());
+        assertEquals(limit, selector.limit());
+        assertFalse(selector.located());
+    }
+    
+    @ParameterizedTest
+    @CsvSource({"'@e[distance=..10]', 0, 10", "'@e[distance=5..]', 5, Infinity", "'@e[ distance = 5..10 ]', 5, 10", "'@e[distance=2.5]', 2.5, 2.5"})
+    void parse_distance(String line, double minimum, double maximum) throws CommandSyntaxException {
+        var selector = type.parse(new StringReader(line));
+        
+        assertEquals(minimum, selector.minimum());
+        assertEquals(maximum, selector.maximum());
+        assertTrue(selector.located());
+    }
+    
+    @Test
+    void parse_options() throws CommandSyntaxException {
+        var reader = new StringReader("@a[dx=5,dy=-2.5,limit=3] remaining");
+        var selector = type.parse(reader);
+        
+        assertEquals(3, selector.limit());
+        assertTrue(selector.located());
+        assertEquals(" remaining", reader.getRemaining());
+    }
+    
+    @ParameterizedTest
+    @CsvSource({
+        "Pante, Expected a selector",
+        "@, Expected a selector",
+        "@x, Unknown selector: @x",
+        "'@e[radius=5]', Unknown option: radius",
+        "'@e[distance=-1]', Invalid value for option: distance",
+        "'@e[distance=10..5]', Invalid value for option: distance",
+        "'@e[distance=a]', Invalid value for option: distance",
+        "'@e[limit=0]', Invalid value for option: limit",
+        "'@e[limit=1', Expected end of options",
+        "'@e[limit=1 dx=2]', Expected end of options"
+    })
+    void parse_throws_exception(String line, String message) {
+        assertEquals(message, assertThrows(CommandSyntaxException.class, () -> type.parse(new StringReader(line))).getRawMessage().toString());
+    }
+    
+    
+    @Test
+    void listSuggestions() throws InterruptedException, ExecutionException {
+        var expected = new SuggestionsBuilder("@", 0);
+        for (var selector : SelectorType.SELECTORS.entrySet()) {
+            expected.suggest(selector.getKey(), selector.getValue());
+        }
+        
+        assertEquals(expected.build(), type.listSuggestions(mock(CommandContext.class), new SuggestionsBuilder("@", 0)).get());
+    }
+    
+    @Test
+    void listSuggestions_prefix() throws InterruptedException, ExecutionException {
+        var expected = new SuggestionsBuilder("@e", 0).suggest("@e", SelectorType.SELECTORS.get("@e")).build();
+        assertEquals(expected, type.listSuggestions(mock(CommandContext.class), new SuggestionsBuilder("@e", 0)).get());
+    }
+    
+    
+    @Test
+    void getExamples() {
+        assertEquals(List.of("@p", "@e[distance=..10]", "@a[dx=5,dy=5,dz=5,limit=3]"), type.getExamples());
+    }
+    
+}
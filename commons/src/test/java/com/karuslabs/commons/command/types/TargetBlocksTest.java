@@ -0,0 +1,118 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.command.types;
+
+import java.util.UUID;
+
+import org.bukkit.Location;
+import org.bukkit.block.Block;
+import org.bukkit.entity.Player;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+
+class TargetBlocksTest {
+    
+    Location location = new Location(null, 4, 5, 6);
+    Block block = when(mock(Block.class).getLocation()).thenReturn(location).getMock();
+    Player player = when(mock(Player.class).getTargetBlockExact(TargetBlocks.RANGE)).thenReturn(block).getMock();
+    
+    {
+        when(player.getLocation()).thenReturn(new Location(null, 1, 2, 3, 90, 0));
+        when(player.getUniqueId()).thenReturn(UUID.randomUUID());
+    }
+    
+    
+    @Test
+    void of() {
+        var raytraces = TargetBlocks.raytraces();
+        var saved = TargetBlocks.saved();
+        
+        assertEquals(location, TargetBlocks.of(player, 1));
+        assertEquals(location, TargetBlocks.of(player, 1));
+        
+        verify(player, times(1)).getTargetBlockExact(TargetBlocks.RANGE);
+        assertEquals(raytraces + 1, TargetBlocks.raytraces());
+        assertEquals(saved + 1, TargetBlocks.saved());
+    }
+    
+    @Test
+    void of_copy() {
+        TargetBlocks.of(player, 1).setX(10);
+        var cached = TargetBlocks.of(player, 1);
+        cached.setX(20);
+        
+        assertEquals(4, TargetBlocks.of(player, 1).getX());
+    }
+    
+    @Test
+    void of_ttl() {
+        TargetBlocks.of(player, 1);
+        TargetBlocks.of(player, TargetBlocks.TTL);
+        
+        verify(player, times(1)).getTargetBlockExact(TargetBlocks.RANGE);
+    }
+    
+    @Test
+    void of_expired() {
+        TargetBlocks.of(player, 1);
+        TargetBlocks.of(player, 1 + TargetBlocks.TTL);
+        
+        verify(player, times(2)).getTargetBlockExact(TargetBlocks.RANGE);
+    }
+    
+    @Test
+    void of_prune() {
+        Player other = when(mock(Player.class).getLocation()).thenReturn(new Location(null, 1, 2, 3)).getMock();
+        when(other.getUniqueId()).thenReturn(UUID.randomUUID());
+        
+        TargetBlocks.of(player, 100_000_000);
+        TargetBlocks.of(other, 100_000_000 + TargetBlocks.PRUNE);
+        
+        assertEquals(1, TargetBlocks.size());
+    }
+    
+    @Test
+    void of_moved() {
+        TargetBlocks.of(player, 1);
+        when(player.getLocation()).thenReturn(new Location(null, 1, 2, 3, 45, 0));
+        TargetBlocks.of(player, 1);
+        
+        verify(player, times(2)).getTargetBlockExact(TargetBlocks.RANGE);
+    }
+    
+    @Test
+    void of_null() {
+        when(player.getTargetBlockExact(TargetBlocks.RANGE)).thenReturn(null);
+        
+        assertNull(TargetBlocks.of(player, 1));
+        assertNull(TargetBlocks.of(player, 1));
+        
+        verify(player, times(1)).getTargetBlockExact(TargetBlocks.RANGE);
+    }
+    
+}
@@ -64,5 +64,11 @@ class TypeTest {
         verify(type).listSuggestions(sender, context, builder);
         
     }
+    
+    
+    @Test
+    void concurrent() {
+        assertFalse(type.concurrent());
+    }
 
 } 
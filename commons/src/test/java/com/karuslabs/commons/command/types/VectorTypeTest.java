@@ -23,6 +23,8 @@
  */
 package com.karuslabs.commons.command.types;
 
+import com.karuslabs.commons.util.Coordinates;
+
 import com.mojang.brigadier.StringReader;
 import com.mojang.brigadier.exceptions.CommandSyntaxException;
 
@@ -59,6 +61,18 @@ class VectorTypeTest {
     }
     
     
+    @Test
+    void coordinates_2D() throws CommandSyntaxException {
+        assertEquals(new Coordinates(-1.4, 0, 3.6, (byte) 0), VectorType.FLAT.coordinates(new StringReader("   -1.4  3.6")));
+    }
+    
+    
+    @Test
+    void coordinates_3D() throws CommandSyntaxException {
+        assertEquals(new Coordinates(-1.4, 3.6, 2.7, (byte) 0), VectorType.CUBIC.coordinates(new StringReader(" -1.4  3.6   2.7")));
+    }
+    
+    
     @Test
     void getExamples_2D() {
         assertEquals(List.of("0 0", "0.0 0.0"), VectorType.FLAT.getExamples());
@@ -0,0 +1,120 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util;
+
+import com.karuslabs.commons.util.Point.Axis;
+
+import org.bukkit.util.Vector;
+
+import org.junit.jupiter.api.Test;
+
+import static com.karuslabs.commons.util.Coordinates.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CoordinatesTest {
+    
+    Coordinates coordinates = new Coordinates(1, 2, 3, (byte) (RELATIVE_X | RELATIVE_Z | ROTATION));
+    Point origin = new Point(null, 1, 2, 3, 90, 180);
+    
+    
+    @Test
+    void flag() {
+        assertEquals(RELATIVE_X, Coordinates.flag(Axis.X));
+        assertEquals(RELATIVE_Y, Coordinates.flag(Axis.Y));
+        assertEquals(RELATIVE_Z, Coordinates.flag(Axis.Z));
+    }
+    
+    
+    @Test
+    void copy() {
+        var expected = new Point();
+        var actual = new Point();
+        
+        coordinates.point().copy(origin, expected);
+        coordinates.copy(origin, actual);
+        
+        assertEquals(expected, actual);
+    }
+    
+    
+    @Test
+    void point() {
+        assertEquals(new Point(1, 2, 3).relative(Axis.X, true).relative(Axis.Z, true).rotation(true), coordinates.point());
+    }
+    
+    @Test
+    void vector() {
+        assertEquals(new Vector(1, 2, 3), coordinates.vector());
+    }
+    
+    
+    @Test
+    void get() {
+        assertEquals(1, coordinates.get(Axis.X));
+        assertEquals(2, coordinates.get(Axis.Y));
+        assertEquals(3, coordinates.get(Axis.Z));
+        assertEquals(1, coordinates.x());
+        assertEquals(2, coordinates.y());
+        assertEquals(3, coordinates.z());
+    }
+    
+    @Test
+    void relative() {
+        assertTrue(coordinates.relative(Axis.X));
+        assertFalse(coordinates.relative(Axis.Y));
+        assertTrue(coordinates.relative(Axis.Z));
+    }
+    
+    @Test
+    void rotation() {
+        assertTrue(coordinates.rotation());
+        assertFalse(new Coordinates(0, 0, 0, (byte) 0).rotation());
+    }
+    
+    @Test
+    void flags() {
+        assertEquals(RELATIVE_X | RELATIVE_Z | ROTATION, coordinates.flags());
+    }
+    
+    
+    @Test
+    void equals() {
+        assertEquals(new Coordinates(1, 2, 3, (byte) (RELATIVE_X | RELATIVE_Z | ROTATION)), coordinates);
+        assertNotEquals(new Coordinates(1, 2, 3, RELATIVE_X), coordinates);
+    }
+    
+    @Test
+    void hash() {
+        assertEquals(new Coordinates(1, 2, 3, (byte) (RELATIVE_X | RELATIVE_Z | ROTATION)).hashCode(), coordinates.hashCode());
+    }
+    
+    @Test
+    void to_string() {
+        assertEquals(
+            "Coordinates[rotation: true, x: [1.0, relative], y: [2.0, absolute], z: [3.0, relative]]",
+            coordinates.toString()
+        );
+    }
+    
+}
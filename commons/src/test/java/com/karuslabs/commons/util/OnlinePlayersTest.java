@@ -0,0 +1,167 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util;
+
+import com.karuslabs.commons.MockServer;
+
+import java.util.*;
+
+import org.bukkit.*;
+import org.bukkit.entity.Player;
+import org.bukkit.event.player.*;
+import org.bukkit.event.world.WorldUnloadEvent;
+import org.bukkit.plugin.*;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class OnlinePlayersTest {
+    
+    World world = mock(World.class);
+    Player player = when(mock(Player.class).getLocation()).thenReturn(new Location(world, 1, 2, 3)).getMock();
+    OnlinePlayers players = new OnlinePlayers();
+    
+    {
+        when(player.getName()).thenReturn("Pante");
+        when(player.getUniqueId()).thenReturn(UUID.randomUUID());
+    }
+    
+    
+    @Test
+    void of() {
+        var manager = mock(PluginManager.class);
+        Server server = when(mock(MockServer.class).getOnlinePlayers()).thenReturn(List.of(player)).getMock();
+        when(server.getPluginManager()).thenReturn(manager);
+        Plugin plugin = when(mock(Plugin.class).getServer()).thenReturn(server).getMock();
+        
+        var players = OnlinePlayers.of(plugin);
+        
+        assertTrue(players.positions().contains(player));
+        assertEquals(player, players.names().get("Pante"));
+        verify(manager).registerEvents(players, plugin);
+    }
+    
+    
+    @Test
+    void join() {
+        players.join(new PlayerJoinEvent(player, ""));
+        
+        assertEquals(new Location(world, 1, 2, 3), players.positions().location(player));
+        assertEquals(player, players.names().get("pante"));
+    }
+    
+    @Test
+    void join_visibility() {
+        Player other = when(mock(Player.class).getLocation()).thenReturn(new Location(world, 1, 2, 3)).getMock();
+        when(other.getName()).thenReturn("Bob");
+        when(other.getUniqueId()).thenReturn(UUID.randomUUID());
+        when(other.canSee(player)).thenReturn(false);
+        when(player.canSee(other)).thenReturn(true);
+        
+        players.join(player);
+        players.join(other);
+        
+        assertFalse(players.visibility().canSee(other, player));
+        assertTrue(players.visibility().canSee(player, other));
+    }
+    
+    @Test
+    void join_hidden() {
+        Player other = when(mock(Player.class).getLocation()).thenReturn(new Location(world, 1, 2, 3)).getMock();
+        when(other.getName()).thenReturn("Bob");
+        when(other.getUniqueId()).thenReturn(UUID.randomUUID());
+        when(other.canSee(player)).thenReturn(true);
+        when(player.canSee(other)).thenReturn(false);
+        
+        players.join(player);
+        players.join(other);
+        
+        assertFalse(players.visibility().canSee(player, other));
+        assertTrue(players.visibility().canSee(other, player));
+    }
+    
+    @Test
+    void quit() {
+        players.join(player);
+        players.quit(new PlayerQuitEvent(player, ""));
+        
+        assertFalse(players.positions().contains(player));
+        assertTrue(players.names().isEmpty());
+    }
+    
+    @Test
+    void quit_visibility() {
+        var other = mock(Player.class);
+        when(other.getUniqueId()).thenReturn(UUID.randomUUID());
+        
+        players.join(player);
+        players.visibility().hide(player, other);
+        players.quit(player);
+        
+        assertTrue(players.visibility().canSee(player, other));
+    }
+    
+    @Test
+    void move() {
+        players.join(player);
+        players.move(new PlayerMoveEvent(player, new Location(world, 1, 2, 3), new Location(world, 50, 2, 3)));
+        
+        assertEquals(new Location(world, 50, 2, 3), players.positions().location(player));
+    }
+    
+    @Test
+    void teleport() {
+        players.join(player);
+        players.teleport(new PlayerTeleportEvent(player, new Location(world, 1, 2, 3), new Location(world, 0, 100, 0)));
+        
+        assertEquals(new Location(world, 0, 100, 0), players.positions().location(player));
+    }
+    
+    @Test
+    void change() {
+        var other = mock(World.class);
+        when(player.getLocation()).thenReturn(new Location(other, 4, 5, 6));
+        
+        players.change(new PlayerChangedWorldEvent(player, world));
+        
+        assertEquals(new Location(other, 4, 5, 6), players.positions().location(player));
+    }
+    
+    @Test
+    void respawn() {
+        players.respawn(new PlayerRespawnEvent(player, new Location(world, 7, 8, 9), false));
+        assertEquals(new Location(world, 7, 8, 9), players.positions().location(player));
+    }
+    
+    @Test
+    void unload() {
+        players.join(player);
+        players.unload(new WorldUnloadEvent(world));
+        
+        assertFalse(players.positions().contains(player));
+    }
+    
+}
@@ -54,6 +54,12 @@ class PointTest {
         assertEquals(new Point(2, -4, -6), point);
     }
     
+    @Test
+    void copy_relative_location_rotation() {
+        source.relative(Axis.X, true).relative(Axis.Y, true).relative(Axis.Z, true).rotation(true).copy(origin, Rotation.of(origin), point);
+        assertEquals(new Point(2, -4, -6), point);
+    }
+    
     @Test
     void copy_absolute_location() {
         source.copy(origin, point);
@@ -67,6 +73,18 @@ class PointTest {
         assertEquals(new Vector(2, -4, -6), vector);
     }
     
+    @Test
+    void copy_relative_vector_rotation() {
+        source.relative(Axis.X, true).relative(Axis.Y, true).relative(Axis.Z, true).rotation(true).copy(origin, Rotation.of(origin), vector);
+        assertEquals(new Vector(2, -4, -6), vector);
+    }
+    
+    @Test
+    void copy_absolute_vector_rotation() {
+        source.copy(origin, Rotation.of(origin), vector);
+        assertEquals(new Vector(1, 2, 3), vector);
+    }
+    
     @Test
     void copy_absolute_vector() {
         source.copy(origin, vector);
@@ -74,6 +92,57 @@ class PointTest {
     }
     
     
+    @ParameterizedTest
+    @ValueSource(ints = {3, 2000})
+    void copy_locations(int size) {
+        source.relative(Axis.X, true).relative(Axis.Y, true).rotation(true);
+        
+        var origins = new Location[size];
+        var results = new Location[size];
+        for (int i = 0; i < size; i++) {
+            origins[i] = new Point(null, i, i * 2, i * 3, i % 4 * 90, i % 3 * 45);
+            results[i] = new Point();
+        }
+        
+        source.copy(origins, results);
+        
+        for (int i = 0; i < size; i++) {
+            var expected = new Point();
+            source.copy(origins[i], expected);
+            assertEquals(expected, results[i]);
+        }
+    }
+    
+    @ParameterizedTest
+    @ValueSource(ints = {3, 2000})
+    void copy_vectors(int size) {
+        source.relative(Axis.Z, true).rotation(true);
+        
+        var origins = new Location[size];
+        var results = new Vector[size];
+        for (int i = 0; i < size; i++) {
+            origins[i] = new Point(null, i, i * 2, i * 3, i % 4 * 90, i % 3 * 45);
+            results[i] = new Vector();
+        }
+        
+        source.copy(origins, results);
+        
+        for (int i = 0; i < size; i++) {
+            var expected = new Vector();
+            source.copy(origins[i], expected);
+            assertEquals(expected, results[i]);
+        }
+    }
+    
+    @Test
+    void copy_arrays_throws_exception() {
+        assertEquals(
+            "Origins and results should be of equal length, but was 1 and 2",
+            assertThrows(IllegalArgumentException.class, () -> source.copy(new Location[1], new Location[2])).getMessage()
+        );
+    }
+    
+    
     @Test
     void align() {
         var position = new Point(1, 2, 3).relative(Axis.X, true).relative(Axis.Y, true).relative(Axis.Z, true).rotation(true);
@@ -84,6 +153,16 @@ class PointTest {
         assertEquals(new Point(2, -4, -6).relative(Axis.X, true).relative(Axis.Y, true).relative(Axis.Z, true).rotation(true), position);
     }
     
+    @Test
+    void align_rotation() {
+        var position = new Point(1, 2, 3).relative(Axis.X, true).relative(Axis.Y, true).relative(Axis.Z, true).rotation(true);
+        var origin = new Point(null, 1, 2, 3, 90, 180);
+        
+        position.align(origin, Rotation.of(origin));
+        
+        assertEquals(new Point(2, -4, -6).relative(Axis.X, true).relative(Axis.Y, true).relative(Axis.Z, true).rotation(true), position);
+    }
+    
     
     @Test
     void set() {
@@ -0,0 +1,294 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util;
+
+import com.karuslabs.commons.MockServer;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.bukkit.Server;
+import org.bukkit.entity.Player;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.plugin.*;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ProfilesTest {
+    
+    static final UUID PANTE = UUID.fromString("069a79f4-44e9-4726-a5be-fca90e38aaf5");
+    static final UUID BOB = UUID.fromString("853c80ef-3c37-49fd-aa49-938b674adae6");
+    
+    @TempDir Path folder;
+    List<String> resolved = new ArrayList<>();
+    Profiles.Resolver resolver = name -> {
+        resolved.add(name);
+        return name.equalsIgnoreCase("Bob") ? new Profiles.Profile("Bob", BOB) : null;
+    };
+    long time = 0;
+    
+    
+    Profiles profiles() {
+        return new Profiles(folder.resolve("plugin").resolve(Profiles.RESOLVED), resolver, Runnable::run, () -> time);
+    }
+    
+    
+    @Test
+    void of() throws IOException {
+        Files.writeString(folder.resolve(Profiles.USER_CACHE), "[{\"name\":\"Pante\",\"uuid\":\"" + PANTE + "\",\"expiresOn\":\"2021-08-01 00:00:00 +0000\"}]", UTF_8);
+        
+        var manager = mock(PluginManager.class);
+        Server server = when(mock(MockServer.class).getWorldContainer()).thenReturn(folder.toFile()).getMock();
+        when(server.getPluginManager()).thenReturn(manager);
+        Plugin plugin = when(mock(Plugin.class).getServer()).thenReturn(server).getMock();
+        when(plugin.getDataFolder()).thenReturn(folder.resolve("plugin").toFile());
+        
+        var profiles = Profiles.of(plugin, resolver, Runnable::run);
+        
+        assertEquals(PANTE, profiles.get("pante"));
+        verify(manager).registerEvents(profiles, plugin);
+    }
+    
+    @Test
+    void of_throws_exception() throws IOException {
+        Files.writeString(folder.resolve(Profiles.USER_CACHE), "{", UTF_8);
+        
+        Server server = when(mock(MockServer.class).getWorldContainer()).thenReturn(folder.toFile()).getMock();
+        Plugin plugin = when(mock(Plugin.class).getServer()).thenReturn(server).getMock();
+        when(plugin.getDataFolder()).thenReturn(folder.resolve("plugin").toFile());
+        
+        assertThrows(UncheckedIOException.class, () -> Profiles.of(plugin, resolver, Runnable::run));
+    }
+    
+    
+    @Test
+    void load_missing() throws IOException {
+        var profiles = profiles();
+        
+        profiles.load(folder.resolve(Profiles.USER_CACHE));
+        profiles.load();
+        
+        assertTrue(profiles.names().isEmpty());
+    }
+    
+    @Test
+    void load_resolved() throws IOException {
+        Files.createDirectories(folder.resolve("plugin"));
+        Files.writeString(folder.resolve("plugin").resolve(Profiles.RESOLVED), PANTE + " Pante\ninvalid\n" + BOB + " Bob\n853c80ef-3c3", UTF_8);
+        
+        var profiles = profiles();
+        profiles.load();
+        
+        assertEquals(Map.of("Pante", PANTE, "Bob", BOB), profiles.names());
+    }
+    
+    
+    @Test
+    void join() {
+        Player player = when(mock(Player.class).getName()).thenReturn("Pante").getMock();
+        when(player.getUniqueId()).thenReturn(PANTE);
+        
+        var profiles = profiles();
+        profiles.join(new PlayerJoinEvent(player, ""));
+        
+        assertEquals(PANTE, profiles.get("Pante"));
+        assertTrue(resolved.isEmpty());
+    }
+    
+    
+    @Test
+    void get() {
+        var profiles = profiles();
+        
+        assertNull(profiles.get("Bob"));
+        assertTrue(resolved.isEmpty());
+    }
+    
+    @Test
+    void request() {
+        var tasks = new ArrayList<Runnable>();
+        var profiles = profiles();
+        
+        profiles.request("B", tasks::add);
+        profiles.request("Bo", tasks::add);
+        profiles.request("Bob", tasks::add);
+        tasks.forEach(Runnable::run);
+        
+        assertEquals(List.of("Bob"), resolved);
+        assertEquals(BOB, profiles.get("Bob"));
+    }
+    
+    @Test
+    void request_repeated() {
+        var tasks = new ArrayList<Runnable>();
+        var profiles = profiles();
+        
+        profiles.request("Bob", tasks::add);
+        profiles.request("bob", tasks::add);
+        tasks.get(0).run();
+        
+        assertTrue(resolved.isEmpty());
+        
+        tasks.get(1).run();
+        
+        assertEquals(List.of("bob"), resolved);
+    }
+    
+    @Test
+    void request_ignored() {
+        var tasks = new ArrayList<Runnable>();
+        var profiles = profiles();
+        profiles.names().put("Pante", PANTE);
+        
+        profiles.request("pante", tasks::add);
+        profiles.request("invalid name", tasks::add);
+        
+        assertTrue(tasks.isEmpty());
+    }
+    
+    
+    @Test
+    void resolve() throws IOException, InterruptedException, ExecutionException {
+        var profiles = profiles();
+        
+        assertEquals(BOB, profiles.resolve("bob").get());
+        assertEquals(BOB, profiles.get("BOB"));
+        assertEquals(Set.of("Bob"), profiles.names().keySet());
+        assertEquals(List.of("bob"), resolved);
+        assertEquals(BOB + " Bob\n", Files.readString(folder.resolve("plugin").resolve(Profiles.RESOLVED), UTF_8));
+    }
+    
+    @Test
+    void resolve_unknown() throws InterruptedException, ExecutionException {
+        var profiles = profiles();
+        
+        assertNull(profiles.resolve("Alice").get());
+        assertNull(profiles.resolve("alice").get());
+        assertEquals(List.of("Alice"), resolved);
+        assertFalse(Files.exists(folder.resolve("plugin").resolve(Profiles.RESOLVED)));
+    }
+    
+    @Test
+    void resolve_unknown_expired() throws InterruptedException, ExecutionException {
+        var profiles = profiles();
+        
+        assertNull(profiles.resolve("Alice").get());
+        time = Profiles.UNKNOWN.toNanos();
+        assertNull(profiles.resolve("Alice").get());
+        
+        assertEquals(List.of("Alice", "Alice"), resolved);
+    }
+    
+    @Test
+    void forget_prune() throws InterruptedException, ExecutionException {
+        var profiles = profiles();
+        for (int i = 0; i < Profiles.PRUNE; i++) {
+            profiles.forget("name" + i);
+        }
+        
+        time = Profiles.UNKNOWN.toNanos();
+        profiles.forget("alice");
+        
+        assertEquals(1, profiles.unknown());
+        assertNull(profiles.resolve("Alice").get());
+        assertTrue(resolved.isEmpty());
+    }
+    
+    @Test
+    void resolve_invalid() throws InterruptedException, ExecutionException {
+        assertNull(profiles().resolve("invalid name").get());
+        assertTrue(resolved.isEmpty());
+    }
+    
+    @Test
+    void resolve_coalesced() throws InterruptedException, ExecutionException {
+        var tasks = new ArrayList<Runnable>();
+        var profiles = new Profiles(folder.resolve(Profiles.RESOLVED), resolver, tasks::add);
+        
+        var first = profiles.resolve("Bob");
+        var second = profiles.resolve("BOB");
+        
+        assertSame(first, second);
+        assertEquals(1, tasks.size());
+        
+        tasks.get(0).run();
+        
+        assertEquals(BOB, first.get());
+        assertEquals(List.of("Bob"), resolved);
+    }
+    
+    @Test
+    void resolve_exception() {
+        var profiles = new Profiles(folder.resolve(Profiles.RESOLVED), name -> { throw new IOException(); }, Runnable::run);
+        
+        var future = profiles.resolve("Bob");
+        
+        assertTrue(future.isCompletedExceptionally());
+        assertNotSame(future, profiles.resolve("Bob"));
+    }
+    
+    @Test
+    void resolve_rejected() {
+        var profiles = new Profiles(folder.resolve(Profiles.RESOLVED), resolver, task -> { throw new RejectedExecutionException(); });
+        
+        assertTrue(profiles.resolve("Bob").isCompletedExceptionally());
+    }
+    
+    
+    @Test
+    void close() throws IOException, InterruptedException, ExecutionException {
+        var pool = mock(ExecutorService.class);
+        var profiles = new Profiles(folder.resolve("plugin").resolve(Profiles.RESOLVED), resolver, Runnable::run, pool, () -> time);
+        
+        assertEquals(BOB, profiles.resolve("Bob").get());
+        profiles.close();
+        
+        verify(pool).shutdown();
+        assertThrows(IOException.class, () -> profiles.append("Pante", PANTE));
+        assertEquals(BOB + " Bob\n", Files.readString(folder.resolve("plugin").resolve(Profiles.RESOLVED), UTF_8));
+    }
+    
+    
+    @Test
+    void mojang_parse() throws IOException {
+        var profile = Mojang.parse("{\"id\":\"069a79f444e94726a5befca90e38aaf5\",\"name\":\"Pante\"}");
+        
+        assertEquals("Pante", profile.name());
+        assertEquals(PANTE, profile.id());
+    }
+    
+    @Test
+    void mojang_parse_throws_exception() {
+        assertThrows(IOException.class, () -> Mojang.parse("{\"name\":\"Pante\"}"));
+        assertThrows(IOException.class, () -> Mojang.parse("{\"id\":\"069a79f444e94726a5befca90e38aaf5\"}"));
+    }
+    
+}
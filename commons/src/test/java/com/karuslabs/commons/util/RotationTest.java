@@ -0,0 +1,127 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util;
+
+import org.bukkit.util.Vector;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RotationTest {
+    
+    static final double EPSILON = 0.000001;
+    
+    Vector vector = new Vector(1, 2, 3);
+    
+    
+    @ParameterizedTest
+    @CsvSource({"0, 0", "90, -180", "37.5, -12.25", "-135, 45"})
+    void of(float yaw, float pitch) {
+        assertEquals(Vectors.rotate(vector.clone(), yaw, pitch), Vectors.rotate(vector, Rotation.of(yaw, pitch)));
+    }
+    
+    @Test
+    void of_location() {
+        assertEquals(Rotation.of(90, -180), Rotation.of(new Point(null, 0, 0, 0, 90, -180)));
+    }
+    
+    
+    @Test
+    void identity() {
+        assertEquals(new Vector(1, 2, 3), Vectors.rotate(vector, Rotation.IDENTITY));
+    }
+    
+    
+    @Test
+    void then() {
+        var first = Rotation.of(37.5F, -12.25F);
+        var second = Rotation.of(-135, 45);
+        
+        var expected = Vectors.rotate(Vectors.rotate(vector.clone(), first), second);
+        var actual = Vectors.rotate(vector, first.then(second));
+        
+        assertEquals(expected.getX(), actual.getX(), EPSILON);
+        assertEquals(expected.getY(), actual.getY(), EPSILON);
+        assertEquals(expected.getZ(), actual.getZ(), EPSILON);
+    }
+    
+    @Test
+    void inverse() {
+        var rotation = Rotation.of(37.5F, -12.25F);
+        var actual = Vectors.rotate(Vectors.rotate(vector, rotation), rotation.inverse());
+        
+        assertEquals(1, actual.getX(), EPSILON);
+        assertEquals(2, actual.getY(), EPSILON);
+        assertEquals(3, actual.getZ(), EPSILON);
+    }
+    
+    
+    @Test
+    void table() {
+        var table = new Rotation.Table(360);
+        
+        assertEquals(0.5, table.accuracy(), EPSILON);
+        assertEquals(Vectors.rotate(vector.clone(), 90, -180), Vectors.rotate(vector, table.of(90, -180)));
+    }
+    
+    @Test
+    void table_approximate() {
+        var table = new Rotation.Table(4096);
+        var expected = Vectors.rotate(vector.clone(), 37.5F, -12.25F);
+        var actual = Vectors.rotate(vector, table.of(new Point(null, 0, 0, 0, 37.5F, -12.25F)));
+        
+        assertEquals(expected.getX(), actual.getX(), 0.01);
+        assertEquals(expected.getY(), actual.getY(), 0.01);
+        assertEquals(expected.getZ(), actual.getZ(), 0.01);
+    }
+    
+    @Test
+    void table_throws_exception() {
+        assertEquals(
+            "Steps should be a positive multiple of 4, but was 10",
+            assertThrows(IllegalArgumentException.class, () -> new Rotation.Table(10)).getMessage()
+        );
+    }
+    
+    
+    @Test
+    void equals() {
+        assertEquals(Rotation.of(0, 0), Rotation.of(0, 0));
+        assertNotEquals(Rotation.of(0, 0), Rotation.of(1, 0));
+    }
+    
+    @Test
+    void hash() {
+        assertEquals(Rotation.of(0, 0).hashCode(), Rotation.of(0, 0).hashCode());
+    }
+    
+    @Test
+    void to_string() {
+        assertTrue(Rotation.IDENTITY.toString().startsWith("Rotation["));
+    }
+    
+}
@@ -0,0 +1,154 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util;
+
+import java.util.*;
+
+import org.bukkit.*;
+import org.bukkit.util.BoundingBox;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SpatialIndexTest {
+    
+    World world = mock(World.class);
+    World other = mock(World.class);
+    SpatialIndex<String> index = new SpatialIndex<>();
+    
+    
+    @Test
+    void update() {
+        index.update("a", new Location(world, 1, 2, 3));
+        index.update("a", new Location(world, 100, 2, 100));
+        
+        assertEquals(1, index.size());
+        assertEquals(new Location(world, 100, 2, 100), index.location("a"));
+        assertEquals(List.of(), index.radius(new Location(world, 1, 2, 3), 5));
+        assertEquals(List.of("a"), index.radius(new Location(world, 100, 2, 100), 5));
+    }
+    
+    @Test
+    void update_world() {
+        index.update("a", new Location(world, 1, 2, 3));
+        index.update("a", new Location(other, 1, 2, 3));
+        
+        assertEquals(List.of(), index.radius(new Location(world, 1, 2, 3), 5));
+        assertEquals(List.of("a"), index.radius(new Location(other, 1, 2, 3), 5));
+    }
+    
+    @Test
+    void update_throws_exception() {
+        assertEquals(
+            "Location should have a world",
+            assertThrows(IllegalArgumentException.class, () -> index.update("a", new Location(null, 0, 0, 0))).getMessage()
+        );
+    }
+    
+    
+    @Test
+    void remove() {
+        index.update("a", new Location(world, 1, 2, 3));
+        
+        assertTrue(index.remove("a"));
+        assertFalse(index.remove("a"));
+        assertFalse(index.contains("a"));
+        assertNull(index.location("a"));
+        assertEquals(List.of(), index.radius(new Location(world, 1, 2, 3), 5));
+    }
+    
+    @Test
+    void remove_world() {
+        index.update("a", new Location(world, 1, 2, 3));
+        index.update("b", new Location(other, 1, 2, 3));
+        
+        index.remove(world);
+        
+        assertFalse(index.contains("a"));
+        assertTrue(index.contains("b"));
+        assertEquals(1, index.size());
+    }
+    
+    
+    @Test
+    void nearest() {
+        index.update("a", new Location(world, 40, 0, 0));
+        index.update("b", new Location(world, -17, 0, 0));
+        index.update("c", new Location(world, 0, 0, 200));
+        index.update("d", new Location(other, 0, 0, 0));
+        
+        assertEquals("b", index.nearest(new Location(world, 0, 0, 0), Double.POSITIVE_INFINITY));
+        assertEquals("a", index.nearest(new Location(world, 0, 0, 0), 50, value -> !value.equals("b")));
+        assertNull(index.nearest(new Location(world, 0, 0, 0), 10));
+    }
+    
+    @Test
+    void nearest_rings() {
+        for (int i = 0; i < 400; i++) {
+            index.update("far" + i, new Location(world, 1000 + i * 20, 0, 1000));
+        }
+        index.update("near", new Location(world, 30, 0, -30));
+        
+        assertEquals("near", index.nearest(new Location(world, 0, 0, 0), 100));
+        assertEquals("far0", index.nearest(new Location(world, 990, 0, 1000), 100));
+    }
+    
+    @Test
+    void nearest_unknown_world() {
+        assertNull(index.nearest(new Location(world, 0, 0, 0), 10));
+    }
+    
+    
+    @Test
+    void radius() {
+        index.update("a", new Location(world, 3, 4, 0));
+        index.update("b", new Location(world, 4, 4, 0));
+        index.update("c", new Location(world, -20, 0, -20));
+        
+        assertEquals(List.of("a"), index.radius(new Location(world, 0, 0, 0), 5));
+        assertEquals(Set.of("a", "b", "c"), new HashSet<>(index.radius(new Location(world, 0, 0, 0), 50)));
+        assertEquals(List.of("b"), index.radius(new Location(world, 0, 0, 0), 50, value -> value.equals("b")));
+    }
+    
+    @Test
+    void box() {
+        index.update("a", new Location(world, 3, 4, 0));
+        index.update("b", new Location(world, 40, 4, 0));
+        index.update("c", new Location(other, 3, 4, 0));
+        
+        assertEquals(List.of("a"), index.box(world, new BoundingBox(0, 0, -1, 10, 10, 1)));
+        assertEquals(List.of(), index.box(world, new BoundingBox(0, 0, -1, 10, 10, 1), value -> false));
+    }
+    
+    
+    @Test
+    void chunk() {
+        assertEquals(0, SpatialIndex.chunk(15.9));
+        assertEquals(1, SpatialIndex.chunk(16));
+        assertEquals(-1, SpatialIndex.chunk(-0.1));
+    }
+    
+}
@@ -0,0 +1,77 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.bukkit.util.Vector;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares the number of points rotated per second by the per-object and bulk 
+ * rotation methods in {@code Vectors}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(VectorsBenchmark.POINTS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VectorsBenchmark {
+    
+    static final int POINTS = 2000;
+    
+    Vector[] vectors = new Vector[POINTS];
+    double[] xs = new double[POINTS];
+    double[] ys = new double[POINTS];
+    double[] zs = new double[POINTS];
+    
+    @Setup(Level.Invocation)
+    public void setup() {
+        for (int i = 0; i < POINTS; i++) {
+            double angle = Math.PI * 2 * i / POINTS;
+            xs[i] = Math.cos(angle);
+            ys[i] = Math.sin(angle);
+            zs[i] = 0;
+            vectors[i] = new Vector(xs[i], ys[i], zs[i]);
+        }
+    }
+    
+    @Benchmark
+    public Vector[] rotate_vectors() {
+        for (var vector : vectors) {
+            Vectors.rotate(vector, 37.5F, -12.25F);
+        }
+        return vectors;
+    }
+    
+    @Benchmark
+    public double[] rotate_arrays() {
+        Vectors.rotate(xs, ys, zs, 37.5F, -12.25F);
+        return xs;
+    }
+    
+}
@@ -86,6 +86,60 @@ class VectorsTest {
     }
     
     
+    @Test
+    void rotate_arrays_pivot() {
+        double[] xs = {1, 3};
+        double[] ys = {2, 2};
+        double[] zs = {3, 1};
+        
+        Vectors.rotate(xs, ys, zs, pivot);
+        
+        assertArrayEquals(new double[] {1, 3}, xs, 0.000001);
+        assertArrayEquals(new double[] {-2, -2}, ys, 0.000001);
+        assertArrayEquals(new double[] {-3, -1}, zs, 0.000001);
+    }
+    
+    @Test
+    void rotate_arrays_degrees() {
+        double[] xs = new double[10];
+        double[] ys = new double[10];
+        double[] zs = new double[10];
+        for (int i = 0; i < xs.length; i++) {
+            xs[i] = i;
+            ys[i] = i * 2;
+            zs[i] = i * 3;
+        }
+        
+        Vectors.rotate(xs, ys, zs, 37.5F, -12.25F);
+        
+        for (int i = 0; i < xs.length; i++) {
+            assertEquals(Vectors.rotate(new Vector(i, i * 2, i * 3), 37.5F, -12.25F), new Vector(xs[i], ys[i], zs[i]));
+        }
+    }
+    
+    @Test
+    void rotate_arrays_range() {
+        double[] xs = {1, 1, 1};
+        double[] ys = {2, 2, 2};
+        double[] zs = {3, 3, 3};
+        
+        Vectors.rotate(xs, ys, zs, 1, 1, 90, -180);
+        
+        assertArrayEquals(new double[] {1, 1, 1}, xs, 0.000001);
+        assertArrayEquals(new double[] {2, -2, 2}, ys, 0.000001);
+        assertArrayEquals(new double[] {3, -3, 3}, zs, 0.000001);
+    }
+    
+    @Test
+    void rotate_arrays_throws_exception() {
+        assertEquals(
+            "Coordinate arrays should be of equal length, but was 1, 2 and 1",
+            assertThrows(IllegalArgumentException.class, () -> Vectors.rotate(new double[1], new double[2], new double[1], 0, 0)).getMessage()
+        );
+        assertThrows(IndexOutOfBoundsException.class, () -> Vectors.rotate(new double[1], new double[1], new double[1], 1, 1, 0, 0));
+    }
+    
+    
     @Test
     void angleToXAxis() {
         assertEquals(0.4636476090008061, Vectors.angleToXAxis(vector), 0.0001);
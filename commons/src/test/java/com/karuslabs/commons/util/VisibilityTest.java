@@ -0,0 +1,114 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util;
+
+import java.util.*;
+
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class VisibilityTest {
+    
+    Player viewer = when(mock(Player.class).getUniqueId()).thenReturn(UUID.randomUUID()).getMock();
+    Player target = when(mock(Player.class).getUniqueId()).thenReturn(UUID.randomUUID()).getMock();
+    Plugin plugin = mock(Plugin.class);
+    Visibility visibility = new Visibility();
+    
+    
+    @Test
+    void hide_plugin() {
+        visibility.hide(plugin, viewer, target);
+        
+        verify(viewer).hidePlayer(plugin, target);
+        assertFalse(visibility.canSee(viewer, target));
+        assertTrue(visibility.canSee(target, viewer));
+    }
+    
+    @Test
+    void show_plugin() {
+        visibility.hide(viewer, target);
+        visibility.show(plugin, viewer, target);
+        
+        verify(viewer).showPlayer(plugin, target);
+        assertTrue(visibility.canSee(viewer, target));
+    }
+    
+    
+    @Test
+    void hide() {
+        visibility.hide(viewer, target);
+        var epoch = visibility.epoch();
+        
+        visibility.hide(viewer, target);
+        
+        assertEquals(1, epoch);
+        assertEquals(1, visibility.epoch());
+    }
+    
+    @Test
+    void show() {
+        visibility.show(viewer, target);
+        assertEquals(0, visibility.epoch());
+        
+        visibility.hide(viewer, target);
+        visibility.show(viewer, target);
+        
+        assertTrue(visibility.canSee(viewer, target));
+        assertEquals(2, visibility.epoch());
+    }
+    
+    
+    @Test
+    void refresh() {
+        when(viewer.canSee(target)).thenReturn(false);
+        
+        visibility.refresh(viewer, List.of(viewer, target));
+        assertFalse(visibility.canSee(viewer, target));
+        assertEquals(1, visibility.epoch());
+        
+        visibility.refresh(viewer, List.of(viewer, target));
+        assertEquals(1, visibility.epoch());
+        
+        when(viewer.canSee(target)).thenReturn(true);
+        visibility.refresh(viewer, List.of(viewer, target));
+        assertTrue(visibility.canSee(viewer, target));
+        assertEquals(2, visibility.epoch());
+    }
+    
+    
+    @Test
+    void remove() {
+        visibility.hide(viewer, target);
+        visibility.remove(viewer);
+        
+        assertTrue(visibility.canSee(viewer, target));
+        assertEquals(2, visibility.epoch());
+    }
+    
+}
@@ -0,0 +1,80 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util.collection;
+
+import java.util.*;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentPrefixMapTest {
+    
+    ConcurrentPrefixMap<Integer> map = new ConcurrentPrefixMap<>();
+    
+    ConcurrentPrefixMapTest() {
+        map.put("Pante", 1);
+        map.put("pantera", 2);
+        map.put("Kevaasaurus", 3);
+        map.put("pan", 4);
+    }
+    
+    
+    @Test
+    void prefixed() {
+        assertEquals(Map.of("pan", 4, "Pante", 1, "pantera", 2), map.prefixed("PAN"));
+    }
+    
+    @Test
+    void prefixed_empty() {
+        assertEquals(4, map.prefixed("").size());
+    }
+    
+    @Test
+    void prefixed_none() {
+        assertTrue(map.prefixed("bob").isEmpty());
+    }
+    
+    @Test
+    void prefixedKeys() {
+        assertEquals(List.of("Pante", "pantera"), new ArrayList<>(map.prefixedKeys("pant")));
+    }
+    
+    @Test
+    void prefixedValues() {
+        assertEquals(List.of(3), new ArrayList<>(map.prefixedValues("kEv")));
+    }
+    
+    @Test
+    void get() {
+        assertEquals(1, map.get("PANTE"));
+    }
+    
+    @Test
+    void put() {
+        assertEquals(1, map.put("pante", 5));
+        assertEquals(4, map.size());
+    }
+    
+}
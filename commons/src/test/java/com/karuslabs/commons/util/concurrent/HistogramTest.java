@@ -0,0 +1,115 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util.concurrent;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HistogramTest {
+    
+    Histogram histogram = new Histogram();
+    
+    @ParameterizedTest
+    @ValueSource(longs = {0, 1, 31, 32, 33, 63, 64, 100, 1000, 123456789, Long.MAX_VALUE})
+    void index(long value) {
+        int index = Histogram.index(value);
+        
+        assertTrue(index < Histogram.BUCKETS);
+        assertTrue(value <= Histogram.ceiling(index));
+        assertTrue(index == 0 || Histogram.ceiling(index - 1) < value);
+    }
+    
+    @Test
+    void record() {
+        histogram.record(-5);
+        histogram.record(10);
+        histogram.record(20);
+        
+        assertEquals(3, histogram.count());
+        assertEquals(30, histogram.sum());
+        assertEquals(20, histogram.max());
+        assertEquals(10, histogram.mean());
+    }
+    
+    @Test
+    void percentile() {
+        for (long i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000);
+        }
+        
+        assertEquals(500_000, histogram.percentile(50), 500_000 / Histogram.EXACT);
+        assertEquals(990_000, histogram.percentile(99), 990_000 / Histogram.EXACT);
+        assertEquals(1_000_000, histogram.percentile(100));
+        assertEquals(1_000, histogram.percentile(0), 1_000 / Histogram.EXACT);
+    }
+    
+    @Test
+    void percentile_empty() {
+        assertEquals(0, histogram.percentile(50));
+        assertEquals(0, histogram.mean());
+    }
+    
+    @Test
+    void percentile_throws_exception() {
+        assertEquals(
+            "Percentile should be between 0 and 100, but was 101.0",
+            assertThrows(IllegalArgumentException.class, () -> histogram.percentile(101)).getMessage()
+        );
+    }
+    
+    @Test
+    void percentiles() {
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+        
+        assertArrayEquals(
+            new long[] {histogram.percentile(0), histogram.percentile(50), histogram.percentile(50), histogram.percentile(100)},
+            histogram.percentiles(0, 50, 50, 100)
+        );
+    }
+    
+    @Test
+    void percentiles_throws_exception() {
+        assertEquals(
+            "Percentiles should be in ascending order",
+            assertThrows(IllegalArgumentException.class, () -> histogram.percentiles(90, 50)).getMessage()
+        );
+    }
+    
+    @Test
+    void reset() {
+        histogram.record(10);
+        histogram.reset();
+        
+        assertEquals(0, histogram.count());
+        assertEquals(0, histogram.sum());
+        assertEquals(0, histogram.max());
+        assertEquals(0, histogram.percentile(100));
+    }
+    
+}
@@ -0,0 +1,131 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util.concurrent;
+
+import java.util.List;
+import java.util.concurrent.*;
+
+import javax.management.*;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class MetricsTest {
+    
+    ThreadPoolExecutor executor = mock(ThreadPoolExecutor.class);
+    Metrics metrics = new Metrics(executor);
+    
+    @Test
+    void record() {
+        var timings = metrics.record("group");
+        
+        assertSame(timings, metrics.record("group"));
+        assertSame(timings, metrics.timings("group"));
+        assertEquals(1, metrics.timings().size());
+    }
+    
+    @Test
+    void recordTask() {
+        var timings = metrics.recordTask(String.class);
+        
+        assertSame(timings, metrics.recordTask(String.class));
+        assertSame(timings, metrics.task(String.class));
+        assertEquals(1, metrics.tasks().size());
+    }
+    
+    @Test
+    void reset() {
+        metrics.record("group");
+        metrics.recordTask(String.class);
+        metrics.reject();
+        
+        metrics.reset();
+        
+        assertTrue(metrics.timings().isEmpty());
+        assertTrue(metrics.tasks().isEmpty());
+        assertEquals(0, metrics.getRejected());
+    }
+    
+    @Test
+    void getQueued() {
+        when(executor.getQueue()).thenReturn(new LinkedBlockingQueue<>(List.of(mock(Runnable.class))));
+        
+        assertEquals(1, metrics.getQueued());
+    }
+    
+    @Test
+    void getActive() {
+        when(executor.getActiveCount()).thenReturn(2);
+        
+        assertEquals(2, metrics.getActive());
+    }
+    
+    @Test
+    void getCompleted() {
+        when(executor.getCompletedTaskCount()).thenReturn(3L);
+        
+        assertEquals(3, metrics.getCompleted());
+    }
+    
+    @Test
+    void toString_ungrouped() {
+        assertEquals("ungrouped", Metrics.UNGROUPED.toString());
+    }
+    
+    @Test
+    void getGroupRuntime() {
+        metrics.record("group").runtime().record(10);
+        metrics.record("group").drift().record(20);
+        
+        var runtime = metrics.getGroupRuntime().get("group");
+        assertEquals(1, runtime.getCount());
+        assertEquals(10, runtime.getMax());
+        assertEquals(10, runtime.getP99());
+        assertEquals(20, metrics.getGroupDrift().get("group").getMax());
+    }
+    
+    @Test
+    void getTaskRuntime() {
+        metrics.recordTask(String.class).runtime().record(10);
+        metrics.recordTask(String.class).drift().record(20);
+        
+        assertEquals(10, metrics.getTaskRuntime().get("java.lang.String").getP50());
+        assertEquals(20, metrics.getTaskDrift().get("java.lang.String").getMean());
+    }
+    
+    @Test
+    void register() throws JMException {
+        var server = MBeanServerFactory.newMBeanServer();
+        
+        var name = metrics.register(server, "test");
+        
+        assertEquals("Scheduler", name.getKeyProperty("type"));
+        assertEquals("\"test\"", name.getKeyProperty("name"));
+        assertEquals(0L, server.getAttribute(name, "Rejected"));
+        assertNotNull(server.getAttribute(name, "GroupRuntime"));
+    }
+    
+}
@@ -0,0 +1,188 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util.concurrent;
+
+import com.karuslabs.commons.util.concurrent.RateLimitedExecutor.Policy;
+
+import java.util.concurrent.*;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class RateLimitedExecutorTest {
+    
+    ScheduledExecutorService executor = mock(ScheduledExecutorService.class);
+    Runnable task = mock(Runnable.class);
+    
+    @Test
+    void constructor_throws_exception() {
+        assertEquals(
+            "Key rate and burst should be positive, but was 1.0 and 0",
+            assertThrows(IllegalArgumentException.class, () -> new RateLimitedExecutor(executor, 1, 1, 1, 0, Policy.REJECT)).getMessage()
+        );
+    }
+    
+    @Test
+    void execute() {
+        var limited = new RateLimitedExecutor(executor, 0.001, 2, Policy.REJECT);
+        
+        limited.execute(task);
+        limited.execute(task);
+        
+        verify(executor, times(2)).execute(task);
+        assertEquals(
+            "Task " + task + " exceeds the rate limit",
+            assertThrows(RejectedExecutionException.class, () -> limited.execute(task)).getMessage()
+        );
+    }
+    
+    @Test
+    void tryExecute_reject() {
+        var limited = new RateLimitedExecutor(executor, 0.001, 1, Policy.REJECT);
+        
+        assertTrue(limited.tryExecute(task));
+        assertFalse(limited.tryExecute(task));
+        
+        verify(executor).execute(task);
+    }
+    
+    @Test
+    void tryExecute_queue() {
+        var limited = new RateLimitedExecutor(executor, 0.001, 1, Policy.QUEUE);
+        
+        assertTrue(limited.tryExecute(task));
+        assertTrue(limited.tryExecute(task));
+        
+        verify(executor).execute(task);
+        verify(executor).schedule(eq(task), longThat(delay -> delay > TimeUnit.SECONDS.toNanos(900)), eq(TimeUnit.NANOSECONDS));
+    }
+    
+    @Test
+    void tryExecute_caller_runs() {
+        var limited = new RateLimitedExecutor(executor, 1000, 1, Policy.CALLER_RUNS);
+        
+        assertTrue(limited.tryExecute(task));
+        assertTrue(limited.tryExecute(task));
+        
+        verify(executor).execute(task);
+        verify(task).run();
+    }
+    
+    @Test
+    void tryExecute_key() {
+        var limited = new RateLimitedExecutor(executor, 1000, 100, 0.001, 1, Policy.REJECT);
+        
+        assertTrue(limited.tryExecute("a", task));
+        assertFalse(limited.tryExecute("a", task));
+        assertTrue(limited.tryExecute("b", task));
+        assertTrue(limited.tryExecute(task));
+        
+        assertEquals(2, limited.keys());
+        verify(executor, times(3)).execute(task);
+    }
+    
+    @Test
+    void tryExecute_key_refund() {
+        var limited = new RateLimitedExecutor(executor, 0.001, 1, 0.001, 1, Policy.REJECT);
+        
+        assertTrue(limited.tryExecute(task));
+        assertFalse(limited.tryExecute("a", task));
+        
+        limited.purge();
+        
+        assertEquals(0, limited.keys());
+    }
+    
+    @Test
+    void purge() {
+        var limited = new RateLimitedExecutor(executor, 1000, 100, 0.001, 1, Policy.REJECT);
+        limited.tryExecute("a", task);
+        
+        limited.purge();
+        
+        assertEquals(1, limited.keys());
+    }
+    
+    @Test
+    void executor() {
+        assertSame(executor, new RateLimitedExecutor(executor, 1, 1, Policy.REJECT).executor());
+    }
+    
+}
+
+class TokenBucketTest {
+    
+    TokenBucket bucket = new TokenBucket(1, 2);
+    
+    @Test
+    void constructor_throws_exception() {
+        assertEquals(
+            "Rate and burst should be positive, but was 0.0 and 1",
+            assertThrows(IllegalArgumentException.class, () -> new TokenBucket(0, 1)).getMessage()
+        );
+    }
+    
+    @Test
+    void acquire() {
+        long now = System.nanoTime();
+        
+        assertTrue(bucket.acquire(now));
+        assertTrue(bucket.acquire(now));
+        assertFalse(bucket.acquire(now));
+        assertTrue(bucket.acquire(now + TimeUnit.SECONDS.toNanos(1)));
+    }
+    
+    @Test
+    void reserve() {
+        long now = System.nanoTime();
+        
+        assertEquals(0, bucket.reserve(now));
+        assertEquals(0, bucket.reserve(now));
+        assertEquals(TimeUnit.SECONDS.toNanos(1), bucket.reserve(now), TimeUnit.MILLISECONDS.toNanos(100));
+    }
+    
+    @Test
+    void refund() {
+        long now = System.nanoTime();
+        bucket.acquire(now);
+        bucket.acquire(now);
+        
+        bucket.refund();
+        
+        assertTrue(bucket.acquire(now));
+    }
+    
+    @Test
+    void full() {
+        long now = System.nanoTime();
+        assertTrue(bucket.full(now));
+        
+        bucket.acquire(now);
+        
+        assertFalse(bucket.full(now));
+    }
+    
+}
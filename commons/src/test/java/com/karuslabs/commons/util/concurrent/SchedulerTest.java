@@ -23,6 +23,7 @@
  */
 package com.karuslabs.commons.util.concurrent;
 
+import java.util.Set;
 import java.util.concurrent.*;
 import java.util.function.Consumer;
 
@@ -49,6 +50,265 @@ class SchedulerTest {
         assertEquals(Context.INFINITE, runnable.getValue().times());
     }
     
+    @Test
+    void schedule_group() {
+        doReturn(null).when(scheduler).scheduleAtFixedRate(any(), anyInt(), anyInt(), any());
+        var runnable = ArgumentCaptor.forClass(RunnableContext.class);
+        
+        scheduler.schedule("group", (context) -> {}, 1, 2, TimeUnit.DAYS, 3);
+        
+        verify(scheduler).scheduleAtFixedRate(runnable.capture(), eq(1L), eq(2L), eq(TimeUnit.DAYS));
+        
+        assertEquals("group", runnable.getValue().group);
+        assertEquals(3, runnable.getValue().times());
+    }
+    
+    @Test
+    void cancel() {
+        var scheduler = new Scheduler(1);
+        var first = scheduler.schedule("group", (context) -> {}, 1, 1, TimeUnit.DAYS);
+        var second = scheduler.schedule("group", (context) -> {}, 1, 1, TimeUnit.DAYS);
+        var other = scheduler.schedule("other", (context) -> {}, 1, 1, TimeUnit.DAYS);
+        
+        assertEquals(2, scheduler.count("group"));
+        assertEquals(2, scheduler.cancel("group"));
+        
+        assertTrue(first.isCancelled());
+        assertTrue(second.isCancelled());
+        assertFalse(other.isCancelled());
+        
+        assertEquals(0, scheduler.count("group"));
+        assertEquals(1, scheduler.getQueue().size());
+        assertEquals(Set.of("other"), scheduler.groups());
+        
+        scheduler.shutdownNow();
+    }
+    
+    @Test
+    void cancel_future() {
+        var scheduler = new Scheduler(1);
+        scheduler.setRemoveOnCancelPolicy(true);
+        var first = scheduler.schedule("group", (context) -> {}, 1, 1, TimeUnit.DAYS);
+        var second = scheduler.schedule("group", (context) -> {}, 1, 1, TimeUnit.DAYS);
+        
+        assertTrue(first.cancel(false));
+        
+        assertEquals(1, scheduler.count("group"));
+        assertEquals(1, scheduler.getQueue().size());
+        
+        second.cancel(false);
+        
+        assertEquals(0, scheduler.count("group"));
+        assertTrue(scheduler.groups().isEmpty());
+        assertTrue(scheduler.getQueue().isEmpty());
+        
+        scheduler.shutdownNow();
+    }
+    
+    @Test
+    void purge() {
+        var scheduler = new Scheduler(1);
+        var future = scheduler.schedule("group", (context) -> {}, 1, 1, TimeUnit.DAYS);
+        
+        assertTrue(future.cancel(false));
+        assertEquals(1, scheduler.count("group"));
+        
+        scheduler.purge();
+        
+        assertEquals(0, scheduler.count("group"));
+        assertTrue(scheduler.getQueue().isEmpty());
+        
+        scheduler.shutdownNow();
+    }
+    
+    @Test
+    void cancel_context() throws InterruptedException {
+        var scheduler = new Scheduler(1);
+        var latch = new CountDownLatch(1);
+        scheduler.schedule("group", (context) -> {
+            context.cancel();
+            latch.countDown();
+        }, 0, 1, TimeUnit.DAYS);
+        
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        scheduler.shutdown();
+        assertTrue(scheduler.awaitTermination(1, TimeUnit.SECONDS));
+        
+        assertEquals(0, scheduler.count("group"));
+        assertTrue(scheduler.groups().isEmpty());
+    }
+    
+    @Test
+    void coalesce() {
+        doReturn(null).when(scheduler).schedule(any(Runnable.class), anyLong(), any());
+        Runnable runnable = mock(Runnable.class);
+        
+        assertTrue(scheduler.coalesce("key", runnable, 1, TimeUnit.SECONDS));
+        assertFalse(scheduler.coalesce("key", runnable, 1, TimeUnit.SECONDS));
+        assertTrue(scheduler.coalesce("other", runnable, 1, TimeUnit.SECONDS));
+        
+        verify(scheduler).schedule(any(Coalescence.class), eq(1L), eq(TimeUnit.SECONDS));
+        verify(scheduler, times(2)).schedule(any(Coalescence.class), anyLong(), any());
+    }
+    
+    @Test
+    void coalesce_wait() {
+        doReturn(null).when(scheduler).schedule(any(Runnable.class), anyLong(), any());
+        
+        assertTrue(scheduler.coalesce("key", mock(Runnable.class), 5, 2, TimeUnit.SECONDS));
+        
+        verify(scheduler).schedule(any(Coalescence.class), eq(2L), eq(TimeUnit.SECONDS));
+    }
+    
+    @Test
+    void coalesce_executed() throws InterruptedException {
+        var scheduler = new Scheduler(1);
+        var latch = new CountDownLatch(1);
+        
+        assertTrue(scheduler.coalesce("key", latch::countDown, 1, TimeUnit.MILLISECONDS));
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        
+        scheduler.shutdown();
+        assertTrue(scheduler.awaitTermination(1, TimeUnit.SECONDS));
+        
+        assertThrows(RejectedExecutionException.class, () -> scheduler.coalesce("key", latch::countDown, 1, TimeUnit.MILLISECONDS));
+    }
+    
+    @Test
+    void cancel_empty() {
+        assertEquals(0, scheduler.cancel("group"));
+    }
+    
+    @Test
+    void afterExecute_done() {
+        scheduler.join("group", task, Runnable.class);
+        when(task.isDone()).thenReturn(true);
+        
+        scheduler.afterExecute(task, null);
+        
+        assertEquals(0, scheduler.count("group"));
+        assertTrue(scheduler.groups().isEmpty());
+    }
+    
+    @Test
+    void afterExecute_running() {
+        scheduler.join("group", task, Runnable.class);
+        
+        scheduler.afterExecute(task, null);
+        
+        assertEquals(1, scheduler.count("group"));
+    }
+    
+    @Test
+    void enableMetrics() {
+        var metrics = scheduler.enableMetrics();
+        
+        assertSame(metrics, scheduler.enableMetrics());
+        assertSame(metrics, scheduler.metrics());
+        
+        scheduler.disableMetrics();
+        
+        assertNull(scheduler.metrics());
+    }
+    
+    @Test
+    void beforeExecute_afterExecute_metrics() {
+        var metrics = scheduler.enableMetrics();
+        scheduler.join("group", task, Runnable.class);
+        when(task.getDelay(TimeUnit.NANOSECONDS)).thenReturn(-10L);
+        
+        scheduler.beforeExecute(Thread.currentThread(), task);
+        scheduler.afterExecute(task, null);
+        
+        var timings = metrics.timings("group");
+        assertEquals(10, timings.drift().max());
+        assertEquals(1, timings.runtime().count());
+        assertNull(metrics.timings(Metrics.UNGROUPED));
+    }
+    
+    @Test
+    void beforeExecute_afterExecute_task() {
+        var metrics = scheduler.enableMetrics();
+        Consumer<Context> consumer = context -> {};
+        var decorated = scheduler.decorateTask(new RunnableContext(consumer, 1), task);
+        when(task.getDelay(TimeUnit.NANOSECONDS)).thenReturn(-10L);
+        
+        scheduler.beforeExecute(Thread.currentThread(), decorated);
+        scheduler.afterExecute(decorated, null);
+        
+        var timings = metrics.task(consumer.getClass());
+        assertEquals(10, timings.drift().max());
+        assertEquals(1, timings.runtime().count());
+        assertEquals(1, metrics.timings(Metrics.UNGROUPED).runtime().count());
+    }
+    
+    @Test
+    void beforeExecute_afterExecute_toggled() {
+        scheduler.enableMetrics();
+        scheduler.beforeExecute(Thread.currentThread(), task);
+        scheduler.disableMetrics();
+        scheduler.afterExecute(task, null);
+        
+        var metrics = scheduler.enableMetrics();
+        scheduler.afterExecute(task, null);
+        
+        assertNull(metrics.timings(Metrics.UNGROUPED));
+    }
+    
+    @Test
+    void beforeExecute_afterExecute_disabled() {
+        scheduler.beforeExecute(Thread.currentThread(), task);
+        scheduler.afterExecute(task, null);
+        
+        verifyNoInteractions(task);
+    }
+    
+    @Test
+    void beforeExecute_afterExecute_watchdog() {
+        var watchdog = mock(Watchdog.class);
+        scheduler.watchdog(watchdog);
+        scheduler.join("group", task, Runnable.class);
+        
+        scheduler.beforeExecute(Thread.currentThread(), task);
+        scheduler.afterExecute(task, null);
+        
+        var label = ArgumentCaptor.forClass(Object.class);
+        assertSame(watchdog, scheduler.watchdog());
+        verify(watchdog).enter(label.capture());
+        verify(watchdog).exit();
+        assertEquals("group (java.lang.Runnable)", label.getValue().toString());
+    }
+    
+    @Test
+    void beforeExecute_afterExecute_watchdog_task() {
+        var watchdog = mock(Watchdog.class);
+        scheduler.watchdog(watchdog);
+        Consumer<Context> consumer = context -> {};
+        var decorated = scheduler.decorateTask(new RunnableContext("group", consumer, 1), task);
+        
+        scheduler.beforeExecute(Thread.currentThread(), decorated);
+        scheduler.afterExecute(decorated, null);
+        
+        var label = ArgumentCaptor.forClass(Object.class);
+        verify(watchdog).enter(label.capture());
+        assertEquals("group (" + consumer.getClass().getName() + ")", label.getValue().toString());
+    }
+    
+    @Test
+    void rejectedExecutionHandler() {
+        var handler = mock(RejectedExecutionHandler.class);
+        var runnable = mock(Runnable.class);
+        var metrics = scheduler.enableMetrics();
+        
+        scheduler.setRejectedExecutionHandler(handler);
+        scheduler.shutdown();
+        scheduler.execute(runnable);
+        
+        assertSame(handler, scheduler.getRejectedExecutionHandler());
+        assertEquals(1, metrics.getRejected());
+        verify(handler).rejectedExecution(runnable, scheduler);
+    }
+    
     @Test
     void decorateTask_runnableContext() {
         var runnable = mock(RunnableContext.class);
@@ -57,6 +317,40 @@ class SchedulerTest {
         assertSame(task, runnable.future);
     }
     
+    @Test
+    void decorateTask_group() {
+        var runnable = new RunnableContext("group", context -> {}, 1);
+        
+        var decorated = scheduler.decorateTask(runnable, task);
+        
+        assertSame(task, decorated);
+        assertSame(task, runnable.future);
+        assertEquals(1, scheduler.count("group"));
+        
+        when(task.isDone()).thenReturn(true);
+        scheduler.remove(task);
+        
+        assertEquals(0, scheduler.count("group"));
+        assertTrue(scheduler.groups().isEmpty());
+    }
+    
+    @Test
+    void decorateTask_callable() {
+        Callable<String> callable = () -> "";
+        RunnableScheduledFuture<String> future = mock(RunnableScheduledFuture.class);
+        
+        assertSame(future, scheduler.decorateTask(callable, future));
+        
+        var metrics = scheduler.enableMetrics();
+        
+        assertSame(future, scheduler.decorateTask(callable, future));
+        
+        scheduler.beforeExecute(Thread.currentThread(), future);
+        scheduler.afterExecute(future, null);
+        
+        assertEquals(1, metrics.task(callable.getClass()).runtime().count());
+    }
+    
     @Test
     void decorateTask_runnable() {
         Runnable runnable = mock(Runnable.class);
@@ -69,6 +363,79 @@ class SchedulerTest {
     
 }
 
+class CoalescenceTest {
+    
+    Scheduler scheduler = mock(Scheduler.class);
+    ConcurrentMap<Object, Coalescence> coalesced = new ConcurrentHashMap<>();
+    Runnable task = mock(Runnable.class);
+    Coalescence coalescence = new Coalescence(scheduler, coalesced, "key", task, System.nanoTime(), TimeUnit.DAYS.toNanos(1), TimeUnit.DAYS.toNanos(2));
+    
+    @BeforeEach
+    void before() {
+        coalesced.put("key", coalescence);
+    }
+    
+    @Test
+    void request() {
+        long now = System.nanoTime() + 10;
+        
+        assertTrue(coalescence.request(now));
+        assertEquals(now, coalescence.latest.get());
+        
+        assertTrue(coalescence.request(now - 5));
+        assertEquals(now, coalescence.latest.get());
+    }
+    
+    @Test
+    void request_closed() {
+        coalescence.latest.set(Coalescence.CLOSED);
+        
+        assertFalse(coalescence.request(System.nanoTime()));
+    }
+    
+    @Test
+    void run_reschedule() {
+        coalescence.run();
+        
+        verify(scheduler).schedule(eq(coalescence), longThat(delay -> delay > 0 && delay <= TimeUnit.DAYS.toNanos(1)), eq(TimeUnit.NANOSECONDS));
+        verifyNoInteractions(task);
+    }
+    
+    @Test
+    void run_rejected() {
+        when(scheduler.schedule(any(Runnable.class), anyLong(), any())).thenThrow(RejectedExecutionException.class);
+        
+        coalescence.run();
+        
+        verify(task).run();
+        assertEquals(Coalescence.CLOSED, coalescence.latest.get());
+        assertTrue(coalesced.isEmpty());
+    }
+    
+    @Test
+    void run_idle() {
+        coalescence.latest.set(System.nanoTime() - TimeUnit.DAYS.toNanos(1));
+        
+        coalescence.run();
+        
+        verify(task).run();
+        assertEquals(Coalescence.CLOSED, coalescence.latest.get());
+        assertTrue(coalesced.isEmpty());
+        assertFalse(coalescence.request(System.nanoTime()));
+    }
+    
+    @Test
+    void run_waited() {
+        var coalescence = new Coalescence(scheduler, coalesced, "key", task, System.nanoTime() - TimeUnit.DAYS.toNanos(3), TimeUnit.DAYS.toNanos(1), TimeUnit.DAYS.toNanos(2));
+        coalescence.latest.set(System.nanoTime());
+        
+        coalescence.run();
+        
+        verify(task).run();
+    }
+    
+}
+
 class RunnableContextTest {
     
     Consumer<Context> consumer = mock(Consumer.class);
@@ -0,0 +1,123 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util.concurrent;
+
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class WatchdogTest {
+    
+    Logger logger = mock(Logger.class);
+    Watchdog watchdog = new Watchdog(logger, 1, TimeUnit.DAYS);
+    
+    @AfterEach
+    void after() {
+        watchdog.close();
+    }
+    
+    @Test
+    void constructor_throws_exception() {
+        assertEquals(
+            "Threshold should be positive, but was 0",
+            assertThrows(IllegalArgumentException.class, () -> new Watchdog(logger, 0, TimeUnit.SECONDS)).getMessage()
+        );
+    }
+    
+    @Test
+    void start() {
+        assertSame(watchdog, watchdog.start());
+        assertEquals(
+            "Watchdog was already started",
+            assertThrows(IllegalStateException.class, watchdog::start).getMessage()
+        );
+    }
+    
+    @Test
+    void start_closed() {
+        var watchdog = new Watchdog(logger, 1, TimeUnit.DAYS);
+        watchdog.close();
+        
+        assertEquals(
+            "Watchdog was closed",
+            assertThrows(IllegalStateException.class, watchdog::start).getMessage()
+        );
+    }
+    
+    @Test
+    void close_unstarted() {
+        assertDoesNotThrow(() -> new Watchdog(logger, 1, TimeUnit.DAYS).close());
+    }
+    
+    @Test
+    void sample() {
+        watchdog.enter("task");
+        
+        watchdog.sample(System.nanoTime() + TimeUnit.DAYS.toNanos(2));
+        watchdog.sample(System.nanoTime() + TimeUnit.DAYS.toNanos(3));
+        
+        verify(logger, times(1)).warning(startsWith("Slow execution of task, running for"));
+        assertEquals(1, watchdog.occurrences().size());
+    }
+    
+    @Test
+    void sample_below_threshold() {
+        watchdog.enter("task");
+        
+        watchdog.sample(System.nanoTime());
+        
+        verifyNoInteractions(logger);
+    }
+    
+    @Test
+    void sample_exited() {
+        watchdog.enter("task");
+        watchdog.exit();
+        
+        watchdog.sample(System.nanoTime() + TimeUnit.DAYS.toNanos(2));
+        
+        verifyNoInteractions(logger);
+    }
+    
+    @Test
+    void report() {
+        var stack = new StackTraceElement[] { new StackTraceElement("Class", "method", "Class.java", 1) };
+        
+        for (int i = 0; i < 4; i++) {
+            watchdog.report("task", stack, TimeUnit.MILLISECONDS.toNanos(100));
+        }
+        
+        verify(logger).warning("Slow execution of task, running for 100ms\n\tat Class.method(Class.java:1)");
+        verify(logger).warning("Slow execution of task has occurred 2 times");
+        verify(logger).warning("Slow execution of task has occurred 4 times");
+        verifyNoMoreInteractions(logger);
+        
+        assertEquals(4, watchdog.occurrences().get("task\n\tat Class.method(Class.java:1)"));
+    }
+    
+}
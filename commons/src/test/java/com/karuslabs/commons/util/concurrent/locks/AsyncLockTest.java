@@ -0,0 +1,148 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util.concurrent.locks;
+
+import java.util.concurrent.*;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncLockTest {
+    
+    AsyncLock lock = new AsyncLock();
+    
+    @Test
+    void holdAsync() {
+        var first = lock.holdAsync();
+        var second = lock.holdAsync();
+        var third = lock.holdAsync();
+        
+        assertTrue(first.isDone());
+        assertFalse(second.isDone());
+        assertEquals(2, lock.getQueueLength());
+        
+        first.join().close();
+        
+        assertTrue(second.isDone());
+        assertFalse(third.isDone());
+        
+        second.join().close();
+        third.join().close();
+        
+        assertFalse(lock.isLocked());
+    }
+    
+    @Test
+    void holdAsync_cancelled() {
+        var first = lock.holdAsync();
+        var second = lock.holdAsync();
+        var third = lock.holdAsync();
+        
+        second.cancel(false);
+        first.join().close();
+        
+        assertTrue(third.isDone());
+        assertTrue(lock.isLocked());
+        
+        third.join().close();
+        
+        assertFalse(lock.isLocked());
+    }
+    
+    @Test
+    void holdAsync_chained() {
+        int[] count = {0};
+        for (int i = 0; i < 100_000; i++) {
+            lock.holdAsync().thenAccept(mutex -> {
+                count[0]++;
+                mutex.close();
+            });
+        }
+        
+        assertEquals(100_000, count[0]);
+        assertFalse(lock.isLocked());
+    }
+    
+    @Test
+    void holdAsync_concurrent() throws InterruptedException {
+        var pool = Executors.newFixedThreadPool(4);
+        int[] count = {0};
+        var latch = new CountDownLatch(40_000);
+        
+        for (int i = 0; i < 40_000; i++) {
+            pool.execute(() -> lock.holdAsync().thenAccept(mutex -> {
+                count[0]++;
+                mutex.close();
+                latch.countDown();
+            }));
+        }
+        
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertEquals(40_000, count[0]);
+        
+        pool.shutdown();
+    }
+    
+    @Test
+    void tryHold() {
+        var mutex = lock.tryHold();
+        
+        assertNotNull(mutex);
+        assertNull(lock.tryHold());
+        
+        mutex.close();
+        
+        assertFalse(lock.isLocked());
+    }
+    
+    @Test
+    void close_throws_exception() {
+        var mutex = lock.holdAsync().join();
+        mutex.close();
+        
+        assertEquals("Mutex was already closed", assertThrows(IllegalStateException.class, mutex::close).getMessage());
+    }
+    
+    @Test
+    void close_stale() {
+        var stale = lock.holdAsync().join();
+        stale.close();
+        var current = lock.holdAsync().join();
+        
+        assertNotSame(stale, current);
+        assertThrows(IllegalStateException.class, stale::close);
+        assertTrue(lock.isLocked());
+        
+        current.close();
+        
+        assertFalse(lock.isLocked());
+    }
+    
+    @Test
+    void to_string() {
+        assertTrue(lock.toString().endsWith("[Unlocked]"));
+    }
+    
+}
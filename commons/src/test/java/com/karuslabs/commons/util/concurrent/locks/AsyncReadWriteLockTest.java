@@ -0,0 +1,143 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util.concurrent.locks;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncReadWriteLockTest {
+    
+    AsyncReadWriteLock lock = new AsyncReadWriteLock();
+    
+    @Test
+    void readLock() {
+        var first = lock.readLock().holdAsync();
+        var second = lock.readLock().holdAsync();
+        
+        assertTrue(first.isDone());
+        assertTrue(second.isDone());
+        assertEquals(2, lock.getReadLockCount());
+        
+        first.join().close();
+        second.join().close();
+        
+        assertEquals(0, lock.getReadLockCount());
+    }
+    
+    @Test
+    void writeLock() {
+        var first = lock.writeLock().holdAsync();
+        var second = lock.writeLock().holdAsync();
+        
+        assertTrue(first.isDone());
+        assertFalse(second.isDone());
+        assertTrue(lock.isWriteLocked());
+        
+        first.join().close();
+        
+        assertTrue(second.isDone());
+        
+        second.join().close();
+        
+        assertFalse(lock.isWriteLocked());
+    }
+    
+    @Test
+    void fifo() {
+        var reader = lock.readLock().holdAsync();
+        var writer = lock.writeLock().holdAsync();
+        var first = lock.readLock().holdAsync();
+        var second = lock.readLock().holdAsync();
+        
+        assertFalse(writer.isDone());
+        assertFalse(first.isDone());
+        assertEquals(3, lock.getQueueLength());
+        
+        reader.join().close();
+        
+        assertTrue(writer.isDone());
+        assertFalse(first.isDone());
+        
+        writer.join().close();
+        
+        assertTrue(first.isDone());
+        assertTrue(second.isDone());
+        assertEquals(2, lock.getReadLockCount());
+    }
+    
+    @Test
+    void cancelled() {
+        var reader = lock.readLock().holdAsync();
+        var writer = lock.writeLock().holdAsync();
+        var next = lock.readLock().holdAsync();
+        
+        writer.cancel(false);
+        reader.join().close();
+        
+        assertTrue(next.isDone());
+        assertFalse(lock.isWriteLocked());
+        assertEquals(1, lock.getReadLockCount());
+    }
+    
+    @Test
+    void chained() {
+        int[] count = {0};
+        for (int i = 0; i < 100_000; i++) {
+            lock.writeLock().holdAsync().thenAccept(mutex -> {
+                count[0]++;
+                mutex.close();
+            });
+        }
+        
+        assertEquals(100_000, count[0]);
+        assertFalse(lock.isWriteLocked());
+    }
+    
+    @Test
+    void close_throws_exception() {
+        var reader = lock.readLock().holdAsync().join();
+        reader.close();
+        var writer = lock.writeLock().holdAsync().join();
+        writer.close();
+        
+        assertEquals("Mutex was already closed", assertThrows(IllegalStateException.class, reader::close).getMessage());
+        assertEquals("Mutex was already closed", assertThrows(IllegalStateException.class, writer::close).getMessage());
+    }
+    
+    @Test
+    void close_stale() {
+        var stale = lock.readLock().holdAsync().join();
+        stale.close();
+        var current = lock.readLock().holdAsync().join();
+        
+        assertThrows(IllegalStateException.class, stale::close);
+        assertEquals(1, lock.getReadLockCount());
+        
+        current.close();
+        
+        assertEquals(0, lock.getReadLockCount());
+    }
+    
+}
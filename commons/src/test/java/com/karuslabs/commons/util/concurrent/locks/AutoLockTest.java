@@ -25,7 +25,7 @@ package com.karuslabs.commons.util.concurrent.locks;
 
 import org.junit.jupiter.api.Test;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 class AutoLockTest {
@@ -53,4 +53,24 @@ class AutoLockTest {
         assertEquals(0, lock.getHoldCount());
     }
     
+    @Test
+    void hold_metrics() throws InterruptedException {
+        var metrics = new LockMetrics("lock");
+        var lock = new AutoLock(false, metrics);
+        
+        try (var outer = lock.hold(); var inner = lock.holdInterruptibly()) {
+            assertEquals(2, lock.getHoldCount());
+        }
+        
+        assertEquals(0, lock.getHoldCount());
+        assertSame(metrics, lock.metrics());
+        assertEquals(2, metrics.acquisitions());
+        assertEquals(1, metrics.holds().count());
+    }
+    
+    @Test
+    void metrics() {
+        assertNull(lock.metrics());
+    }
+    
 }
@@ -113,6 +113,32 @@ class AutoReadWriteLockTest {
         verify(writer).isHeldByCurrentThread();
     }
     
+    @Test
+    void hold_metrics() throws InterruptedException {
+        var reader = new LockMetrics("reader");
+        var writer = new LockMetrics("writer");
+        var lock = new AutoReadWriteLock(false, reader, writer);
+        
+        try (var outer = lock.readLock().hold(); var inner = lock.readLock().holdInterruptibly()) {
+            assertEquals(2, lock.getReadHoldCount());
+        }
+        
+        try (var outer = lock.writeLock().hold(); var inner = lock.writeLock().holdInterruptibly()) {
+            assertEquals(2, lock.getWriteHoldCount());
+        }
+        
+        assertEquals(0, lock.getReadLockCount());
+        assertFalse(lock.isWriteLocked());
+        
+        assertSame(reader, lock.readLock().metrics());
+        assertEquals(2, reader.acquisitions());
+        assertEquals(1, reader.holds().count());
+        
+        assertSame(writer, lock.writeLock().metrics());
+        assertEquals(2, writer.acquisitions());
+        assertEquals(1, writer.holds().count());
+    }
+    
     @Test
     void acquire() {
         var lock = new AutoReadWriteLock();
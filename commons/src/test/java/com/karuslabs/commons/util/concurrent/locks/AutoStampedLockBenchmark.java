@@ -0,0 +1,78 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util.concurrent.locks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.*;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the read throughput of an {@code AutoStampedLock} against an {@code AutoReadWriteLock} 
+ * under a read-mostly workload. Run via {@link #main(String[])} to benchmark 1 
+ * to 32 reader threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AutoStampedLockBenchmark {
+    
+    static final int[] THREADS = {1, 2, 4, 8, 16, 32};
+    
+    public static void main(String[] args) throws RunnerException {
+        for (var threads : THREADS) {
+            new Runner(new OptionsBuilder().include(AutoStampedLockBenchmark.class.getSimpleName()).threads(threads).build()).run();
+        }
+    }
+    
+    
+    AutoReadWriteLock readwrite = new AutoReadWriteLock();
+    AutoStampedLock stamped = new AutoStampedLock();
+    long x = 1;
+    long y = 2;
+    
+    @Benchmark
+    public long readwrite_read() {
+        try (var mutex = readwrite.readLock().hold()) {
+            return x + y;
+        }
+    }
+    
+    @Benchmark
+    public long stamped_read() {
+        try (var mutex = stamped.holdRead()) {
+            return x + y;
+        }
+    }
+    
+    @Benchmark
+    public long stamped_optimistic() {
+        return stamped.optimistic(() -> x + y);
+    }
+    
+}
@@ -0,0 +1,128 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util.concurrent.locks;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AutoStampedLockTest {
+    
+    AutoStampedLock lock = new AutoStampedLock();
+    long value = 1;
+    
+    @Test
+    void hold() {
+        try (var mutex = lock.hold()) {
+            assertTrue(lock.isWriteLocked());
+        }
+        
+        assertFalse(lock.isWriteLocked());
+    }
+    
+    @Test
+    void holdInterruptibly() throws InterruptedException {
+        try (var mutex = lock.holdInterruptibly()) {
+            assertTrue(lock.isWriteLocked());
+        }
+        
+        assertFalse(lock.isWriteLocked());
+    }
+    
+    @Test
+    void holdRead() {
+        try (var first = lock.holdRead(); var second = lock.holdRead()) {
+            assertEquals(2, lock.getReadLockCount());
+        }
+        
+        assertFalse(lock.isReadLocked());
+    }
+    
+    @Test
+    void holdReadInterruptibly() throws InterruptedException {
+        try (var mutex = lock.holdReadInterruptibly()) {
+            assertTrue(lock.isReadLocked());
+        }
+        
+        assertFalse(lock.isReadLocked());
+    }
+    
+    @Test
+    void optimistic() {
+        assertEquals("value", lock.optimistic(() -> "value"));
+        assertEquals(1, lock.optimistic(() -> value));
+        assertFalse(lock.isReadLocked());
+    }
+    
+    @Test
+    void optimistic_invalidated() {
+        assertEquals("2", lock.optimistic(() -> {
+            if (!lock.isReadLocked()) {
+                try (var mutex = lock.hold()) {
+                    value = 2;
+                }
+            }
+            return String.valueOf(value);
+        }));
+    }
+    
+    @Test
+    void optimistic_long_invalidated() {
+        assertEquals(2, lock.optimistic(() -> {
+            if (!lock.isReadLocked()) {
+                try (var mutex = lock.hold()) {
+                    value = 2;
+                }
+            }
+            return value;
+        }));
+    }
+    
+    @Test
+    void upgrade() {
+        assertTrue(lock.upgrade(() -> value == 1, () -> value = 2));
+        assertEquals(2, value);
+        
+        assertFalse(lock.upgrade(() -> value == 1, () -> value = 3));
+        assertEquals(2, value);
+        
+        assertFalse(lock.isReadLocked());
+        assertFalse(lock.isWriteLocked());
+    }
+    
+    @Test
+    void upgrade_contended() throws InterruptedException {
+        Thread thread;
+        try (var mutex = lock.holdRead()) {
+            thread = new Thread(() -> lock.upgrade(() -> value == 1, () -> value = 2));
+            thread.start();
+        }
+        
+        thread.join();
+        
+        assertEquals(2, value);
+        assertFalse(lock.isWriteLocked());
+    }
+    
+}
@@ -0,0 +1,78 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util.concurrent.locks;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LockMetricsTest {
+    
+    LockMetrics metrics = new LockMetrics("lock");
+    
+    @Test
+    void acquiring() {
+        metrics.acquiring(3);
+        metrics.acquiring(1);
+        
+        assertEquals(3, metrics.maxQueue());
+    }
+    
+    @Test
+    void acquired() {
+        long started = System.nanoTime() - 100;
+        
+        assertTrue(metrics.acquired(started) - started >= 100);
+        assertEquals(1, metrics.acquisitions());
+        assertTrue(metrics.waits().max() >= 100);
+    }
+    
+    @Test
+    void released() {
+        metrics.released(System.nanoTime() - 100);
+        
+        assertEquals(1, metrics.holds().count());
+        assertTrue(metrics.holds().max() >= 100);
+    }
+    
+    @Test
+    void reset() {
+        metrics.acquiring(2);
+        metrics.acquired(System.nanoTime());
+        metrics.released(System.nanoTime());
+        
+        metrics.reset();
+        
+        assertEquals(0, metrics.maxQueue());
+        assertEquals(0, metrics.acquisitions());
+        assertEquals(0, metrics.holds().count());
+    }
+    
+    @Test
+    void name() {
+        assertEquals("lock", metrics.name());
+        assertEquals("LockMetrics[lock]", metrics.toString());
+    }
+    
+}
@@ -0,0 +1,109 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util.concurrent.locks;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StripedLocksTest {
+    
+    StripedLocks<AutoLock> locks = StripedLocks.locks(16);
+    StripedLocks<AutoReadWriteLock> readwrite = StripedLocks.readwrite(16);
+    
+    @ParameterizedTest
+    @CsvSource({"1, 1", "2, 2", "3, 4", "16, 16", "17, 32"})
+    void size(int stripes, int expected) {
+        assertEquals(expected, StripedLocks.locks(stripes).size());
+    }
+    
+    @Test
+    void constructor_throws_exception() {
+        assertEquals(
+            "Number of stripes should be between 1 and 2^30, but was 0",
+            assertThrows(IllegalArgumentException.class, () -> StripedLocks.locks(0)).getMessage()
+        );
+    }
+    
+    @Test
+    void get() {
+        assertSame(locks.get("key"), locks.get("key"));
+        assertSame(readwrite.get("key"), readwrite.get("key"));
+    }
+    
+    @Test
+    void hold() {
+        try (var mutex = locks.hold("key")) {
+            assertTrue(locks.get("key").isHeldByCurrentThread());
+        }
+        
+        assertFalse(locks.get("key").isLocked());
+    }
+    
+    @Test
+    void hold_readwrite() {
+        try (var mutex = readwrite.hold("key")) {
+            assertTrue(readwrite.get("key").isWriteLockedByCurrentThread());
+        }
+        
+        assertFalse(readwrite.get("key").isWriteLocked());
+    }
+    
+    @Test
+    void hold_keys() {
+        try (var mutex = locks.hold("a", "b", "a")) {
+            assertTrue(locks.get("a").isHeldByCurrentThread());
+            assertTrue(locks.get("b").isHeldByCurrentThread());
+            assertEquals(1, locks.get("a").getHoldCount());
+        }
+        
+        assertFalse(locks.get("a").isLocked());
+        assertFalse(locks.get("b").isLocked());
+    }
+    
+    @Test
+    void hold_keys_ordered() throws InterruptedException {
+        var first = new Thread(() -> {
+            for (int i = 0; i < 1000; i++) {
+                try (var mutex = locks.hold("a", "b")) {}
+            }
+        });
+        var second = new Thread(() -> {
+            for (int i = 0; i < 1000; i++) {
+                try (var mutex = locks.hold("b", "a")) {}
+            }
+        });
+        
+        first.start();
+        second.start();
+        first.join(10000);
+        second.join(10000);
+        
+        assertFalse(first.isAlive());
+        assertFalse(second.isAlive());
+    }
+    
+}
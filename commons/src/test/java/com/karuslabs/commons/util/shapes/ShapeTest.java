@@ -0,0 +1,94 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util.shapes;
+
+import com.karuslabs.commons.util.*;
+
+import org.bukkit.util.Vector;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShapeTest {
+    
+    static final double EPSILON = 0.000001;
+    
+    Shape shape = new Shape(new double[] {1, 2}, new double[] {3, 4}, new double[] {5, 6});
+    double[] xs = new double[3];
+    double[] ys = new double[3];
+    double[] zs = new double[3];
+    
+    
+    @Test
+    void copy() {
+        shape.copy(xs, ys, zs, 1);
+        
+        assertArrayEquals(new double[] {0, 1, 2}, xs);
+        assertArrayEquals(new double[] {0, 3, 4}, ys);
+        assertArrayEquals(new double[] {0, 5, 6}, zs);
+    }
+    
+    @Test
+    void copy_throws_exception() {
+        assertThrows(IndexOutOfBoundsException.class, () -> shape.copy(xs, ys, zs, 2));
+    }
+    
+    
+    @Test
+    void transform_location() {
+        var origin = new Point(null, 10, 20, 30, 37.5F, -12.25F);
+        
+        shape.transform(origin, 2, xs, ys, zs, 0);
+        
+        for (int i = 0; i < shape.size(); i++) {
+            var expected = Vectors.rotate(new Vector(shape.x(i) * 2, shape.y(i) * 2, shape.z(i) * 2), origin).add(new Vector(10, 20, 30));
+            
+            assertEquals(expected.getX(), xs[i], EPSILON);
+            assertEquals(expected.getY(), ys[i], EPSILON);
+            assertEquals(expected.getZ(), zs[i], EPSILON);
+        }
+    }
+    
+    @Test
+    void transform_identity() {
+        shape.transform(Rotation.IDENTITY, 1, 1, 1, 1, xs, ys, zs, 1);
+        
+        assertArrayEquals(new double[] {0, 2, 3}, xs);
+        assertArrayEquals(new double[] {0, 4, 5}, ys);
+        assertArrayEquals(new double[] {0, 6, 7}, zs);
+    }
+    
+    @Test
+    void transform_throws_exception() {
+        assertThrows(IndexOutOfBoundsException.class, () -> shape.transform(Rotation.IDENTITY, 1, 0, 0, 0, xs, ys, new double[1], 0));
+    }
+    
+    
+    @Test
+    void size() {
+        assertEquals(2, shape.size());
+    }
+    
+}
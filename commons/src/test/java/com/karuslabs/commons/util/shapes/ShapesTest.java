@@ -0,0 +1,130 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2021 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.commons.util.shapes;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShapesTest {
+    
+    static final double EPSILON = 0.000001;
+    
+    
+    @Test
+    void circle() {
+        var circle = Shapes.circle(4);
+        
+        assertEquals(4, circle.size());
+        assertEquals(1, circle.x(0), EPSILON);
+        assertEquals(0, circle.z(0), EPSILON);
+        assertEquals(0, circle.x(1), EPSILON);
+        assertEquals(1, circle.z(1), EPSILON);
+        
+        for (int i = 0; i < circle.size(); i++) {
+            assertEquals(0, circle.y(i));
+        }
+    }
+    
+    @Test
+    void circle_cached() {
+        assertSame(Shapes.circle(200), Shapes.circle(200));
+    }
+    
+    
+    @Test
+    void helix() {
+        var helix = Shapes.helix(9, 2);
+        
+        assertEquals(9, helix.size());
+        assertEquals(0, helix.y(0), EPSILON);
+        assertEquals(1, helix.y(8), EPSILON);
+        assertEquals(1, helix.x(4), EPSILON);
+        assertEquals(0.5, helix.y(4), EPSILON);
+    }
+    
+    @Test
+    void helix_cached() {
+        assertSame(Shapes.helix(200, 3), Shapes.helix(200, 3));
+        assertNotSame(Shapes.helix(200, 3), Shapes.helix(200, 4));
+    }
+    
+    @Test
+    void helix_throws_exception() {
+        assertEquals(
+            "Turns should be positive, but was 0",
+            assertThrows(IllegalArgumentException.class, () -> Shapes.helix(10, 0)).getMessage()
+        );
+    }
+    
+    
+    @Test
+    void sphere() {
+        var sphere = Shapes.sphere(100);
+        
+        assertEquals(100, sphere.size());
+        for (int i = 0; i < sphere.size(); i++) {
+            var x = sphere.x(i);
+            var y = sphere.y(i);
+            var z = sphere.z(i);
+            
+            assertEquals(1, x * x + y * y + z * z, EPSILON);
+        }
+    }
+    
+    @Test
+    void sphere_cached() {
+        assertSame(Shapes.sphere(200), Shapes.sphere(200));
+    }
+    
+    
+    @Test
+    void line() {
+        var line = Shapes.line(3);
+        
+        assertEquals(0, line.x(0), EPSILON);
+        assertEquals(0.5, line.x(1), EPSILON);
+        assertEquals(1, line.x(2), EPSILON);
+    }
+    
+    @Test
+    void line_single() {
+        assertEquals(0, Shapes.line(1).x(0));
+    }
+    
+    @Test
+    void line_cached() {
+        assertSame(Shapes.line(200), Shapes.line(200));
+    }
+    
+    
+    @Test
+    void check() {
+        assertEquals(
+            "Points should be positive, but was 0",
+            assertThrows(IllegalArgumentException.class, () -> Shapes.circle(0)).getMessage()
+        );
+    }
+    
+}